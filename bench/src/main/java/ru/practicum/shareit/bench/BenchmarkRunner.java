@@ -0,0 +1,32 @@
+package ru.practicum.shareit.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler, so that every result carries its allocation rate
+ * ({@code gc.alloc.rate.norm} is bytes per operation), and writes them to {@code jmh-result.json} for
+ * comparison between builds. Takes the usual JMH options:
+ * <pre>
+ * mvn -pl bench -am package -DskipTests
+ * java -jar bench/target/benchmarks.jar                      # everything
+ * java -jar bench/target/benchmarks.jar Mapper -p pageSize=100 -rff before.json
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions options = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(options).addProfiler(GCProfiler.class);
+        if (!options.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        new Runner(builder.build()).run();
+    }
+}
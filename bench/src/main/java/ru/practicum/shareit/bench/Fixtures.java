@@ -0,0 +1,86 @@
+package ru.practicum.shareit.bench;
+
+import lombok.experimental.UtilityClass;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.comment.dto.CommentDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Entity pages shaped like the ones the server maps on its hot paths.
+ */
+@UtilityClass
+class Fixtures {
+    static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 10, 0);
+    static final int COMMENTS_PER_ITEM = 3;
+    static final int ITEMS_PER_REQUEST = 5;
+
+    List<Item> items(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> Item.builder()
+                        .id(id)
+                        .name("Cordless drill " + id)
+                        .description("Cordless drill, like new, with spare batteries")
+                        .available(true)
+                        .owner(user(id % 10 + 1))
+                        .request(id % 5 == 0 ? ItemRequest.builder().id(id / 5).build() : null)
+                        .build())
+                .toList();
+    }
+
+    List<CommentDto> comments(long itemId) {
+        return LongStream.rangeClosed(1, COMMENTS_PER_ITEM)
+                .mapToObj(id -> CommentDto.builder()
+                        .id(itemId * COMMENTS_PER_ITEM + id)
+                        .itemId(itemId)
+                        .authorName("User " + id)
+                        .text("Worked perfectly, thanks!")
+                        .created(START.minusDays(id))
+                        .build())
+                .toList();
+    }
+
+    List<Booking> bookings(int count) {
+        List<Item> items = items(count);
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bookings.add(Booking.builder()
+                    .id(i + 1L)
+                    .start(START.plusDays(i))
+                    .end(START.plusDays(i + 1))
+                    .item(items.get(i))
+                    .booker(user(100 + i))
+                    .status(BookingStatus.APPROVED)
+                    .build());
+        }
+        return bookings;
+    }
+
+    List<ItemRequest> requests(int count) {
+        List<Item> items = items(count * ITEMS_PER_REQUEST);
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> ItemRequest.builder()
+                        .id(id)
+                        .description("Looking for a cordless drill for home repairs")
+                        .requester(user(id))
+                        .created(START.minusHours(id))
+                        .items(items.subList((int) (id - 1) * ITEMS_PER_REQUEST, (int) id * ITEMS_PER_REQUEST))
+                        .build())
+                .toList();
+    }
+
+    private User user(long id) {
+        return User.builder()
+                .id(id)
+                .name("User " + id)
+                .email("user" + id + "@shareit.test")
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package ru.practicum.shareit.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.comment.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.model.ItemRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps a page of entities to the DTOs the server responds with, one page per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private List<Item> items;
+    private List<List<CommentDto>> comments;
+    private List<Booking> bookings;
+    private List<ItemRequest> requests;
+
+    @Setup
+    public void setUp() {
+        items = Fixtures.items(pageSize);
+        comments = items.stream().map(item -> Fixtures.comments(item.getId())).toList();
+        bookings = Fixtures.bookings(pageSize);
+        requests = Fixtures.requests(pageSize);
+    }
+
+    @Benchmark
+    public List<ItemDto> mapToItemDto() {
+        List<ItemDto> page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            page.add(ItemMapper.mapToItemDto(items.get(i), comments.get(i), Fixtures.START.minusDays(1),
+                    Fixtures.START.plusDays(1)));
+        }
+        return page;
+    }
+
+    @Benchmark
+    public List<BookingDto> mapToBookingDto() {
+        List<BookingDto> page = new ArrayList<>(pageSize);
+        for (Booking booking : bookings) {
+            page.add(BookingMapper.mapToBookingDto(booking));
+        }
+        return page;
+    }
+
+    @Benchmark
+    public List<ItemRequestDto> mapToItemRequestDto() {
+        List<ItemRequestDto> page = new ArrayList<>(pageSize);
+        for (ItemRequest request : requests) {
+            page.add(ItemRequestMapper.mapToItemRequestDto(request));
+        }
+        return page;
+    }
+}
@@ -0,0 +1,101 @@
+package ru.practicum.shareit.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.datagen.BulkLoader;
+import ru.practicum.shareit.datagen.DatasetSpec;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the first page of the busiest owner's items and bookings through the server's services, against an
+ * in-memory H2 database migrated by Flyway and filled by the data generator. The dataset scales with
+ * {@code bookings}, keeping the proportions of the other tables, e.g. {@code -p bookings=1000000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"200000"})
+    private long bookings;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+    private BookingService bookingService;
+    private long itemOwner;
+    private long bookingOwner;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.datasource.username=shareit",
+                        "--spring.datasource.password=shareit",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.orm.jpa=WARN",
+                        "--logging.level.org.springframework.transaction=WARN",
+                        "--logging.level.org.springframework.transaction.interceptor=WARN",
+                        "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN");
+
+        int items = (int) (bookings / 10);
+        int users = items / 2;
+        try (Connection connection = context.getBean(DataSource.class).getConnection()) {
+            new BulkLoader(connection).load(DatasetSpec.of(users, users / 5, items, bookings, bookings / 10));
+        }
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        itemOwner = jdbcTemplate.queryForObject(
+                "SELECT owner_id FROM items GROUP BY owner_id ORDER BY COUNT(*) DESC LIMIT 1", Long.class);
+        bookingOwner = jdbcTemplate.queryForObject("SELECT i.owner_id FROM bookings b JOIN items i ON i.id = b.item_id "
+                + "GROUP BY i.owner_id ORDER BY COUNT(*) DESC LIMIT 1", Long.class);
+        itemService = context.getBean(ItemService.class);
+        bookingService = context.getBean(BookingService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ItemDto> getAllItemsByUser() {
+        return itemService.getAllItemsByUser(itemOwner, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<BookingShortDto> getBookingOwner() {
+        return bookingService.getBookingOwner("ALL", bookingOwner, null, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,43 @@
+package ru.practicum.shareit.datagen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+
+/**
+ * Writes rows with batched INSERT statements, for databases without COPY such as H2.
+ */
+class BatchInsertWriter implements RowWriter {
+    private final PreparedStatement statement;
+    private final int batchSize;
+    private int pending;
+
+    BatchInsertWriter(Connection connection, Table table, int batchSize) throws SQLException {
+        this.statement = connection.prepareStatement("INSERT INTO " + table.tableName()
+                + " (" + table.columnList() + ") VALUES ("
+                + String.join(", ", Collections.nCopies(table.columns().size(), "?")) + ")");
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void row(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            statement.setObject(i + 1, values[i]);
+        }
+        statement.addBatch();
+        if (++pending == batchSize) {
+            statement.executeBatch();
+            pending = 0;
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try (statement) {
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package ru.practicum.shareit.datagen;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Loads a generated dataset over plain JDBC, with COPY on PostgreSQL and batched inserts on other databases.
+ * <p>
+ * The tables must already exist, as the server's migrations create them, and may hold rows: generated ids
+ * continue after the highest id of each table. Rows are written in whatever transaction mode the connection
+ * is in. Afterwards the identity columns are moved past the loaded ids, so that the server keeps inserting
+ * without collisions, and on PostgreSQL the tables are analyzed so that the planner sees the new volumes.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BulkLoader {
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+    private static final long PROGRESS_ROWS = 1_000_000;
+
+    private final Connection connection;
+    private final int batchSize;
+
+    public BulkLoader(Connection connection) {
+        this(connection, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Generates and loads the dataset.
+     *
+     * @return number of rows loaded into each table
+     */
+    public Map<Table, Long> load(DatasetSpec spec) throws SQLException {
+        boolean postgres = connection.isWrapperFor(PGConnection.class);
+        Map<Table, Long> rows = new EnumMap<>(Table.class);
+        new DatasetGenerator(spec, offsets())
+                .generate(table -> new CountingWriter(table, open(table, postgres), rows));
+
+        try (Statement statement = connection.createStatement()) {
+            for (Table table : Table.values()) {
+                String name = table.tableName();
+                if (postgres) {
+                    statement.execute("SELECT setval(pg_get_serial_sequence('" + name + "', 'id'), MAX(id)) FROM "
+                            + name);
+                    statement.execute("ANALYZE " + name);
+                } else {
+                    statement.execute("ALTER TABLE " + name + " ALTER COLUMN id RESTART WITH "
+                            + (maxId(statement, table) + 1));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private RowWriter open(Table table, boolean postgres) throws SQLException {
+        return postgres
+                ? new CopyWriter(connection.unwrap(PGConnection.class).getCopyAPI(), table)
+                : new BatchInsertWriter(connection, table, batchSize);
+    }
+
+    private IdOffsets offsets() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            return new IdOffsets(maxId(statement, Table.USERS), maxId(statement, Table.REQUESTS),
+                    maxId(statement, Table.ITEMS), maxId(statement, Table.BOOKINGS), maxId(statement, Table.COMMENTS));
+        }
+    }
+
+    private static long maxId(Statement statement, Table table) throws SQLException {
+        try (ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table.tableName())) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private static final class CountingWriter implements RowWriter {
+        private final Table table;
+        private final RowWriter writer;
+        private final Map<Table, Long> rows;
+        private final long startedAt = System.nanoTime();
+        private long count;
+
+        private CountingWriter(Table table, RowWriter writer, Map<Table, Long> rows) {
+            this.table = table;
+            this.writer = writer;
+            this.rows = rows;
+        }
+
+        @Override
+        public void row(Object... values) throws SQLException {
+            writer.row(values);
+            if (++count % PROGRESS_ROWS == 0) {
+                log.info("{}: {} rows loaded", table.tableName(), count);
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            writer.close();
+            rows.put(table, count);
+            long millis = (System.nanoTime() - startedAt) / 1_000_000;
+            log.info("{}: {} rows loaded in {} ms", table.tableName(), count, millis);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package ru.practicum.shareit.datagen;
+
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Streams rows into PostgreSQL with {@code COPY ... FROM STDIN} in CSV format, which loads several times
+ * faster than batched inserts.
+ */
+class CopyWriter implements RowWriter {
+    private static final int FLUSH_CHARS = 1 << 16;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final CopyIn copy;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 1024);
+
+    CopyWriter(CopyManager copyManager, Table table) throws SQLException {
+        this.copy = copyManager.copyIn("COPY " + table.tableName() + " (" + table.columnList()
+                + ") FROM STDIN WITH (FORMAT csv)");
+    }
+
+    @Override
+    public void row(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            append(values[i]);
+        }
+        buffer.append('\n');
+        if (buffer.length() >= FLUSH_CHARS) {
+            flush();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (!copy.isActive()) {
+            return;
+        }
+        try {
+            flush();
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    private void append(Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof String text) {
+            buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+        } else if (value instanceof LocalDateTime timestamp) {
+            TIMESTAMP.formatTo(timestamp, buffer);
+        } else {
+            buffer.append(value);
+        }
+    }
+
+    private void flush() throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.datagen;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Loads a synthetic dataset into a database the server has already migrated, by default the local
+ * PostgreSQL from {@code docker-compose.yaml}:
+ * <pre>
+ * mvn -pl datagen -am package -DskipTests
+ * java -jar datagen/target/shareit-datagen-0.0.1-SNAPSHOT-exec.jar \
+ *     --users=1000000 --requests=200000 --items=5000000 --bookings=50000000 --comments=5000000
+ * </pre>
+ * Further options are {@code --url}, {@code --user}, {@code --password}, {@code --seed},
+ * {@code --history-days}, {@code --horizon-days} and {@code --batch-size}. Restart the server after a load,
+ * so that its in-memory search index and caches pick up the new rows.
+ */
+@Slf4j
+public class DataGenerator {
+
+    public static void main(String[] args) throws SQLException {
+        Map<String, String> options = options(args);
+        int batchSize = (int) longOption(options, "batch-size", BulkLoader.DEFAULT_BATCH_SIZE);
+
+        long startedAt = System.nanoTime();
+        try (Connection connection = connect(options)) {
+            Map<Table, Long> rows = new BulkLoader(connection, batchSize).load(spec(options));
+            log.info("Loaded {} in {} s", rows, (System.nanoTime() - startedAt) / 1_000_000_000);
+        }
+    }
+
+    /**
+     * Parses {@code --name=value} arguments.
+     */
+    public static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    /**
+     * Dataset described by the volume, seed and time frame options, with defaults for the ones not given.
+     */
+    public static DatasetSpec spec(Map<String, String> options) {
+        return new DatasetSpec(
+                longOption(options, "seed", DatasetSpec.DEFAULT_SEED),
+                (int) longOption(options, "users", 10_000),
+                (int) longOption(options, "requests", 2_000),
+                (int) longOption(options, "items", 50_000),
+                longOption(options, "bookings", 500_000),
+                longOption(options, "comments", 50_000),
+                LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS),
+                (int) longOption(options, "history-days", DatasetSpec.DEFAULT_HISTORY_DAYS),
+                (int) longOption(options, "horizon-days", DatasetSpec.DEFAULT_HORIZON_DAYS));
+    }
+
+    /**
+     * Connects to the database of the {@code url}, {@code user} and {@code password} options.
+     */
+    public static Connection connect(Map<String, String> options) throws SQLException {
+        return DriverManager.getConnection(
+                options.getOrDefault("url", "jdbc:postgresql://localhost:5435/shareit"),
+                options.getOrDefault("user", "dbuser"),
+                options.getOrDefault("password", "12345"));
+    }
+
+    public static long longOption(Map<String, String> options, String name, long defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+}
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.datagen;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws ids and words from a dataset loaded into empty tables, for clients that drive the server with
+ * requests about that dataset. Draws are skewed the way the generator skews the data itself, so that owner
+ * views hit users who own items.
+ */
+public class DatasetCatalog {
+    private final DatasetSpec spec;
+
+    public DatasetCatalog(DatasetSpec spec) {
+        if (spec.users() == 0 || spec.items() == 0) {
+            throw new IllegalArgumentException("A catalog needs users and items");
+        }
+        this.spec = spec;
+    }
+
+    public long user(RandomGenerator random) {
+        return 1 + random.nextInt(spec.users());
+    }
+
+    public long owner(RandomGenerator random) {
+        return 1 + DatasetGenerator.ownerIndex(spec.users(), random.nextDouble());
+    }
+
+    public long item(RandomGenerator random) {
+        return 1 + random.nextInt(spec.items());
+    }
+
+    /**
+     * Id of a request, or {@code null} if the dataset has none.
+     */
+    public Long request(RandomGenerator random) {
+        return spec.requests() == 0 ? null : 1L + random.nextInt(spec.requests());
+    }
+
+    public String searchTerm(RandomGenerator random) {
+        return Vocabulary.searchTerm(random);
+    }
+
+    public String itemName(RandomGenerator random) {
+        return Vocabulary.itemName(random);
+    }
+
+    public String itemDescription(RandomGenerator random, String name) {
+        return Vocabulary.itemDescription(random, name);
+    }
+
+    public String requestDescription(RandomGenerator random) {
+        return Vocabulary.requestDescription(random);
+    }
+}
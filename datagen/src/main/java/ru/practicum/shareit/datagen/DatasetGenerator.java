@@ -0,0 +1,256 @@
+package ru.practicum.shareit.datagen;
+
+import lombok.RequiredArgsConstructor;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * Generates the dataset a {@link DatasetSpec} describes and streams it table by table into a {@link RowTarget}.
+ * Nothing but the number of bookings per item is kept in memory, so tens of millions of bookings generate
+ * in a small heap.
+ * <ul>
+ *     <li>Item ownership is skewed: a few users own many items and most users own none.</li>
+ *     <li>Demand per item follows a capped Pareto distribution, so a small share of items carries most
+ *     bookings.</li>
+ *     <li>Requests and bookings follow the activity of a {@link Timeline}. The bookings of an item never
+ *     overlap, so the dataset satisfies the overlap constraint PostgreSQL puts on bookings.</li>
+ *     <li>Past bookings are mostly approved, future ones often still waiting.</li>
+ *     <li>Comments are written by bookers of past approved bookings within three days after the booking
+ *     ends, since the server only takes comments from bookers whose approved booking is over.</li>
+ * </ul>
+ * Every item draws its owner and its bookings from its own seeded random stream, so the bookings can be
+ * generated a second time to pick the comments without keeping them.
+ */
+@RequiredArgsConstructor
+public class DatasetGenerator {
+    private static final int OWNER_STREAM = 5;
+    private static final int DEMAND_STREAM = 6;
+    private static final double OWNER_SKEW = 3;
+    private static final double DEMAND_SHAPE = 1.5;
+    private static final double DEMAND_CAP = 100;
+    private static final double AVAILABLE_SHARE = 0.9;
+    private static final double ANSWERING_SHARE = 0.2;
+    private static final double MEDIAN_BOOKING_SECONDS = 2 * 86_400;
+    private static final double BOOKING_DURATION_SIGMA = 0.9;
+    private static final long MIN_BOOKING_SECONDS = 3_600;
+    private static final long COMMENT_DELAY_SECONDS = 3 * 86_400;
+
+    private final DatasetSpec spec;
+    private final IdOffsets offsets;
+
+    public void generate(RowTarget target) throws SQLException {
+        writeUsers(target);
+        writeRequests(target);
+        writeItems(target);
+        int[] demand = bookingsPerItem();
+        long pastApproved = writeBookings(target, demand);
+        writeComments(target, demand, pastApproved);
+    }
+
+    private void writeUsers(RowTarget target) throws SQLException {
+        SplittableRandom random = random(Table.USERS.ordinal(), 0);
+        try (RowWriter writer = target.open(Table.USERS)) {
+            for (int user = 0; user < spec.users(); user++) {
+                long id = userId(user);
+                writer.row(id, Vocabulary.userName(random), "user" + id + "@shareit.test");
+            }
+        }
+    }
+
+    private void writeRequests(RowTarget target) throws SQLException {
+        SplittableRandom random = random(Table.REQUESTS.ordinal(), 0);
+        Timeline timeline = timeline();
+        try (RowWriter writer = target.open(Table.REQUESTS)) {
+            for (int request = 0; request < spec.requests(); request++) {
+                long created = (long) timeline.at(random.nextDouble() * timeline.historyShare());
+                writer.row(offsets.requests() + 1 + request, Vocabulary.requestDescription(random),
+                        userId(random.nextInt(spec.users())), at(created));
+            }
+        }
+    }
+
+    private void writeItems(RowTarget target) throws SQLException {
+        SplittableRandom random = random(Table.ITEMS.ordinal(), 0);
+        try (RowWriter writer = target.open(Table.ITEMS)) {
+            for (int item = 0; item < spec.items(); item++) {
+                String name = Vocabulary.itemName(random);
+                Long requestId = spec.requests() > 0 && random.nextDouble() < ANSWERING_SHARE
+                        ? offsets.requests() + 1 + random.nextInt(spec.requests())
+                        : null;
+                writer.row(offsets.items() + 1 + item, name, Vocabulary.itemDescription(random, name),
+                        random.nextDouble() < AVAILABLE_SHARE, requestId, userId(owner(item)));
+            }
+        }
+    }
+
+    private long writeBookings(RowTarget target, int[] demand) throws SQLException {
+        long[] pastApproved = {0};
+        try (RowWriter writer = target.open(Table.BOOKINGS)) {
+            forEachBooking(demand, (id, item, start, end, booker, status) -> {
+                if (isPastApproved(end, status)) {
+                    pastApproved[0]++;
+                }
+                writer.row(id, at(start), at(end), offsets.items() + 1 + item, userId(booker), status);
+            });
+        }
+        return pastApproved[0];
+    }
+
+    private void writeComments(RowTarget target, int[] demand, long pastApproved) throws SQLException {
+        try (RowWriter writer = target.open(Table.COMMENTS)) {
+            if (spec.comments() > 0 && pastApproved > 0) {
+                forEachBooking(demand, new CommentSampler(writer, pastApproved));
+            }
+        }
+    }
+
+    /**
+     * Spreads the bookings over the items by demand, giving no item more than the spec allows.
+     */
+    int[] bookingsPerItem() {
+        int[] counts = new int[spec.items()];
+        if (spec.bookings() == 0) {
+            return counts;
+        }
+        SplittableRandom random = random(DEMAND_STREAM, 0);
+        float[] weights = new float[spec.items()];
+        double total = 0;
+        for (int item = 0; item < weights.length; item++) {
+            weights[item] = (float) Math.min(DEMAND_CAP, Math.pow(1 - random.nextDouble(), -1 / DEMAND_SHAPE));
+            total += weights[item];
+        }
+
+        int max = spec.maxBookingsPerItem();
+        long assigned = 0;
+        for (int item = 0; item < counts.length; item++) {
+            counts[item] = (int) Math.min(max, (long) (spec.bookings() * (weights[item] / total)));
+            assigned += counts[item];
+        }
+        for (int item = 0; assigned < spec.bookings(); item = (item + 1) % counts.length) {
+            if (counts[item] < max) {
+                counts[item]++;
+                assigned++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Generates the bookings of every item in id order. Each booking falls into its own slot of the item's
+     * time frame, slots being as wide as the activity at that time allows, so bookings of an item never overlap.
+     */
+    private void forEachBooking(int[] demand, BookingVisitor visitor) throws SQLException {
+        Timeline timeline = timeline();
+        long id = offsets.bookings();
+        for (int item = 0; item < demand.length; item++) {
+            int count = demand[item];
+            if (count == 0) {
+                continue;
+            }
+            SplittableRandom random = random(Table.BOOKINGS.ordinal(), item);
+            int owner = owner(item);
+            long slotStart = 0;
+            for (int booking = 1; booking <= count; booking++) {
+                long slotEnd = (long) timeline.at((double) booking / count);
+                long slot = slotEnd - slotStart;
+                long duration = Math.min(duration(random), slot * 4 / 5);
+                long start = slotStart + random.nextLong(slot - duration + 1);
+                int booker = random.nextInt(spec.users() - 1);
+                if (booker >= owner) {
+                    booker++;
+                }
+                visitor.visit(++id, item, start, start + duration, booker, status(random, start, start + duration));
+                slotStart = slotEnd;
+            }
+        }
+    }
+
+    private long duration(SplittableRandom random) {
+        double seconds = MEDIAN_BOOKING_SECONDS * Math.exp(BOOKING_DURATION_SIGMA * random.nextGaussian());
+        return Math.max(MIN_BOOKING_SECONDS, (long) seconds);
+    }
+
+    private String status(SplittableRandom random, long start, long end) {
+        double roll = random.nextDouble();
+        long now = spec.historySeconds();
+        if (end <= now) {
+            return roll < 0.8 ? "APPROVED" : roll < 0.9 ? "REJECTED" : "CANCELED";
+        }
+        if (start <= now) {
+            return "APPROVED";
+        }
+        return roll < 0.4 ? "WAITING" : roll < 0.9 ? "APPROVED" : roll < 0.95 ? "REJECTED" : "CANCELED";
+    }
+
+    private boolean isPastApproved(long end, String status) {
+        return end <= spec.historySeconds() && "APPROVED".equals(status);
+    }
+
+    /**
+     * Index of the item's owner, skewed towards the first users.
+     */
+    private int owner(int item) {
+        return ownerIndex(spec.users(), random(OWNER_STREAM, item).nextDouble());
+    }
+
+    /**
+     * Maps a uniform draw to a user index skewed the way item ownership is.
+     */
+    static int ownerIndex(int users, double uniform) {
+        return (int) (users * Math.pow(uniform, OWNER_SKEW));
+    }
+
+    private long userId(int user) {
+        return offsets.users() + 1 + user;
+    }
+
+    private LocalDateTime at(long seconds) {
+        return spec.origin().plusSeconds(seconds);
+    }
+
+    private Timeline timeline() {
+        return new Timeline(spec.historySeconds(), spec.spanSeconds() - spec.historySeconds());
+    }
+
+    private SplittableRandom random(int stream, long index) {
+        return new SplittableRandom((spec.seed() * 31 + stream) << 40 ^ index);
+    }
+
+    @FunctionalInterface
+    private interface BookingVisitor {
+        void visit(long id, int item, long start, long end, int booker, String status) throws SQLException;
+    }
+
+    /**
+     * Picks exactly the requested number of comments, or one per past approved booking if there are fewer,
+     * uniformly from the past approved bookings in a single pass.
+     */
+    private final class CommentSampler implements BookingVisitor {
+        private final RowWriter writer;
+        private final SplittableRandom random = random(Table.COMMENTS.ordinal(), 0);
+        private long candidates;
+        private long wanted;
+        private long id = offsets.comments();
+
+        private CommentSampler(RowWriter writer, long pastApproved) {
+            this.writer = writer;
+            this.candidates = pastApproved;
+            this.wanted = Math.min(spec.comments(), pastApproved);
+        }
+
+        @Override
+        public void visit(long bookingId, int item, long start, long end, int booker, String status)
+                throws SQLException {
+            if (!isPastApproved(end, status)) {
+                return;
+            }
+            if (random.nextLong(candidates--) < wanted) {
+                wanted--;
+                long created = Math.min(spec.historySeconds(), end + random.nextLong(COMMENT_DELAY_SECONDS));
+                writer.row(++id, Vocabulary.review(random), offsets.items() + 1 + item, userId(booker), at(created));
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package ru.practicum.shareit.datagen;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Volumes and time frame of a generated dataset. The same spec always generates the same rows.
+ * <p>
+ * Requests are spread over the {@code historyDays} before {@code now}, bookings over the history and the
+ * {@code horizonDays} after it. Comments are left on past approved bookings, so there are at most as many
+ * comments as there are such bookings.
+ */
+public record DatasetSpec(long seed, int users, int requests, int items, long bookings, long comments,
+                          LocalDateTime now, int historyDays, int horizonDays) {
+    public static final long DEFAULT_SEED = 42;
+    public static final int DEFAULT_HISTORY_DAYS = 730;
+    public static final int DEFAULT_HORIZON_DAYS = 90;
+
+    public DatasetSpec {
+        if (users < 0 || requests < 0 || items < 0 || bookings < 0 || comments < 0) {
+            throw new IllegalArgumentException("Volumes must not be negative");
+        }
+        if (requests > 0 && users == 0 || items > 0 && users == 0) {
+            throw new IllegalArgumentException("Requests and items need users");
+        }
+        if (bookings > 0 && (users < 2 || items == 0)) {
+            throw new IllegalArgumentException("Bookings need items and at least two users");
+        }
+        if (historyDays <= 0 || horizonDays < 0) {
+            throw new IllegalArgumentException("History must be at least a day and the horizon not negative");
+        }
+        if (bookings > (long) items * maxBookingsPerItem(historyDays, horizonDays)) {
+            throw new IllegalArgumentException("No more than one booking per item and hour of the time frame");
+        }
+        if (now == null) {
+            throw new IllegalArgumentException("Now must be set");
+        }
+    }
+
+    public static DatasetSpec of(int users, int requests, int items, long bookings, long comments) {
+        return new DatasetSpec(DEFAULT_SEED, users, requests, items, bookings, comments,
+                LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS), DEFAULT_HISTORY_DAYS, DEFAULT_HORIZON_DAYS);
+    }
+
+    public DatasetSpec withSeed(long seed) {
+        return new DatasetSpec(seed, users, requests, items, bookings, comments, now, historyDays, horizonDays);
+    }
+
+    public DatasetSpec withNow(LocalDateTime now) {
+        return new DatasetSpec(seed, users, requests, items, bookings, comments, now, historyDays, horizonDays);
+    }
+
+    LocalDateTime origin() {
+        return now.minusDays(historyDays);
+    }
+
+    long historySeconds() {
+        return historyDays * 86_400L;
+    }
+
+    long spanSeconds() {
+        return (historyDays + horizonDays) * 86_400L;
+    }
+
+    int maxBookingsPerItem() {
+        return maxBookingsPerItem(historyDays, horizonDays);
+    }
+
+    private static int maxBookingsPerItem(int historyDays, int horizonDays) {
+        return (historyDays + horizonDays) * 24;
+    }
+}
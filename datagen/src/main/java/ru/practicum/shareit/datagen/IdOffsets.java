@@ -0,0 +1,19 @@
+package ru.practicum.shareit.datagen;
+
+/**
+ * Highest id already present in each table. Generated rows take the ids after it, so a dataset can be
+ * loaded on top of existing rows.
+ */
+public record IdOffsets(long users, long requests, long items, long bookings, long comments) {
+    public static final IdOffsets NONE = new IdOffsets(0, 0, 0, 0, 0);
+
+    public long of(Table table) {
+        return switch (table) {
+            case USERS -> users;
+            case REQUESTS -> requests;
+            case ITEMS -> items;
+            case BOOKINGS -> bookings;
+            case COMMENTS -> comments;
+        };
+    }
+}
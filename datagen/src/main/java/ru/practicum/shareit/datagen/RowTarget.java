@@ -0,0 +1,13 @@
+package ru.practicum.shareit.datagen;
+
+import java.sql.SQLException;
+
+/**
+ * Opens a writer per table. The generator opens the tables one after another in {@link Table} order
+ * and closes each before opening the next.
+ */
+@FunctionalInterface
+public interface RowTarget {
+
+    RowWriter open(Table table) throws SQLException;
+}
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.datagen;
+
+import java.sql.SQLException;
+
+/**
+ * Receives the generated rows of one table, values in the order of {@link Table#columns()}.
+ * Closing the writer flushes whatever it still buffers.
+ */
+public interface RowWriter extends AutoCloseable {
+
+    void row(Object... values) throws SQLException;
+
+    @Override
+    void close() throws SQLException;
+}
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.datagen;
+
+import java.util.List;
+
+/**
+ * Tables the generator fills, in foreign key order, with the columns it writes.
+ */
+public enum Table {
+    USERS("users", List.of("id", "name", "email")),
+    REQUESTS("requests", List.of("id", "description", "requester_id", "created")),
+    ITEMS("items", List.of("id", "name", "description", "available", "request_id", "owner_id")),
+    BOOKINGS("bookings", List.of("id", "start_date", "end_date", "item_id", "booker_id", "status")),
+    COMMENTS("comments", List.of("id", "text", "item_id", "author_id", "created"));
+
+    private final String tableName;
+    private final List<String> columns;
+
+    Table(String tableName, List<String> columns) {
+        this.tableName = tableName;
+        this.columns = columns;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+
+    String columnList() {
+        return String.join(", ", columns);
+    }
+}
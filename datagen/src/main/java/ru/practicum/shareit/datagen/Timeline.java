@@ -0,0 +1,37 @@
+package ru.practicum.shareit.datagen;
+
+/**
+ * Activity over the time frame of a dataset, as seconds after its origin. Activity grows linearly from half
+ * to one and a half times its average over the history, the way a growing service's traffic does, and then
+ * thins out over the horizon, since fewer bookings are made far ahead.
+ */
+class Timeline {
+    private final double history;
+    private final double horizon;
+    private final double total;
+
+    Timeline(long historySeconds, long horizonSeconds) {
+        this.history = historySeconds;
+        this.horizon = horizonSeconds;
+        this.total = history + 0.75 * horizon;
+    }
+
+    /**
+     * Seconds after the origin below which the given share of all activity falls.
+     */
+    double at(double quantile) {
+        double mass = quantile * total;
+        if (mass <= history) {
+            return history * (Math.sqrt(0.25 + 2 * mass / history) - 0.5);
+        }
+        double rest = mass - history;
+        return history + horizon * (1 - Math.sqrt(Math.max(0, 1 - 4 * rest / (3 * horizon))));
+    }
+
+    /**
+     * Share of all activity that falls into the history.
+     */
+    double historyShare() {
+        return history / total;
+    }
+}
@@ -0,0 +1,76 @@
+package ru.practicum.shareit.datagen;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Words generated names and texts are made of, so that text search sees a realistic spread of matches.
+ */
+@UtilityClass
+class Vocabulary {
+    private static final String[] FIRST_NAMES = {
+        "Anna", "Boris", "Daria", "Egor", "Elena", "Fedor", "Galina", "Igor", "Irina", "Kirill",
+        "Maria", "Maxim", "Natalia", "Oleg", "Olga", "Pavel", "Polina", "Roman", "Sofia", "Timur"
+    };
+    private static final String[] LAST_NAMES = {
+        "Ivanov", "Smirnov", "Kuznetsov", "Popov", "Vasiliev", "Petrov", "Sokolov", "Mikhailov",
+        "Novikov", "Fedorov", "Morozov", "Volkov", "Alekseev", "Lebedev", "Semenov", "Egorov"
+    };
+    private static final String[] ADJECTIVES = {
+        "cordless", "electric", "folding", "portable", "heavy", "compact", "professional", "old",
+        "waterproof", "adjustable", "large", "small", "digital", "manual", "inflatable", "carbon"
+    };
+    private static final String[] THINGS = {
+        "drill", "ladder", "tent", "bicycle", "projector", "saw", "kayak", "camera", "grill", "vacuum",
+        "sander", "trailer", "speaker", "telescope", "generator", "pressure washer", "snowboard", "tripod",
+        "sewing machine", "stroller", "lawn mower", "paddle board", "jigsaw", "sleeping bag"
+    };
+    private static final String[] CONDITIONS = {
+        "like new", "in good condition", "slightly worn", "well used", "recently serviced"
+    };
+    private static final String[] EXTRAS = {
+        "with a carrying case", "with spare batteries", "charger included", "instructions included",
+        "pick up only", "can deliver nearby", "fits in a car boot", ""
+    };
+    private static final String[] PURPOSES = {
+        "a weekend trip", "home repairs", "a birthday party", "moving house", "a photo shoot",
+        "the garden", "a camping holiday", "a school project"
+    };
+    private static final String[] REVIEWS = {
+        "Worked perfectly, thanks!", "Exactly as described.", "Owner was very helpful.",
+        "A bit worn but did the job.", "Would borrow again.", "Battery did not last long.",
+        "Great value, easy pick up.", "Missing one part, otherwise fine."
+    };
+
+    String userName(RandomGenerator random) {
+        return pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+    }
+
+    String itemName(RandomGenerator random) {
+        String name = pick(random, ADJECTIVES) + " " + pick(random, THINGS);
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    String itemDescription(RandomGenerator random, String name) {
+        String extra = pick(random, EXTRAS);
+        return name + ", " + pick(random, CONDITIONS) + (extra.isEmpty() ? "" : ", " + extra);
+    }
+
+    String requestDescription(RandomGenerator random) {
+        return "Looking for a " + pick(random, ADJECTIVES) + " " + pick(random, THINGS) + " for "
+                + pick(random, PURPOSES);
+    }
+
+    String review(RandomGenerator random) {
+        return pick(random, REVIEWS);
+    }
+
+    String searchTerm(RandomGenerator random) {
+        return random.nextBoolean() ? pick(random, THINGS) : pick(random, ADJECTIVES);
+    }
+
+    private static String pick(RandomGenerator random, String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+}
@@ -0,0 +1,151 @@
+package ru.practicum.shareit.datagen;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DatasetGeneratorTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 12, 0);
+    private static final DatasetSpec SPEC = DatasetSpec.of(500, 100, 1_000, 20_000, 2_000).withNow(NOW);
+
+    @Test
+    void generate_ShouldWriteRequestedVolumes() throws SQLException {
+        Map<Table, List<Object[]>> rows = generate(SPEC, IdOffsets.NONE);
+
+        assertEquals(500, rows.get(Table.USERS).size());
+        assertEquals(100, rows.get(Table.REQUESTS).size());
+        assertEquals(1_000, rows.get(Table.ITEMS).size());
+        assertEquals(20_000, rows.get(Table.BOOKINGS).size());
+        assertEquals(2_000, rows.get(Table.COMMENTS).size());
+    }
+
+    @Test
+    void generate_SameSpec_ShouldWriteSameRows() throws SQLException {
+        Map<Table, List<Object[]>> first = generate(SPEC, IdOffsets.NONE);
+        Map<Table, List<Object[]>> second = generate(SPEC, IdOffsets.NONE);
+        Map<Table, List<Object[]>> reseeded = generate(SPEC.withSeed(7), IdOffsets.NONE);
+
+        for (Table table : Table.values()) {
+            assertArrayEquals(first.get(table).toArray(), second.get(table).toArray());
+        }
+        assertNotEquals(Arrays.asList(first.get(Table.BOOKINGS).get(0)),
+                Arrays.asList(reseeded.get(Table.BOOKINGS).get(0)));
+    }
+
+    @Test
+    void generate_WithOffsets_ShouldContinueIds() throws SQLException {
+        Map<Table, List<Object[]>> rows = generate(SPEC, new IdOffsets(10, 20, 30, 40, 50));
+
+        assertEquals(11L, rows.get(Table.USERS).get(0)[0]);
+        assertEquals(21L, rows.get(Table.REQUESTS).get(0)[0]);
+        assertEquals(31L, rows.get(Table.ITEMS).get(0)[0]);
+        assertEquals(41L, rows.get(Table.BOOKINGS).get(0)[0]);
+        assertEquals(51L, rows.get(Table.COMMENTS).get(0)[0]);
+        assertTrue(rows.get(Table.BOOKINGS).stream().allMatch(booking -> (long) booking[3] > 30
+                && (long) booking[4] > 10 && (long) booking[4] <= 510));
+    }
+
+    @Test
+    void bookings_ShouldNotOverlapPerItemNorBeMadeByOwner() throws SQLException {
+        Map<Table, List<Object[]>> rows = generate(SPEC, IdOffsets.NONE);
+        Map<Object, Object> owners = new HashMap<>();
+        rows.get(Table.ITEMS).forEach(item -> owners.put(item[0], item[5]));
+
+        Map<Object, LocalDateTime> lastEnd = new HashMap<>();
+        for (Object[] booking : rows.get(Table.BOOKINGS)) {
+            LocalDateTime start = (LocalDateTime) booking[1];
+            LocalDateTime end = (LocalDateTime) booking[2];
+            assertTrue(start.isBefore(end));
+            LocalDateTime previous = lastEnd.put(booking[3], end);
+            assertTrue(previous == null || !start.isBefore(previous));
+            assertNotEquals(owners.get(booking[3]), booking[4]);
+        }
+    }
+
+    @Test
+    void bookings_ShouldConcentrateOnPopularItemsAndRecentTime() throws SQLException {
+        List<Object[]> bookings = generate(SPEC, IdOffsets.NONE).get(Table.BOOKINGS);
+
+        Map<Object, Integer> perItem = new HashMap<>();
+        bookings.forEach(booking -> perItem.merge(booking[3], 1, Integer::sum));
+        int topTenth = perItem.values().stream()
+                .sorted((a, b) -> b - a)
+                .limit(SPEC.items() / 10)
+                .mapToInt(Integer::intValue)
+                .sum();
+        assertTrue(topTenth > bookings.size() / 4);
+
+        LocalDateTime middle = NOW.minusDays(SPEC.historyDays() / 2);
+        long firstYear = bookings.stream().filter(booking -> ((LocalDateTime) booking[1]).isBefore(middle)).count();
+        long secondYear = bookings.stream().filter(booking -> !((LocalDateTime) booking[1]).isBefore(middle)
+                && ((LocalDateTime) booking[1]).isBefore(NOW)).count();
+        assertTrue(secondYear > firstYear);
+    }
+
+    @Test
+    void bookings_ShouldOnlyWaitInTheFuture() throws SQLException {
+        List<Object[]> bookings = generate(SPEC, IdOffsets.NONE).get(Table.BOOKINGS);
+
+        assertTrue(bookings.stream().anyMatch(booking -> "WAITING".equals(booking[5])));
+        assertTrue(bookings.stream()
+                .filter(booking -> "WAITING".equals(booking[5]))
+                .allMatch(booking -> ((LocalDateTime) booking[1]).isAfter(NOW)));
+    }
+
+    @Test
+    void comments_ShouldBeWrittenByBookersAfterTheirApprovedBookingEnded() throws SQLException {
+        Map<Table, List<Object[]>> rows = generate(SPEC, IdOffsets.NONE);
+        Map<List<Object>, List<LocalDateTime>> approvedEnds = new HashMap<>();
+        rows.get(Table.BOOKINGS).stream()
+                .filter(booking -> "APPROVED".equals(booking[5]))
+                .forEach(booking -> approvedEnds.computeIfAbsent(List.of(booking[3], booking[4]),
+                        key -> new ArrayList<>()).add((LocalDateTime) booking[2]));
+
+        for (Object[] comment : rows.get(Table.COMMENTS)) {
+            LocalDateTime created = (LocalDateTime) comment[4];
+            assertFalse(created.isAfter(NOW));
+            assertTrue(approvedEnds.getOrDefault(List.of(comment[2], comment[3]), List.of()).stream()
+                    .anyMatch(end -> !end.isAfter(created)));
+        }
+    }
+
+    @Test
+    void spec_TooManyBookingsPerItem_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DatasetSpec(1, 10, 0, 1, 100_000, 0, NOW, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> DatasetSpec.of(1, 0, 1, 1, 0));
+    }
+
+    private static Map<Table, List<Object[]>> generate(DatasetSpec spec, IdOffsets offsets) throws SQLException {
+        Map<Table, List<Object[]>> rows = new EnumMap<>(Table.class);
+        new DatasetGenerator(spec, offsets).generate(table -> {
+            List<Object[]> written = new ArrayList<>();
+            rows.put(table, written);
+            return new RowWriter() {
+                @Override
+                public void row(Object... values) {
+                    written.add(values);
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        });
+        return rows;
+    }
+}
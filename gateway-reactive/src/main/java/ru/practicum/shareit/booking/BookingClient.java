@@ -0,0 +1,66 @@
+package ru.practicum.shareit.booking;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.BaseClient;
+
+@Service
+public class BookingClient extends BaseClient {
+    private static final String API_PREFIX = "/bookings";
+
+    @Autowired
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                         ClientHttpConnector serverConnector) {
+        super(
+                builder.clone()
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(serverConnector)
+                        .build()
+        );
+    }
+
+    public Mono<ResponseEntity<byte[]>> getBooking(long userId, Long bookingId) {
+        return get("/" + bookingId, userId);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getBookingsByState(long userId, BookingStatus state, String cursor, int size,
+                                                           String view) {
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "cursor", cursor == null ? "" : cursor,
+                "size", size,
+                "view", view
+        );
+        return get("?state={state}&cursor={cursor}&size={size}&view={view}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> create(long userId, BookingDto bookingDto) {
+        return post("", userId, bookingDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> update(long userId, Long bookingId, Boolean approved) {
+        Map<String, Object> parameters = Map.of(
+                "approved", approved
+        );
+        return patch("/" + bookingId + "?approved={approved}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getBookingOwner(long userId, String state, String cursor, int size,
+                                                        String view) {
+        Map<String, Object> parameters = Map.of(
+                "state", state,
+                "cursor", cursor == null ? "" : cursor,
+                "size", size,
+                "view", view
+        );
+        return get("/owner?state={state}&cursor={cursor}&size={size}&view={view}", userId, parameters);
+    }
+}
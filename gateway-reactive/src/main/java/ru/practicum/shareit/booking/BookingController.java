@@ -0,0 +1,75 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.validator.Create;
+
+
+@RestController
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class BookingController {
+    private final BookingClient bookingClient;
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getBookingsByState(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                           @RequestParam(required = false, defaultValue = "ALL") BookingStatus state,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "20") @Positive @Max(100) int size,
+                                                           @RequestParam(defaultValue = "compact") String view) {
+        log.info("Request GET /bookings?state={}&cursor={}&size={}&view={} by userId={}",
+                state, cursor, size, view, userId);
+        return bookingClient.getBookingsByState(userId, state, cursor, size, view);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> create(@RequestHeader("X-Sharer-User-Id") long userId,
+                                               @RequestBody @Validated(Create.class) BookingDto bookingDto) {
+        log.info("Request POST /bookings with X-Sharer-User-Id: {} and body : {}", userId, bookingDto);
+        return bookingClient.create(userId, bookingDto);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public Mono<ResponseEntity<byte[]>> updateBooking(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                      @PathVariable @NotNull @Positive Long bookingId,
+                                                      @RequestParam Boolean approved) {
+        log.info("Request PATCH /bookingId: {} ?approved= {}", bookingId, approved);
+        return bookingClient.update(userId, bookingId, approved);
+    }
+
+    @GetMapping("/{bookingId}")
+    public Mono<ResponseEntity<byte[]>> getBooking(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                   @PathVariable @NotNull @Positive Long bookingId) {
+        log.info("Request GET /bookingId: {} with X-Sharer-User-Id: {}", bookingId, userId);
+        return bookingClient.getBooking(userId, bookingId);
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<byte[]>> getBookingOwner(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                        @RequestParam(required = false, defaultValue = "ALL") String state,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "20") @Positive @Max(100) int size,
+                                                        @RequestParam(defaultValue = "compact") String view) {
+        log.info("Request GET /bookingId/owner?state={}&cursor={}&size={}&view={} for X-Sharer-User-Id {}",
+                state, cursor, size, view, userId);
+        return bookingClient.getBookingOwner(userId, state, cursor, size, view);
+    }
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.booking;
+
+public enum BookingStatus {
+    WAITING,
+    APPROVED,
+    REJECTED,
+    CANCELED,
+    ALL
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.client;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorResourceFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Event loops and one connection pool shared by the embedded server and every client of the server.
+ * The loops are a small fixed set of threads, so concurrency is bounded by the pool, never by threads.
+ * Pool usage is exported as {@code reactor.netty.connection.provider.*} meters tagged {@code name=shareit-server}.
+ */
+@Configuration
+@EnableConfigurationProperties(ServerHttpClientProperties.class)
+public class ServerHttpClientConfig {
+    static final String POOL_NAME = "shareit-server";
+
+    @Bean
+    ReactorResourceFactory reactorResourceFactory(ServerHttpClientProperties properties) {
+        ReactorResourceFactory resourceFactory = new ReactorResourceFactory();
+        resourceFactory.setUseGlobalResources(false);
+        resourceFactory.setLoopResourcesSupplier(() ->
+                LoopResources.create("shareit-gateway", properties.eventLoopThreads(), true));
+        resourceFactory.setConnectionProviderSupplier(() -> ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(properties.maxConnections())
+                .pendingAcquireMaxCount(properties.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.pendingAcquireTimeout())
+                .maxIdleTime(properties.maxIdleTime())
+                .evictInBackground(properties.evictIdleAfter())
+                .metrics(true)
+                .build());
+        return resourceFactory;
+    }
+
+    @Bean
+    ClientHttpConnector serverConnector(ReactorResourceFactory reactorResourceFactory,
+                                        ServerHttpClientProperties properties) {
+        return new ReactorClientHttpConnector(reactorResourceFactory, httpClient -> httpClient
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+                .responseTimeout(properties.responseTimeout()));
+    }
+}
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the event loops and of the connection pool shared by all clients of the server.
+ *
+ * @param eventLoopThreads      event-loop threads serving both gateway requests and server connections
+ * @param maxConnections        connections open to the server at most
+ * @param pendingAcquireMaxCount requests allowed to wait for a free connection when the pool is exhausted
+ * @param pendingAcquireTimeout time to wait for a free connection when the pool is exhausted
+ * @param connectTimeout        time to establish a new connection
+ * @param responseTimeout       time to wait for response data once a request is sent
+ * @param maxIdleTime           how long an idle connection may be reused
+ * @param evictIdleAfter        how often a background evictor closes connections idle for longer than that
+ */
+@ConfigurationProperties("shareit-server.http")
+public record ServerHttpClientProperties(
+        @DefaultValue("4") int eventLoopThreads,
+        @DefaultValue("200") int maxConnections,
+        @DefaultValue("10000") int pendingAcquireMaxCount,
+        @DefaultValue("5s") Duration pendingAcquireTimeout,
+        @DefaultValue("2s") Duration connectTimeout,
+        @DefaultValue("30s") Duration responseTimeout,
+        @DefaultValue("30s") Duration maxIdleTime,
+        @DefaultValue("30s") Duration evictIdleAfter) {
+}
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object representing a Comment.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentDto {
+    private Long id;
+    private LocalDateTime  created;
+    private Long itemId;
+    private String authorName;
+    private String text;
+}
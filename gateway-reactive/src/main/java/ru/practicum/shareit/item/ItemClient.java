@@ -0,0 +1,64 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.comment.CommentDto;
+
+import java.util.Map;
+
+
+@Service
+public class ItemClient extends BaseClient {
+
+    private static final String API_PREFIX = "/items";
+
+    @Autowired
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                      ClientHttpConnector serverConnector) {
+        super(
+                builder.clone()
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(serverConnector)
+                        .build()
+        );
+    }
+
+    public Mono<ResponseEntity<byte[]>> post(ItemDto itemDto, long userId) {
+        return post("", userId, itemDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getAll(long userId, String cursor, int size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor == null ? "" : cursor,
+                "size", size
+        );
+        return get("?cursor={cursor}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getById(long itemId, long userId) {
+        return get("/" + itemId, userId);
+    }
+
+    public Mono<ResponseEntity<byte[]>> patch(long itemId, ItemDto itemDto, long userId) {
+        return patch("/" + itemId, userId, itemDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getText(String text, int from, int size) {
+        Map<String, Object> parameters = Map.of(
+                "text", text,
+                "from", from,
+                "size", size
+        );
+        return get("/search?text={text}&from={from}&size={size}", null, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> createComment(Long itemId, CommentDto comment, Long userId) {
+        return post("/" + itemId + "/comment", userId, comment);
+    }
+}
@@ -0,0 +1,81 @@
+package ru.practicum.shareit.item;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.comment.CommentDto;
+import ru.practicum.shareit.validator.Create;
+import ru.practicum.shareit.validator.Update;
+
+/**
+ * Controller for items
+ */
+@Slf4j
+@RestController
+@RequestMapping(path = "/items")
+@RequiredArgsConstructor
+@Validated
+public class ItemController {
+    private final ItemClient itemClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> create(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                               @Validated(Create.class) @RequestBody ItemDto itemDto) {
+        log.info("Request POST /items with X-Sharer-User-Id: {} and body : {}", userId, itemDto);
+        return itemClient.post(itemDto, userId);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<byte[]>> updateItem(@RequestHeader("X-Sharer-User-Id") Long userId,
+            @NotNull(message = "Item id cannot be null") @PathVariable Long id,
+            @Validated(Update.class) @RequestBody ItemDto itemDto) {
+        log.info("Request PATCH /items/{} with X-Sharer-User-Id: {}", id, userId);
+        return itemClient.patch(id, itemDto, userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getAll(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "20") @Positive @Max(100) int size) {
+        log.info("Request GET /items from user {} cursor={} size={}", userId, cursor, size);
+        return itemClient.getAll(userId, cursor, size);
+    }
+
+    @GetMapping("/{itemId}")
+    public Mono<ResponseEntity<byte[]>> getItem(@PathVariable long itemId,
+                                                @RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("Request GET /items/{} X-Sharer-User-Id: {}", itemId, userId);
+        return itemClient.getById(itemId, userId);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<byte[]>> search(@RequestParam String text,
+                                               @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+                                               @RequestParam(defaultValue = "20") @Positive @Max(100) int size) {
+        log.info("Request GET /search: {} from={} size={}", text, from, size);
+        return itemClient.getText(text, from, size);
+    }
+
+    @PostMapping("{itemId}/comment")
+    public Mono<ResponseEntity<byte[]>> createComment(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                      @PathVariable @NotNull Long itemId,
+                                                      @RequestBody final CommentDto comment) {
+        log.info("Request POST /items/{}/comment with X-Sharer-User-Id: {}", itemId, userId);
+        return itemClient.createComment(itemId, comment, userId);
+    }
+}
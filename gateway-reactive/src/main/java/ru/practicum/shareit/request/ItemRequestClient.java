@@ -0,0 +1,53 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.BaseClient;
+
+import java.util.Map;
+
+@Service
+public class ItemRequestClient extends BaseClient {
+
+    private static final String API_PREFIX = "/requests";
+
+    @Autowired
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                             ClientHttpConnector serverConnector) {
+        super(
+                builder.clone()
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(serverConnector)
+                        .build()
+        );
+    }
+
+    public Mono<ResponseEntity<byte[]>> post(ItemRequestDto itemRequestDto, long userId) {
+        return post("", userId, itemRequestDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getAll(long userId, String cursor, int size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor == null ? "" : cursor,
+                "size", size
+        );
+        return get("/all?cursor={cursor}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getById(long itemRequestId, long userId) {
+        return get("/" + itemRequestId, userId);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getAllByUser(Long userId, String cursor, int size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor == null ? "" : cursor,
+                "size", size
+        );
+        return get("?cursor={cursor}&size={size}", userId, parameters);
+    }
+}
@@ -0,0 +1,62 @@
+package ru.practicum.shareit.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.validator.Create;
+
+/**
+ * Controller for item requests
+ */
+@Slf4j
+@RestController
+@RequestMapping(path = "/requests")
+@RequiredArgsConstructor
+@Validated
+public class ItemRequestController {
+    private final ItemRequestClient itemRequestClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> create(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                               @Validated(Create.class) @RequestBody ItemRequestDto itemRequestDto) {
+        log.info("Request POST /requests with X-Sharer-User-Id: {} and body : {}", userId, itemRequestDto);
+        return itemRequestClient.post(itemRequestDto, userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getUserRequests(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "20") @Positive @Max(100) int size) {
+        log.info("Request GET /requests with X-Sharer-User-Id: {} cursor={} size={}", userId, cursor, size);
+        return itemRequestClient.getAllByUser(userId, cursor, size);
+    }
+
+    @GetMapping("/all")
+    public Mono<ResponseEntity<byte[]>> getAll(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "20") @Positive @Max(100) int size) {
+        log.info("Request GET /requests/all with X-Sharer-User-Id: {} cursor={} size={}", userId, cursor, size);
+        return itemRequestClient.getAll(userId, cursor, size);
+    }
+
+    @GetMapping("/{requestId}")
+    public Mono<ResponseEntity<byte[]>> getRequest(@PathVariable long requestId,
+                                                   @RequestHeader("X-Sharer-User-Id") Long userId) {
+        log.info("Request GET /requests/{} with X-Sharer-User-Id: {}", requestId, userId);
+        return itemRequestClient.getById(requestId, userId);
+    }
+
+}
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.request;
+
+import lombok.Builder;
+import lombok.Data;
+import ru.practicum.shareit.item.ItemOwnerDto;
+import ru.practicum.shareit.user.UserDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class ItemRequestDto {
+    private Long id;
+    private String description;
+    private UserDto requester;
+    private LocalDateTime created;
+    private List<ItemOwnerDto> items; // список вещей выложенных по этому запросу
+}
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.BaseClient;
+
+@Service
+public class UserClient extends BaseClient {
+
+    private static final String API_PREFIX = "/users";
+
+    @Autowired
+    public UserClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder,
+                      ClientHttpConnector serverConnector) {
+        super(
+                builder.clone()
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(serverConnector)
+                        .build()
+        );
+    }
+
+    public Mono<ResponseEntity<byte[]>> create(UserDto userDto) {
+        return post("", userDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getAll() {
+        return get("");
+    }
+
+    public Mono<ResponseEntity<byte[]>> getById(long userId) {
+        return get("/" + userId);
+    }
+
+    public Mono<ResponseEntity<byte[]>> patch(long userId, UserDto userDto) {
+        return patch("/" + userId, userDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> delete(long userId) {
+        return delete("/" + userId);
+    }
+}
@@ -0,0 +1,5 @@
+package ru.practicum.shareit.validator;
+
+public interface Create {
+
+}
@@ -0,0 +1,4 @@
+package ru.practicum.shareit.validator;
+
+public interface Update {
+}
@@ -0,0 +1,172 @@
+package ru.practicum.shareit;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the reactive gateway with thousands of concurrent clients against a stub server that answers every
+ * request after a fixed delay, and reports throughput, latency percentiles and the platform threads in use.
+ * The RestTemplate gateway has the same benchmark with the same stub and client counts, so the two reports
+ * compare directly. Excluded from the default build, run with
+ * <pre>
+ * mvn test -pl gateway-reactive -Dsurefire.excludedGroups= -Dgroups=benchmark -Dloadtest.clients=1000,2000,4000
+ * </pre>
+ * Every client holds its own connection, so the open file limit has to allow two descriptors per client.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "logging.level.ru.practicum.shareit.request=WARN"
+})
+class GatewayConcurrencyBenchmarkTest {
+    private static final int REQUESTS_PER_CLIENT = 5;
+    private static final Duration SERVER_LATENCY = Duration.ofMillis(50);
+
+    private static final HttpServer SERVER = startServer();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:" + SERVER.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopServer() {
+        SERVER.stop(0);
+    }
+
+    @Test
+    void requestFeed_UnderConcurrentClients() throws Exception {
+        int[] levels = Arrays.stream(System.getProperty("loadtest.clients", "1000,2000,4000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        URI uri = URI.create("http://localhost:" + port + "/requests/all?size=20");
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient http = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+            run(http, executor, uri, 200);
+            for (int clients : levels) {
+                Result result = run(http, executor, uri, clients);
+                log.info("reactive gateway, {} clients: {} req/s, p50 {} ms, p99 {} ms, {} failed, {} platform threads",
+                        clients, result.throughput(), result.p50Millis(), result.p99Millis(), result.failed(),
+                        result.peakThreads());
+                assertTrue(result.failed() < clients * REQUESTS_PER_CLIENT);
+            }
+        }
+    }
+
+    private static Result run(HttpClient http, ExecutorService executor, URI uri, int clients) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("X-Sharer-User-Id", "1")
+                .timeout(Duration.ofSeconds(60))
+                .build();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        AtomicInteger failed = new AtomicInteger();
+        List<Future<long[]>> futures = new ArrayList<>(clients);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[REQUESTS_PER_CLIENT];
+                for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                    long sentAt = System.nanoTime();
+                    try {
+                        if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                            failed.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                    }
+                    latencies[r] = System.nanoTime() - sentAt;
+                }
+                return latencies;
+            }));
+        }
+        long[] latencies = new long[clients * REQUESTS_PER_CLIENT];
+        for (int i = 0; i < clients; i++) {
+            System.arraycopy(futures.get(i).get(), 0, latencies, i * REQUESTS_PER_CLIENT, REQUESTS_PER_CLIENT);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        return new Result(latencies.length * 1_000_000_000L / elapsed,
+                percentile(latencies, 0.50) / 1_000_000, percentile(latencies, 0.99) / 1_000_000, failed.get(),
+                threads.getPeakThreadCount());
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    /*
+     * Answers every request with a page of 20 requests after a fixed delay, sleeping on a virtual thread so the
+     * stub itself never limits concurrency.
+     */
+    private static HttpServer startServer() {
+        StringJoiner page = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < 20; i++) {
+            page.add("{\"id\":" + i + ",\"description\":\"Request " + i + "\",\"created\":\"2030-01-01T10:00:00\","
+                    + "\"items\":[]}");
+        }
+        byte[] body = page.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 10_000);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/", exchange -> {
+                try {
+                    Thread.sleep(SERVER_LATENCY);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Result(long throughput, long p50Millis, long p99Millis, int failed, int peakThreads) {
+    }
+}
@@ -0,0 +1,133 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(controllers = BookingController.class)
+class BookingControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @MockBean
+    private BookingClient bookingClient;
+
+    @Test
+    void testGetBookingsByState_ServerBytes_ShouldBeWrittenUnchanged() {
+        long userId = 1L;
+        byte[] body = "[{\"id\":1,\"status\":\"WAITING\"}]".getBytes(StandardCharsets.UTF_8);
+        when(bookingClient.getBookingsByState(userId, BookingStatus.APPROVED, null, 20, "compact"))
+                .thenReturn(Mono.just(ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-Next-Cursor", "next")
+                        .body(body)));
+
+        client.get().uri("/bookings?state=APPROVED")
+                .header("X-Sharer-User-Id", String.valueOf(userId))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals("X-Next-Cursor", "next")
+                .expectBody(byte[].class).isEqualTo(body);
+    }
+
+    @Test
+    void testGetBookingsByStateIllegal() {
+        client.get().uri("/bookings?state=qwer")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testGetBookingsByState_MissingUserHeader_ShouldBeBadRequest() {
+        client.get().uri("/bookings")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testCreateBooking() {
+        long userId = 1L;
+        BookingDto bookingDto = new BookingDto();
+        bookingDto.setItemId(1L);
+        bookingDto.setStart(LocalDateTime.now().plusDays(1));
+        bookingDto.setEnd(LocalDateTime.now().plusDays(2));
+        when(bookingClient.create(eq(userId), any(BookingDto.class)))
+                .thenReturn(Mono.just(ResponseEntity.ok("Booking created".getBytes(StandardCharsets.UTF_8))));
+
+        client.post().uri("/bookings")
+                .header("X-Sharer-User-Id", String.valueOf(userId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(bookingDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("Booking created");
+
+        verify(bookingClient).create(eq(userId), any(BookingDto.class));
+    }
+
+    @Test
+    void testCreateBooking_StartInPast_ShouldBeRejectedByCreateGroup() {
+        BookingDto bookingDto = new BookingDto();
+        bookingDto.setItemId(1L);
+        bookingDto.setStart(LocalDateTime.now().minusDays(1));
+        bookingDto.setEnd(LocalDateTime.now().plusDays(2));
+
+        client.post().uri("/bookings")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(bookingDto)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(bookingClient, never()).create(anyLong(), any());
+    }
+
+    @Test
+    void testUpdateBooking() {
+        long userId = 1L;
+        long bookingId = 10L;
+        when(bookingClient.update(userId, bookingId, true))
+                .thenReturn(Mono.just(ResponseEntity.ok("Booking updated".getBytes(StandardCharsets.UTF_8))));
+
+        client.patch().uri("/bookings/{bookingId}?approved=true", bookingId)
+                .header("X-Sharer-User-Id", String.valueOf(userId))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("Booking updated");
+
+        verify(bookingClient).update(userId, bookingId, true);
+    }
+
+    @Test
+    void testGetBookingOwner() {
+        long userId = 1L;
+        when(bookingClient.getBookingOwner(userId, "ALL", null, 20, "full"))
+                .thenReturn(Mono.just(ResponseEntity.ok("Owner's bookings list".getBytes(StandardCharsets.UTF_8))));
+
+        client.get().uri("/bookings/owner?view=full")
+                .header("X-Sharer-User-Id", String.valueOf(userId))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("Owner's bookings list");
+
+        verify(bookingClient).getBookingOwner(userId, "ALL", null, 20, "full");
+    }
+}
@@ -0,0 +1,88 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BaseClientTest {
+    private static final byte[] BODY = "[{\"id\":1,\"name\":\"Дрель\",\"price\":1.50}]".getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicReference<ClientRequest> sent = new AtomicReference<>();
+
+    private BaseClient client(ClientResponse response) {
+        return new BaseClient(WebClient.builder()
+                .baseUrl("http://server/items")
+                .exchangeFunction(request -> {
+                    sent.set(request);
+                    return Mono.just(response);
+                })
+                .build());
+    }
+
+    @Test
+    void get_ShouldPassBodyBytesAndEndToEndHeadersThrough() {
+        BaseClient client = client(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header("X-Next-Cursor", "abc")
+                .header(HttpHeaders.CONNECTION, "keep-alive")
+                .header(HttpHeaders.TRANSFER_ENCODING, "chunked")
+                .body(new String(BODY, StandardCharsets.UTF_8))
+                .build());
+
+        ResponseEntity<byte[]> response = client.get("?size={size}", 7L, Map.of("size", 20)).block();
+
+        assertEquals(HttpMethod.GET, sent.get().method());
+        assertEquals("http://server/items?size=20", sent.get().url().toString());
+        assertEquals("7", sent.get().headers().getFirst("X-Sharer-User-Id"));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(BODY, response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("abc", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.CONNECTION));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+    }
+
+    @Test
+    void get_ErrorResponse_ShouldKeepStatusAndBody() {
+        String error = "{\"error\":\"Item not found\"}";
+        BaseClient client = client(ClientResponse.create(HttpStatus.NOT_FOUND)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(error)
+                .build());
+
+        ResponseEntity<byte[]> response = client.get("/99", 7L).block();
+
+        assertEquals("http://server/items/99", sent.get().url().toString());
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertArrayEquals(error.getBytes(StandardCharsets.UTF_8), response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void delete_EmptyResponse_ShouldHaveNoBody() {
+        BaseClient client = client(ClientResponse.create(HttpStatus.OK).build());
+
+        ResponseEntity<byte[]> response = client.delete("/1").block();
+
+        assertEquals(HttpMethod.DELETE, sent.get().method());
+        assertNull(sent.get().headers().getFirst("X-Sharer-User-Id"));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+}
@@ -0,0 +1,91 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.comment.CommentDto;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(controllers = ItemController.class)
+class ItemControllerTest {
+    private static final byte[] ITEM = "{\"id\":5,\"name\":\"Дрель\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private WebTestClient client;
+
+    @MockBean
+    private ItemClient itemClient;
+
+    @Test
+    void testUpdateItem_ShouldForwardItemIdAndUser() {
+        ItemDto itemDto = ItemDto.builder().name("Дрель").build();
+        when(itemClient.patch(5L, itemDto, 1L)).thenReturn(Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ITEM)));
+
+        client.patch().uri("/items/5")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(itemDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(byte[].class).isEqualTo(ITEM);
+
+        verify(itemClient).patch(5L, itemDto, 1L);
+    }
+
+    @Test
+    void testGetAllItems() {
+        when(itemClient.getAll(1L, "abc", 10)).thenReturn(Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ITEM)));
+
+        client.get().uri("/items?cursor=abc&size=10")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.name").isEqualTo("Дрель");
+
+        verify(itemClient).getAll(1L, "abc", 10);
+    }
+
+    @Test
+    void testSearchItems() {
+        when(itemClient.getText("дрель", 0, 20)).thenReturn(Mono.just(ResponseEntity.ok("[]".getBytes())));
+
+        client.get().uri(uri -> uri.path("/items/search").queryParam("text", "дрель").build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("[]");
+
+        verify(itemClient).getText("дрель", 0, 20);
+    }
+
+    @Test
+    void testCreateComment() {
+        CommentDto comment = new CommentDto();
+        comment.setText("Хорошая дрель");
+        when(itemClient.createComment(eq(5L), any(CommentDto.class), eq(1L)))
+                .thenReturn(Mono.just(ResponseEntity.ok("{}".getBytes())));
+
+        client.post().uri("/items/5/comment")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(comment)
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(itemClient).createComment(eq(5L), any(CommentDto.class), eq(1L));
+    }
+}
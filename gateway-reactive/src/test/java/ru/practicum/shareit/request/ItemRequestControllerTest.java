@@ -0,0 +1,57 @@
+package ru.practicum.shareit.request;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(controllers = ItemRequestController.class)
+class ItemRequestControllerTest {
+    private static final byte[] PAGE = "[{\"id\":3,\"description\":\"Нужна дрель\"}]".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private WebTestClient client;
+
+    @MockBean
+    private ItemRequestClient itemRequestClient;
+
+    @Test
+    void testGetAllItemRequests() {
+        when(itemRequestClient.getAll(1L, null, 20)).thenReturn(Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Next-Cursor", "next")
+                .body(PAGE)));
+
+        client.get().uri("/requests/all")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", "next")
+                .expectBody(byte[].class).isEqualTo(PAGE);
+
+        verify(itemRequestClient).getAll(1L, null, 20);
+    }
+
+    @Test
+    void testGetUserRequestById() {
+        when(itemRequestClient.getById(3L, 1L)).thenReturn(Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(PAGE)));
+
+        client.get().uri("/requests/3")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(itemRequestClient).getById(3L, 1L);
+    }
+}
@@ -0,0 +1,108 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(controllers = UserController.class)
+class UserControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @MockBean
+    private UserClient userClient;
+
+    @Test
+    void testCreate() {
+        UserDto userDto = UserDto.builder().name("Name").email("name@example.com").build();
+        byte[] created = "{\"id\":1,\"name\":\"Name\",\"email\":\"name@example.com\"}".getBytes(StandardCharsets.UTF_8);
+        when(userClient.create(userDto)).thenReturn(Mono.just(ResponseEntity.status(HttpStatus.CREATED)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(created)));
+
+        client.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(userDto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.id").isEqualTo(1);
+
+        verify(userClient).create(userDto);
+    }
+
+    @Test
+    void testCreate_WithoutEmail_ShouldBeRejectedByCreateGroup() {
+        client.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(UserDto.builder().name("Name").build())
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(userClient, never()).create(any());
+    }
+
+    @Test
+    void testUpdateUser_PartialBody_ShouldPassUpdateGroup() {
+        long userId = 1L;
+        UserDto userDto = UserDto.builder().email("updated.email@example.com").build();
+        when(userClient.patch(userId, userDto))
+                .thenReturn(Mono.just(ResponseEntity.ok("{}".getBytes(StandardCharsets.UTF_8))));
+
+        client.patch().uri("/users/{userId}", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(userDto)
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(userClient).patch(userId, userDto);
+    }
+
+    @Test
+    void testUpdateUser_InvalidEmail_ShouldBeRejectedByUpdateGroup() {
+        client.patch().uri("/users/{userId}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(UserDto.builder().email("not an email").build())
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(userClient, never()).patch(any(Long.class), any());
+    }
+
+    @Test
+    void testGetUser_ServerError_ShouldKeepStatusAndBody() {
+        byte[] error = "{\"error\":\"User not found\"}".getBytes(StandardCharsets.UTF_8);
+        when(userClient.getById(99L)).thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(error)));
+
+        client.get().uri("/users/99")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(byte[].class).isEqualTo(error);
+    }
+
+    @Test
+    void testDeleteUser() {
+        when(userClient.delete(1L)).thenReturn(Mono.just(ResponseEntity.ok().build()));
+
+        client.delete().uri("/users/{userId}", 1L)
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(userClient).delete(1L);
+    }
+}
@@ -6,23 +6,29 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResponseCache;
 
 @Service
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                         ClientHttpRequestFactory serverRequestFactory, ResponseCache responseCache,
+                         RequestCoalescer coalescer) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> serverRequestFactory)
+                        .build(),
+                responseCache,
+                coalescer
         );
     }
 
@@ -30,11 +36,15 @@ public class BookingClient extends BaseClient {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getBookingsByState(long userId, BookingStatus state) {
+    public ResponseEntity<Object> getBookingsByState(long userId, BookingStatus state, String cursor, int size,
+                                                     String view) {
         Map<String, Object> parameters = Map.of(
-                "state", state.name()
+                "state", state.name(),
+                "cursor", cursor == null ? "" : cursor,
+                "size", size,
+                "view", view
         );
-        return get("?state={state}", userId, parameters);
+        return get("?state={state}&cursor={cursor}&size={size}&view={view}", userId, parameters);
     }
 
     public ResponseEntity<Object> create(long userId, BookingDto bookingDto) {
@@ -48,10 +58,13 @@ public class BookingClient extends BaseClient {
         return patch("/" + bookingId + "?approved={approved}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getBookingOwner(long userId, String state) {
+    public ResponseEntity<Object> getBookingOwner(long userId, String state, String cursor, int size, String view) {
         Map<String, Object> parameters = Map.of(
-                "state", state
+                "state", state,
+                "cursor", cursor == null ? "" : cursor,
+                "size", size,
+                "view", view
         );
-        return get("/owner/" + userId + "?state={state}", userId, parameters);
+        return get("/owner?state={state}&cursor={cursor}&size={size}&view={view}", userId, parameters);
     }
 }
\ No newline at end of file
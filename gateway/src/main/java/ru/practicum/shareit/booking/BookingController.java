@@ -1,5 +1,6 @@
 package ru.practicum.shareit.booking;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
@@ -29,9 +30,13 @@ public class BookingController {
 
     @GetMapping
     public ResponseEntity<Object> getBookingsByState(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                     @RequestParam(required = false, defaultValue = "ALL") BookingStatus state) {
-        log.info("Request GET /bookings?state={} by userId={}", state, userId);
-        return bookingClient.getBookingsByState(userId, state);
+                                                     @RequestParam(required = false, defaultValue = "ALL") BookingStatus state,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "20") @Positive @Max(100) int size,
+                                                     @RequestParam(defaultValue = "compact") String view) {
+        log.info("Request GET /bookings?state={}&cursor={}&size={}&view={} by userId={}",
+                state, cursor, size, view, userId);
+        return bookingClient.getBookingsByState(userId, state, cursor, size, view);
     }
 
     @PostMapping
@@ -58,8 +63,12 @@ public class BookingController {
 
     @GetMapping("/owner")
     public ResponseEntity<Object> getBookingOwner(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                  @RequestParam(required = false, defaultValue = "ALL") String state) {
-        log.info("Request GET /bookingId/owner?state={} for X-Sharer-User-Id {}", state, userId);
-        return bookingClient.getBookingOwner(userId, state);
+                                                  @RequestParam(required = false, defaultValue = "ALL") String state,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "20") @Positive @Max(100) int size,
+                                                  @RequestParam(defaultValue = "compact") String view) {
+        log.info("Request GET /bookingId/owner?state={}&cursor={}&size={}&view={} for X-Sharer-User-Id {}",
+                state, cursor, size, view, userId);
+        return bookingClient.getBookingOwner(userId, state, cursor, size, view);
     }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free AIMD limit on concurrent server calls. Every call faster than the latency threshold grows the limit
+ * by one over a limit's worth of calls; every slower or failed call shrinks it by the backoff ratio. When the
+ * server slows down, the gateway sends it less work instead of queueing more.
+ */
+public class AdaptiveConcurrencyLimit implements MeterBinder {
+    private final ConcurrencyLimitProperties properties;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+
+    public AdaptiveConcurrencyLimit(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+        this.latencyThresholdNanos = properties.latencyThreshold().toNanos();
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(properties.initialLimit()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("gateway.concurrency-limit.limit", this, AdaptiveConcurrencyLimit::limit)
+                .description("Concurrent server calls currently allowed")
+                .register(registry);
+        Gauge.builder("gateway.concurrency-limit.in-flight", inFlight, AtomicInteger::get)
+                .description("Server calls in flight")
+                .register(registry);
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos, boolean failed) {
+        inFlight.decrementAndGet();
+        boolean slow = failed || latencyNanos > latencyThresholdNanos;
+        while (true) {
+            long bits = limitBits.get();
+            double limit = Double.longBitsToDouble(bits);
+            double updated = slow
+                    ? Math.max(properties.minLimit(), limit * properties.backoffRatio())
+                    : Math.min(properties.maxLimit(), limit + 1 / limit);
+            if (updated == limit || limitBits.compareAndSet(bits, Double.doubleToLongBits(updated))) {
+                return;
+            }
+        }
+    }
+
+    public double limit() {
+        return Double.longBitsToDouble(limitBits.get());
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -2,21 +2,60 @@ package ru.practicum.shareit.client;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Proxies gateway calls to the server. Response bodies are passed through as the raw bytes the server sent,
+ * together with its end-to-end headers, and never parsed by the gateway. Clients given a {@link ResponseCache}
+ * can revalidate single resources with the server instead of fetching them again, and fall back to the last
+ * good response while the server route is cut off by {@link ServerResilienceInterceptor} or the server is
+ * shed by {@link ConcurrencyLimitInterceptor}.
+ */
 public class BaseClient {
+    /*
+     * Hop-by-hop headers describe the upstream connection, not the response, and Content-Length is
+     * recomputed for the body written to the client.
+     */
+    private static final Set<String> NOT_FORWARDED_HEADERS = Set.of(
+            HttpHeaders.CONNECTION.toLowerCase(),
+            "keep-alive",
+            HttpHeaders.PROXY_AUTHENTICATE.toLowerCase(),
+            HttpHeaders.PROXY_AUTHORIZATION.toLowerCase(),
+            HttpHeaders.TE.toLowerCase(),
+            HttpHeaders.TRAILER.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.UPGRADE.toLowerCase(),
+            HttpHeaders.CONTENT_LENGTH.toLowerCase()
+    );
+
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     protected final RestTemplate rest;
+    private final ResponseCache responseCache;
+    private final RequestCoalescer coalescer;
 
     public BaseClient(RestTemplate rest) {
+        this(rest, null, null);
+    }
+
+    public BaseClient(RestTemplate rest, @Nullable ResponseCache responseCache, @Nullable RequestCoalescer coalescer) {
         this.rest = rest;
+        this.responseCache = responseCache;
+        this.coalescer = coalescer;
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -27,8 +66,74 @@ public class BaseClient {
         return get(path, userId, null);
     }
 
+    /**
+     * Identical concurrent lookups, with the same path, query and user, share one server call when the client
+     * has a {@link RequestCoalescer}. While the server route is cut off by its circuit breaker or bulkhead,
+     * the last good response is served instead, marked with a {@code Warning} header.
+     */
     protected ResponseEntity<Object> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
-        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+        return coalesced(path, userId, parameters, () -> fetch(path, userId, parameters));
+    }
+
+    /**
+     * Looks a single resource up, sending the tag of a cached copy as {@code If-None-Match} and reusing
+     * that copy when the server answers 304. The user is part of the cache key, as the server may show
+     * the same resource differently to its owner. Concurrent lookups are coalesced like {@link #get}.
+     */
+    protected ResponseEntity<Object> getRevalidated(String path, Long userId) {
+        return coalesced(path, userId, null, () -> revalidate(path, userId));
+    }
+
+    private ResponseEntity<Object> fetch(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        String key = key(path, userId, parameters);
+        try {
+            return remember(key, exchange(HttpMethod.GET, path, new HttpEntity<>(defaultHeaders(userId)), parameters));
+        } catch (CallNotPermittedException | BulkheadFullException | ConcurrencyLimitExceededException e) {
+            return stale(key);
+        }
+    }
+
+    private ResponseEntity<Object> revalidate(String path, Long userId) {
+        String key = key(path, userId, null);
+        ResponseCache.Entry cached = responseCache.get(key);
+        HttpHeaders headers = defaultHeaders(userId);
+        if (cached != null && cached.eTag() != null) {
+            headers.setIfNoneMatch(cached.eTag());
+        }
+
+        ResponseEntity<Object> response;
+        try {
+            response = exchange(HttpMethod.GET, path, new HttpEntity<>(headers), null);
+        } catch (CallNotPermittedException | BulkheadFullException | ConcurrencyLimitExceededException e) {
+            return stale(key);
+        }
+        if (cached != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            return cached.response();
+        }
+        return remember(key, response);
+    }
+
+    private ResponseEntity<Object> remember(String key, ResponseEntity<Object> response) {
+        if (responseCache != null) {
+            if (response.getStatusCode().isSameCodeAs(HttpStatus.OK)) {
+                responseCache.put(key, response.getHeaders().getETag(), response);
+            } else if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)
+                    || response.getStatusCode().isSameCodeAs(HttpStatus.GONE)) {
+                responseCache.evict(key);
+            }
+        }
+        return response;
+    }
+
+    private ResponseEntity<Object> stale(String key) {
+        ResponseCache.Entry cached = responseCache != null ? responseCache.get(key) : null;
+        if (cached == null) {
+            return unavailable();
+        }
+        return ResponseEntity.status(cached.response().getStatusCode())
+                .headers(cached.response().getHeaders())
+                .header(HttpHeaders.WARNING, STALE_WARNING)
+                .body(cached.response().getBody());
     }
 
     protected <T> ResponseEntity<Object> post(String path, T body) {
@@ -83,22 +188,54 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
+    private ResponseEntity<Object> coalesced(String path, Long userId, @Nullable Map<String, Object> parameters,
+                                             Supplier<ResponseEntity<Object>> call) {
+        if (coalescer == null) {
+            return call.get();
+        }
+        return coalescer.execute(key(path, userId, parameters), call);
+    }
+
+    private String key(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        String uri = (parameters != null
+                ? rest.getUriTemplateHandler().expand(path, parameters)
+                : rest.getUriTemplateHandler().expand(path)).toString();
+        return userId == null ? uri : uri + "@" + userId;
+    }
+
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+        try {
+            return exchange(method, path, new HttpEntity<>(body, defaultHeaders(userId)), parameters);
+        } catch (CallNotPermittedException | BulkheadFullException | ConcurrencyLimitExceededException e) {
+            return unavailable();
+        }
+    }
 
-        ResponseEntity<Object> shareitServerResponse;
+    /*
+     * Server errors become responses; calls refused by the circuit breaker, bulkhead or concurrency limit are
+     * left to the caller.
+     */
+    private ResponseEntity<Object> exchange(HttpMethod method, String path, HttpEntity<?> requestEntity,
+                                            @Nullable Map<String, Object> parameters) {
+        ResponseEntity<byte[]> shareitServerResponse;
         try {
             if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class, parameters);
             } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class);
             }
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return errorResponse(e);
         }
         return prepareGatewayResponse(shareitServerResponse);
     }
 
+    private static ResponseEntity<Object> unavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build();
+    }
+
     private HttpHeaders defaultHeaders(Long userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -109,12 +246,15 @@ public class BaseClient {
         return headers;
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
-        }
+    private static ResponseEntity<Object> errorResponse(HttpStatusCodeException e) {
+        return ResponseEntity.status(e.getStatusCode())
+                .headers(forwardedHeaders(e.getResponseHeaders()))
+                .body(e.getResponseBodyAsByteArray());
+    }
 
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
+    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<byte[]> response) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode())
+                .headers(forwardedHeaders(response.getHeaders()));
 
         if (response.hasBody()) {
             return responseBuilder.body(response.getBody());
@@ -122,4 +262,16 @@ public class BaseClient {
 
         return responseBuilder.build();
     }
+
+    private static HttpHeaders forwardedHeaders(@Nullable HttpHeaders upstream) {
+        HttpHeaders headers = new HttpHeaders();
+        if (upstream != null) {
+            upstream.forEach((name, values) -> {
+                if (!NOT_FORWARDED_HEADERS.contains(name.toLowerCase())) {
+                    headers.addAll(name, values);
+                }
+            });
+        }
+        return headers;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.client;
+
+/**
+ * Thrown instead of sending a server call that would exceed the {@link AdaptiveConcurrencyLimit}. Like a call
+ * refused by the circuit breaker or bulkhead, it is answered by {@link BaseClient} from its cache or with a 503.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+    public ConcurrencyLimitExceededException(String message) {
+        super(message, null, false, false);
+    }
+}
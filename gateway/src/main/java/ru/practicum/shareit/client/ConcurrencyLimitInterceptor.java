@@ -0,0 +1,36 @@
+package ru.practicum.shareit.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Holds server calls to the {@link AdaptiveConcurrencyLimit}. A call over the limit is not sent; it ends in
+ * {@link ConcurrencyLimitExceededException}, which {@link BaseClient} answers from its cache or with a 503.
+ * Server errors count as failed calls and shrink the limit.
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor {
+    private final AdaptiveConcurrencyLimit limit;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!limit.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException("Concurrency limit of server calls reached");
+        }
+        long startedAt = System.nanoTime();
+        boolean failed = true;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            failed = response.getStatusCode().is5xxServerError();
+            return response;
+        } finally {
+            limit.release(System.nanoTime() - startedAt, failed);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the adaptive limit on concurrent server calls.
+ *
+ * @param initialLimit     concurrent calls allowed at startup
+ * @param minLimit         the limit never shrinks below this
+ * @param maxLimit         the limit never grows above this; no point exceeding the connection pool
+ * @param latencyThreshold calls slower than this shrink the limit
+ * @param backoffRatio     the limit is multiplied by this on every slow or failed call
+ */
+@ConfigurationProperties("shareit-server.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("100") int initialLimit,
+        @DefaultValue("10") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("500ms") Duration latencyThreshold,
+        @DefaultValue("0.9") double backoffRatio) {
+}
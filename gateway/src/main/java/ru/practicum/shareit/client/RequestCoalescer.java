@@ -0,0 +1,89 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent server calls: the first caller for a key makes the call and every caller
+ * arriving while it is in flight gets the same response.
+ * <p>
+ * Callers wait for the shared call at most {@code shareit-server.coalescing.max-wait}, then make their own.
+ * The in-flight table is a {@link ConcurrentHashMap}, which locks per bin, so callers for different keys do
+ * not contend. Calls are counted in {@code gateway.coalescing.calls} tagged {@code role}: {@code leader} made
+ * a server call, {@code follower} shared one and {@code timeout} gave up waiting and made its own.
+ */
+@Component
+public class RequestCoalescer {
+    private final ConcurrentHashMap<String, CompletableFuture<ResponseEntity<Object>>> inFlight =
+            new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter timeouts;
+
+    public RequestCoalescer(@Value("${shareit-server.coalescing.max-wait:2s}") Duration maxWait,
+                            MeterRegistry registry) {
+        this.maxWaitNanos = maxWait.toNanos();
+        this.leaders = calls(registry, "leader");
+        this.followers = calls(registry, "follower");
+        this.timeouts = calls(registry, "timeout");
+        Gauge.builder("gateway.coalescing.in-flight", inFlight, ConcurrentHashMap::size)
+                .description("Distinct server calls currently shared by coalesced requests")
+                .register(registry);
+    }
+
+    public ResponseEntity<Object> execute(String key, Supplier<ResponseEntity<Object>> call) {
+        CompletableFuture<ResponseEntity<Object>> own = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> shared = inFlight.putIfAbsent(key, own);
+        if (shared == null) {
+            leaders.increment();
+            try {
+                ResponseEntity<Object> response = call.get();
+                own.complete(response);
+                return response;
+            } catch (RuntimeException e) {
+                own.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, own);
+            }
+        }
+
+        try {
+            ResponseEntity<Object> response = shared.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            followers.increment();
+            return response;
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            return call.get();
+        } catch (ExecutionException e) {
+            followers.increment();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a coalesced call", e);
+        }
+    }
+
+    private static Counter calls(MeterRegistry registry, String role) {
+        return Counter.builder("gateway.coalescing.calls")
+                .description("Gateway GET requests by how they reached the server")
+                .tag("role", role)
+                .register(registry);
+    }
+}
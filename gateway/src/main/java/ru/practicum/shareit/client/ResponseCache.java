@@ -0,0 +1,58 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of the last good server responses to lookups, kept together with their {@code ETag}.
+ * <p>
+ * Entries are never served without asking the server while it answers: the client sends the tag as
+ * {@code If-None-Match} and reuses the cached body only on 304, so a changed resource is refetched on the next
+ * lookup. Only while the server route is cut off by its circuit breaker or bulkhead are entries served as they
+ * are, marked stale. Entries are weighed by their body size and evicted once the total exceeds
+ * {@code shareit-server.cache.maximum-weight} bytes.
+ */
+@Component
+public class ResponseCache implements MeterBinder {
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final Cache<String, Entry> cache;
+
+    public ResponseCache(@Value("${shareit-server.cache.maximum-weight:16777216}") long maximumWeight) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((String key, Entry entry) -> ENTRY_OVERHEAD + entry.length())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "gateway.responses");
+    }
+
+    Entry get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    void put(String key, @Nullable String eTag, ResponseEntity<Object> response) {
+        cache.put(key, new Entry(eTag, response));
+    }
+
+    void evict(String key) {
+        cache.invalidate(key);
+    }
+
+    record Entry(@Nullable String eTag, ResponseEntity<Object> response) {
+        int length() {
+            return response.getBody() instanceof byte[] body ? body.length : 0;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * One pooled HTTP client shared by every client of the server, so they draw on the same connections.
+ * Pool usage is exported as {@code httpcomponents.httpclient.pool.*} meters tagged {@code httpclient=shareit-server}.
+ * Calls through it pass the bulkhead and circuit breaker of their route, then one {@link AdaptiveConcurrencyLimit}.
+ */
+@Configuration
+@EnableConfigurationProperties({ServerHttpClientProperties.class, ConcurrencyLimitProperties.class,
+        ServerResilienceProperties.class})
+public class ServerHttpClientConfig {
+    static final String POOL_NAME = "shareit-server";
+
+    @Bean
+    TimedConnectionManager serverConnectionManager(ServerHttpClientProperties properties, MeterRegistry registry) {
+        TimedConnectionManager connectionManager = new TimedConnectionManager(registry, POOL_NAME);
+        connectionManager.setMaxTotal(properties.maxTotal());
+        connectionManager.setDefaultMaxPerRoute(properties.maxPerRoute());
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(properties.connectTimeout()))
+                .setSocketTimeout(Timeout.of(properties.responseTimeout()))
+                .setValidateAfterInactivity(TimeValue.of(properties.validateAfterInactivity()))
+                .build());
+        return connectionManager;
+    }
+
+    @Bean
+    MeterBinder serverConnectionPoolMetrics(TimedConnectionManager serverConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(serverConnectionManager, POOL_NAME);
+    }
+
+    @Bean(destroyMethod = "close")
+    CloseableHttpClient serverHttpClient(TimedConnectionManager serverConnectionManager,
+                                         ServerHttpClientProperties properties) {
+        TimeValue keepAlive = TimeValue.of(properties.keepAlive());
+        return HttpClients.custom()
+                .setConnectionManager(serverConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.connectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.responseTimeout()))
+                        .build())
+                .setKeepAliveStrategy(new DefaultConnectionKeepAliveStrategy() {
+                    @Override
+                    public TimeValue getKeepAliveDuration(HttpResponse response, HttpContext context) {
+                        return super.getKeepAliveDuration(response, context).min(keepAlive);
+                    }
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.evictIdleAfter()))
+                .build();
+    }
+
+    @Bean
+    ClientHttpRequestFactory serverRequestFactory(CloseableHttpClient serverHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(serverHttpClient);
+    }
+
+    @Bean
+    AdaptiveConcurrencyLimit serverConcurrencyLimit(ConcurrencyLimitProperties properties) {
+        return new AdaptiveConcurrencyLimit(properties);
+    }
+
+    @Bean
+    ServerResilience serverResilience(ServerResilienceProperties properties) {
+        return new ServerResilience(properties);
+    }
+
+    /*
+     * One customizer, so the route's bulkhead and circuit breaker always come first and a call they refuse
+     * never takes a place under the concurrency limit. Calls the limit sheds are left out of the circuit
+     * breaker's statistics.
+     */
+    @Bean
+    RestTemplateCustomizer serverCallCustomizer(ServerResilience serverResilience,
+                                                AdaptiveConcurrencyLimit serverConcurrencyLimit) {
+        return rest -> {
+            rest.getInterceptors().add(new ServerResilienceInterceptor(serverResilience));
+            rest.getInterceptors().add(new ConcurrencyLimitInterceptor(serverConcurrencyLimit));
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the connection pool shared by all clients of the server.
+ *
+ * @param maxTotal                 connections open to the server at most, across all routes
+ * @param maxPerRoute              connections open to one host at most; every client talks to the same host
+ * @param connectTimeout           time to establish a new connection
+ * @param responseTimeout          time to wait for response data once a request is sent
+ * @param connectionRequestTimeout time to wait for a free connection when the pool is exhausted
+ * @param keepAlive                how long an idle connection may be reused when the server does not say
+ * @param evictIdleAfter           idle connections older than this are closed by a background evictor
+ * @param validateAfterInactivity  idle connections older than this are checked before they are reused
+ */
+@ConfigurationProperties("shareit-server.http")
+public record ServerHttpClientProperties(
+        @DefaultValue("200") int maxTotal,
+        @DefaultValue("200") int maxPerRoute,
+        @DefaultValue("2s") Duration connectTimeout,
+        @DefaultValue("30s") Duration responseTimeout,
+        @DefaultValue("5s") Duration connectionRequestTimeout,
+        @DefaultValue("30s") Duration keepAlive,
+        @DefaultValue("30s") Duration evictIdleAfter,
+        @DefaultValue("2s") Duration validateAfterInactivity) {
+}
@@ -0,0 +1,77 @@
+package ru.practicum.shareit.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Circuit breakers and bulkheads of the server routes, created on the first call of a route. A route failing
+ * or slowing down has its circuit opened and its calls refused for a while, and holds at most its bulkhead's
+ * share of the connection pool, so a slow {@code /bookings} cannot take the connections {@code /items} needs.
+ * Besides the {@code resilience4j.*} meters, state changes are counted as {@code gateway.circuit-breaker.transitions}
+ * and refused calls as {@code gateway.circuit-breaker.rejected} and {@code gateway.bulkhead.rejected}.
+ */
+public class ServerResilience implements MeterBinder {
+    private final ServerResilienceProperties properties;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final BulkheadRegistry bulkheads;
+
+    public ServerResilience(ServerResilienceProperties properties) {
+        this.properties = properties;
+        this.circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.failureRateThreshold())
+                .slowCallRateThreshold(properties.slowCallRateThreshold())
+                .slowCallDurationThreshold(properties.slowCallDuration())
+                .slidingWindowSize(properties.slidingWindowSize())
+                .minimumNumberOfCalls(properties.minimumNumberOfCalls())
+                .waitDurationInOpenState(properties.waitInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.permittedCallsInHalfOpenState())
+                .automaticTransitionFromOpenToHalfOpenEnabled(false)
+                .build());
+        this.bulkheads = BulkheadRegistry.ofDefaults();
+    }
+
+    CircuitBreaker circuitBreaker(String route) {
+        return circuitBreakers.circuitBreaker(route);
+    }
+
+    Bulkhead bulkhead(String route) {
+        return bulkheads.bulkhead(route, () -> BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.maxConcurrentCallsOf(route))
+                .maxWaitDuration(properties.maxWait())
+                .build());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(registry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(registry);
+
+        circuitBreakers.getAllCircuitBreakers().forEach(circuitBreaker -> countEvents(circuitBreaker, registry));
+        circuitBreakers.getEventPublisher().onEntryAdded(event -> countEvents(event.getAddedEntry(), registry));
+        bulkheads.getAllBulkheads().forEach(bulkhead -> countEvents(bulkhead, registry));
+        bulkheads.getEventPublisher().onEntryAdded(event -> countEvents(event.getAddedEntry(), registry));
+    }
+
+    private static void countEvents(CircuitBreaker circuitBreaker, MeterRegistry registry) {
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> registry.counter("gateway.circuit-breaker.transitions",
+                        "route", circuitBreaker.getName(),
+                        "from", event.getStateTransition().getFromState().name(),
+                        "to", event.getStateTransition().getToState().name()).increment())
+                .onCallNotPermitted(event -> registry.counter("gateway.circuit-breaker.rejected",
+                        "route", circuitBreaker.getName()).increment());
+    }
+
+    private static void countEvents(Bulkhead bulkhead, MeterRegistry registry) {
+        bulkhead.getEventPublisher().onCallRejected(event -> registry.counter("gateway.bulkhead.rejected",
+                "route", bulkhead.getName()).increment());
+    }
+}
@@ -0,0 +1,69 @@
+package ru.practicum.shareit.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Passes server calls through the bulkhead and circuit breaker of their route. A refused call is not sent;
+ * it ends in {@code BulkheadFullException} or {@code CallNotPermittedException}, which {@link BaseClient}
+ * answers from its cache or with a 503. Server errors and I/O failures count as failed calls. Calls the
+ * {@link ConcurrencyLimitInterceptor} behind it sheds never reached the server and are not counted at all,
+ * so they cannot outweigh the slow calls of a struggling server and keep its circuit closed.
+ */
+@RequiredArgsConstructor
+public class ServerResilienceInterceptor implements ClientHttpRequestInterceptor {
+    private static final String ROOT_ROUTE = "root";
+
+    private final ServerResilience resilience;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String route = routeOf(request);
+        Bulkhead bulkhead = resilience.bulkhead(route);
+        CircuitBreaker circuitBreaker = resilience.circuitBreaker(route);
+
+        bulkhead.acquirePermission();
+        try {
+            circuitBreaker.acquirePermission();
+            long startedAt = System.nanoTime();
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                long duration = System.nanoTime() - startedAt;
+                if (response.getStatusCode().is5xxServerError()) {
+                    circuitBreaker.onError(duration, TimeUnit.NANOSECONDS,
+                            new HttpServerErrorException(response.getStatusCode()));
+                } else {
+                    circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+                }
+                return response;
+            } catch (ConcurrencyLimitExceededException e) {
+                circuitBreaker.releasePermission();
+                throw e;
+            } catch (IOException | RuntimeException e) {
+                circuitBreaker.onError(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS, e);
+                throw e;
+            }
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    static String routeOf(HttpRequest request) {
+        String path = request.getURI().getPath();
+        if (path == null || path.length() <= 1) {
+            return ROOT_ROUTE;
+        }
+        int end = path.indexOf('/', 1);
+        return end < 0 ? path.substring(1) : path.substring(1, end);
+    }
+}
@@ -0,0 +1,44 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Settings of the circuit breaker and bulkhead every server route gets, a route being the first path segment
+ * such as {@code bookings} or {@code items}.
+ *
+ * @param failureRateThreshold          percentage of failed calls that opens the circuit
+ * @param slowCallRateThreshold         percentage of slow calls that opens the circuit
+ * @param slowCallDuration              calls slower than this count as slow
+ * @param slidingWindowSize             recent calls the rates are computed over
+ * @param minimumNumberOfCalls          calls needed in the window before the rates are considered
+ * @param waitInOpenState               how long an open circuit refuses calls before letting trial calls through
+ * @param permittedCallsInHalfOpenState trial calls that decide whether the circuit closes again
+ * @param maxConcurrentCalls            calls one route may have in flight at once
+ * @param maxWait                       how long a call waits for a place in a full bulkhead before it is refused
+ * @param routes                        concurrent calls of routes that differ from the default, keyed by route
+ */
+@ConfigurationProperties("shareit-server.resilience")
+public record ServerResilienceProperties(
+        @DefaultValue("50") float failureRateThreshold,
+        @DefaultValue("80") float slowCallRateThreshold,
+        @DefaultValue("2s") Duration slowCallDuration,
+        @DefaultValue("50") int slidingWindowSize,
+        @DefaultValue("20") int minimumNumberOfCalls,
+        @DefaultValue("10s") Duration waitInOpenState,
+        @DefaultValue("5") int permittedCallsInHalfOpenState,
+        @DefaultValue("100") int maxConcurrentCalls,
+        @DefaultValue("0ms") Duration maxWait,
+        Map<String, Integer> routes) {
+
+    public ServerResilienceProperties {
+        routes = routes == null ? Map.of() : Map.copyOf(routes);
+    }
+
+    int maxConcurrentCallsOf(String route) {
+        return routes.getOrDefault(route, maxConcurrentCalls);
+    }
+}
@@ -0,0 +1,62 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.Timeout;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Pooling connection manager that records how long requests wait to lease a connection in
+ * {@code httpcomponents.httpclient.pool.lease}, tagged with the outcome.
+ */
+class TimedConnectionManager extends PoolingHttpClientConnectionManager {
+    static final String LEASE_TIMER = "httpcomponents.httpclient.pool.lease";
+
+    private final Timer leased;
+    private final Timer timedOut;
+
+    TimedConnectionManager(MeterRegistry registry, String poolName) {
+        this.leased = timer(registry, poolName, "leased");
+        this.timedOut = timer(registry, poolName, "timeout");
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest request = super.lease(id, route, requestTimeout, state);
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                long startedAt = System.nanoTime();
+                try {
+                    ConnectionEndpoint endpoint = request.get(timeout);
+                    leased.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    return endpoint;
+                } catch (TimeoutException e) {
+                    timedOut.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    throw e;
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return request.cancel();
+            }
+        };
+    }
+
+    private static Timer timer(MeterRegistry registry, String poolName, String outcome) {
+        return Timer.builder(LEASE_TIMER)
+                .description("Time spent waiting to lease a connection from the pool")
+                .tag("httpclient", poolName)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -4,10 +4,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.comment.CommentDto;
 
 import java.util.Map;
@@ -19,12 +21,16 @@ public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory serverRequestFactory, ResponseCache responseCache,
+                      RequestCoalescer coalescer) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> serverRequestFactory)
+                        .build(),
+                responseCache,
+                coalescer
         );
     }
 
@@ -32,20 +38,29 @@ public class ItemClient extends BaseClient {
         return post("", userId, itemDto);
     }
 
-    public ResponseEntity<Object> getAll(long userId) {
-        return get("/", userId);
+    public ResponseEntity<Object> getAll(long userId, String cursor, int size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor == null ? "" : cursor,
+                "size", size
+        );
+        return get("?cursor={cursor}&size={size}", userId, parameters);
     }
 
     public ResponseEntity<Object> getById(long itemId, long userId) {
-        return get("/" + itemId, userId);
+        return getRevalidated("/" + itemId, userId);
     }
 
-    public ResponseEntity<Object> patch(long itemId, ItemDto itemDto) {
-        return patch("/" + itemId, itemDto);
+    public ResponseEntity<Object> patch(long itemId, ItemDto itemDto, long userId) {
+        return patch("/" + itemId, userId, itemDto);
     }
 
-    public ResponseEntity<Object> getText(String text) {
-        return get("/search", null, Map.of("text", text));
+    public ResponseEntity<Object> getText(String text, int from, int size) {
+        Map<String, Object> parameters = Map.of(
+                "text", text,
+                "from", from,
+                "size", size
+        );
+        return get("/search?text={text}&from={from}&size={size}", null, parameters);
     }
 
     public ResponseEntity<Object> createComment(Long itemId, CommentDto comment, Long userId) {
@@ -1,6 +1,9 @@
 package ru.practicum.shareit.item;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -41,13 +44,15 @@ public class ItemController {
             @NotNull(message = "Item id cannot be null") @PathVariable Long id,
             @Validated(Update.class) @RequestBody ItemDto itemDto) {
         log.info("Request PATCH /items/{} with X-Sharer-User-Id: {}", id, userId);
-        return itemClient.patch(userId, itemDto);
+        return itemClient.patch(id, itemDto, userId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAll(@RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("Request GET /items from user {}", userId);
-        return itemClient.getAll(userId);
+    public ResponseEntity<Object> getAll(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "20") @Positive @Max(100) int size) {
+        log.info("Request GET /items from user {} cursor={} size={}", userId, cursor, size);
+        return itemClient.getAll(userId, cursor, size);
     }
 
     @GetMapping("/{itemId}")
@@ -58,9 +63,11 @@ public class ItemController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> getItem(@RequestParam String text) {
-        log.info("Request GET /search: {}", text);
-        return itemClient.getText(text);
+    public ResponseEntity<Object> getItem(@RequestParam String text,
+                                          @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+                                          @RequestParam(defaultValue = "20") @Positive @Max(100) int size) {
+        log.info("Request GET /search: {} from={} size={}", text, from, size);
+        return itemClient.getText(text, from, size);
     }
 
     @PostMapping("{itemId}/comment")
@@ -3,7 +3,6 @@ package ru.practicum.shareit.item;
 import lombok.Builder;
 import lombok.Data;
 import ru.practicum.shareit.comment.CommentDto;
-import ru.practicum.shareit.request.ItemRequestDto;
 import ru.practicum.shareit.user.UserDto;
 
 import java.time.LocalDateTime;
@@ -20,7 +19,6 @@ public class ItemDto {
     private String description;
     private Boolean available;
     private UserDto owner;
-    private ItemRequestDto request;
     private Long requestId;
     private List<CommentDto> comments;
     private LocalDateTime lastBooking;     // Последнее завершенное бронирование
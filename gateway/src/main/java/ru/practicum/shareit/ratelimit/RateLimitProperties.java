@@ -0,0 +1,37 @@
+package ru.practicum.shareit.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Token bucket limits of the gateway, applied per user and route.
+ *
+ * @param capacity        requests a user may burst on one route
+ * @param refillPerSecond requests a user may sustain on one route
+ * @param routes          limits of routes that differ from the default, keyed by route pattern such as
+ *                        {@code /bookings/owner}
+ * @param idleAfter       buckets not used for this long are evicted
+ * @param maxBuckets      buckets kept at most, the least recently used are evicted first
+ */
+@ConfigurationProperties("shareit-gateway.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("50") int capacity,
+        @DefaultValue("25") double refillPerSecond,
+        Map<String, Limit> routes,
+        @DefaultValue("10m") Duration idleAfter,
+        @DefaultValue("100000") long maxBuckets) {
+
+    public RateLimitProperties {
+        routes = routes == null ? Map.of() : Map.copyOf(routes);
+    }
+
+    Limit limitOf(String route) {
+        return routes.getOrDefault(route, new Limit(capacity, refillPerSecond));
+    }
+
+    public record Limit(int capacity, double refillPerSecond) {
+    }
+}
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets per user and route. Buckets live in a bounded cache: idle ones expire after
+ * {@code shareit-gateway.rate-limit.idle-after} and at most {@code max-buckets} are kept, so memory stays
+ * bounded however many users show up. Rejections are counted in {@code gateway.rate-limit.rejected}
+ * tagged with the route.
+ */
+public class RateLimiter implements MeterBinder {
+    private final RateLimitProperties properties;
+    private final LongSupplier clock;
+    private final Cache<String, TokenBucket> buckets;
+    private volatile MeterRegistry registry;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitProperties properties, LongSupplier clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(properties.idleAfter())
+                .maximumSize(properties.maxBuckets())
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("gateway.rate-limit.buckets", buckets, Cache::estimatedSize)
+                .description("Token buckets of active users and routes")
+                .register(registry);
+    }
+
+    /**
+     * Takes a token from the bucket of the user on the route.
+     *
+     * @return 0 when the request may pass, otherwise nanoseconds until it may be retried
+     */
+    public long tryAcquire(String user, String route) {
+        long now = clock.getAsLong();
+        long waitNanos = buckets.get(user + " " + route, key -> {
+            RateLimitProperties.Limit limit = properties.limitOf(route);
+            return new TokenBucket(limit.capacity(), limit.refillPerSecond(), now);
+        }).tryAcquire(now);
+        MeterRegistry meterRegistry = registry;
+        if (waitNanos > 0 && meterRegistry != null) {
+            meterRegistry.counter("gateway.rate-limit.rejected", "route", route).increment();
+        }
+        return waitNanos;
+    }
+}
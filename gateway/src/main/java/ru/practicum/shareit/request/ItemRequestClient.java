@@ -4,10 +4,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResponseCache;
+
+import java.util.Map;
 
 @Service
 public class ItemRequestClient extends BaseClient {
@@ -15,12 +19,16 @@ public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                             ClientHttpRequestFactory serverRequestFactory, ResponseCache responseCache,
+                             RequestCoalescer coalescer) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> serverRequestFactory)
+                        .build(),
+                responseCache,
+                coalescer
         );
     }
 
@@ -28,15 +36,23 @@ public class ItemRequestClient extends BaseClient {
         return post("", userId, itemRequestDto);
     }
 
-    public ResponseEntity<Object> getAll(long userId) {
-        return get("/all", userId);
+    public ResponseEntity<Object> getAll(long userId, String cursor, int size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor == null ? "" : cursor,
+                "size", size
+        );
+        return get("/all?cursor={cursor}&size={size}", userId, parameters);
     }
 
     public ResponseEntity<Object> getById(long itemRequestId, long userId) {
-        return get("/" + itemRequestId, userId);
+        return getRevalidated("/" + itemRequestId, userId);
     }
 
-    public ResponseEntity<Object> getAllByUser(Long userId) {
-        return get("", userId);
+    public ResponseEntity<Object> getAllByUser(Long userId, String cursor, int size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor == null ? "" : cursor,
+                "size", size
+        );
+        return get("?cursor={cursor}&size={size}", userId, parameters);
     }
 }
\ No newline at end of file
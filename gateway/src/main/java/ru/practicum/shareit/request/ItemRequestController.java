@@ -1,5 +1,7 @@
 package ru.practicum.shareit.request;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import ru.practicum.shareit.validator.Create;
@@ -33,15 +36,19 @@ public class ItemRequestController {
     }
 
     @GetMapping
-    public ResponseEntity<Object> getUserRequests(@RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("Request GET /requests with X-Sharer-User-Id: {}", userId);
-        return itemRequestClient.getAllByUser(userId);
+    public ResponseEntity<Object> getUserRequests(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(defaultValue = "20") @Positive @Max(100) int size) {
+        log.info("Request GET /requests with X-Sharer-User-Id: {} cursor={} size={}", userId, cursor, size);
+        return itemRequestClient.getAllByUser(userId, cursor, size);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAll(@RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("Request GET /requests/all with X-Sharer-User-Id: {}", userId);
-        return itemRequestClient.getAll(userId);
+    public ResponseEntity<Object> getAll(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "20") @Positive @Max(100) int size) {
+        log.info("Request GET /requests/all with X-Sharer-User-Id: {} cursor={} size={}", userId, cursor, size);
+        return itemRequestClient.getAll(userId, cursor, size);
     }
 
     @GetMapping("/{requestId}")
@@ -12,6 +12,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 
 import static org.mockito.Mockito.when;
@@ -34,7 +35,7 @@ public class BookingControllerTests {
         String state = String.valueOf(BookingStatus.APPROVED);
         ResponseEntity<Object> expectedResponse = ResponseEntity.ok("mocked response");
 
-        when(bookingClient.getBookingsByState(userId, BookingStatus.valueOf(state))).thenReturn(expectedResponse);
+        when(bookingClient.getBookingsByState(userId, BookingStatus.valueOf(state), null, 20, "compact")).thenReturn(expectedResponse);
 
         mockMvc.perform(MockMvcRequestBuilders.get("/bookings")
                         .header("X-Sharer-User-Id", userId)
@@ -42,7 +43,7 @@ public class BookingControllerTests {
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().string("mocked response"));
 
-        Mockito.verify(bookingClient).getBookingsByState(userId, BookingStatus.valueOf(state));
+        Mockito.verify(bookingClient).getBookingsByState(userId, BookingStatus.valueOf(state), null, 20, "compact");
     }
 
     @Test
@@ -55,6 +56,42 @@ public class BookingControllerTests {
                 .andExpect(MockMvcResultMatchers.status().isBadRequest());
     }
 
+    @Test
+    public void testGetBookingsByState_FullView_ShouldPassViewToServer() throws Exception {
+        long userId = 1L;
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok("mocked response");
+
+        when(bookingClient.getBookingsByState(userId, BookingStatus.ALL, null, 20, "full")).thenReturn(expectedResponse);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/bookings")
+                        .header("X-Sharer-User-Id", userId)
+                        .param("view", "full"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(bookingClient).getBookingsByState(userId, BookingStatus.ALL, null, 20, "full");
+    }
+
+    @Test
+    public void testGetBookingsByState_ServerBytes_ShouldBeWrittenUnchanged() throws Exception {
+        long userId = 1L;
+        byte[] body = "[{\"id\":1,\"status\":\"WAITING\"}]".getBytes(StandardCharsets.UTF_8);
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Next-Cursor", "next")
+                .body(body);
+
+        when(bookingClient.getBookingsByState(userId, BookingStatus.ALL, null, 20, "compact"))
+                .thenReturn(expectedResponse);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/bookings")
+                        .header("X-Sharer-User-Id", userId))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.header().string("X-Next-Cursor", "next"))
+                .andExpect(MockMvcResultMatchers.content().bytes(body))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].status").value("WAITING"));
+    }
+
     @Test
     public void testCreateBooking() throws Exception {
         long userId = 1L;
@@ -108,7 +145,7 @@ public class BookingControllerTests {
 
         ResponseEntity<Object> expectedResponse = ResponseEntity.ok("Owner's bookings list");
 
-        Mockito.when(bookingClient.getBookingOwner(Mockito.eq(userId), Mockito.eq(state)))
+        Mockito.when(bookingClient.getBookingOwner(Mockito.eq(userId), Mockito.eq(state), Mockito.isNull(), Mockito.eq(20), Mockito.eq("compact")))
                 .thenReturn(expectedResponse);
 
         mockMvc.perform(MockMvcRequestBuilders.get("/bookings/owner")
@@ -117,7 +154,7 @@ public class BookingControllerTests {
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().string("Owner's bookings list"));
 
-        Mockito.verify(bookingClient).getBookingOwner(Mockito.eq(userId), Mockito.eq(state));
+        Mockito.verify(bookingClient).getBookingOwner(Mockito.eq(userId), Mockito.eq(state), Mockito.isNull(), Mockito.eq(20), Mockito.eq("compact"));
     }
 }
 
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimitTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(1);
+
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+            new ConcurrencyLimitProperties(4, 2, 8, Duration.ofMillis(500), 0.5));
+
+    @Test
+    void tryAcquire_AtLimit_ShouldReject() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limit.tryAcquire());
+        }
+
+        assertFalse(limit.tryAcquire());
+        assertEquals(4, limit.inFlight());
+    }
+
+    @Test
+    void release_SlowCalls_ShouldShrinkLimitDownToMinimum() {
+        limit.tryAcquire();
+        limit.release(SLOW, false);
+        assertEquals(2.0, limit.limit());
+
+        limit.tryAcquire();
+        limit.release(SLOW, false);
+        assertEquals(2.0, limit.limit());
+    }
+
+    @Test
+    void release_FailedCall_ShouldShrinkLimit() {
+        limit.tryAcquire();
+        limit.release(FAST, true);
+
+        assertEquals(2.0, limit.limit());
+    }
+
+    @Test
+    void release_FastCalls_ShouldGrowLimitUpToMaximum() {
+        for (int i = 0; i < 1000; i++) {
+            limit.tryAcquire();
+            limit.release(FAST, false);
+        }
+
+        assertEquals(8.0, limit.limit());
+        assertEquals(0, limit.inFlight());
+    }
+}
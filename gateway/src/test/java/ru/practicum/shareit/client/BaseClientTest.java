@@ -0,0 +1,229 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class BaseClientTest {
+    private static final byte[] BODY = "[{\"id\":1,\"name\":\"Дрель\",\"price\":1.50}]".getBytes(StandardCharsets.UTF_8);
+
+    private MockRestServiceServer server;
+    private BaseClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate rest = new RestTemplate();
+        rest.setUriTemplateHandler(new DefaultUriBuilderFactory("http://server/items"));
+        server = MockRestServiceServer.bindTo(rest).build();
+        client = new BaseClient(rest, new ResponseCache(1_000_000), null);
+    }
+
+    @Test
+    void get_ShouldPassBodyBytesAndEndToEndHeadersThrough() {
+        HttpHeaders upstream = new HttpHeaders();
+        upstream.set("X-Next-Cursor", "abc");
+        upstream.set(HttpHeaders.CONNECTION, "keep-alive");
+        upstream.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        server.expect(requestTo("http://server/items?size=20"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header("X-Sharer-User-Id", "7"))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(upstream));
+
+        ResponseEntity<Object> response = client.get("?size={size}", 7L, Map.of("size", 20));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(BODY, (byte[]) response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("abc", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.CONNECTION));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+        server.verify();
+    }
+
+    @Test
+    void get_ErrorResponse_ShouldKeepStatusAndBody() {
+        byte[] error = "{\"error\":\"Item not found\"}".getBytes(StandardCharsets.UTF_8);
+        server.expect(requestTo("http://server/items/99"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(error));
+
+        ResponseEntity<Object> response = client.get("/99", 7L);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertArrayEquals(error, (byte[]) response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void delete_EmptyResponse_ShouldHaveNoBody() {
+        server.expect(requestTo("http://server/items/1"))
+                .andExpect(method(HttpMethod.DELETE))
+                .andRespond(withSuccess());
+
+        ResponseEntity<Object> response = client.delete("/1", 7L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void getRevalidated_NotModified_ShouldReuseCachedBody() {
+        server.expect(requestTo("http://server/items/1"))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(eTag("\"v1\"")));
+        server.expect(requestTo("http://server/items/1"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED).headers(eTag("\"v1\"")));
+
+        client.getRevalidated("/1", 7L);
+        ResponseEntity<Object> response = client.getRevalidated("/1", 7L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(BODY, (byte[]) response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        server.verify();
+    }
+
+    @Test
+    void getRevalidated_Modified_ShouldReturnNewBody() {
+        byte[] updated = "{\"id\":1,\"name\":\"Перфоратор\"}".getBytes(StandardCharsets.UTF_8);
+        server.expect(requestTo("http://server/items/1"))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(eTag("\"v1\"")));
+        server.expect(requestTo("http://server/items/1"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withSuccess(updated, MediaType.APPLICATION_JSON).headers(eTag("\"v2\"")));
+        server.expect(requestTo("http://server/items/1"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v2\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        client.getRevalidated("/1", 7L);
+        assertArrayEquals(updated, (byte[]) client.getRevalidated("/1", 7L).getBody());
+        assertArrayEquals(updated, (byte[]) client.getRevalidated("/1", 7L).getBody());
+        server.verify();
+    }
+
+    @Test
+    void getRevalidated_OtherUser_ShouldNotSeeCachedCopy() {
+        server.expect(requestTo("http://server/items/1"))
+                .andExpect(header("X-Sharer-User-Id", "7"))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(eTag("\"owner\"")));
+        server.expect(requestTo("http://server/items/1"))
+                .andExpect(header("X-Sharer-User-Id", "8"))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(eTag("\"viewer\"")));
+
+        client.getRevalidated("/1", 7L);
+        client.getRevalidated("/1", 8L);
+
+        server.verify();
+    }
+
+    @Test
+    void getRevalidated_ErrorResponse_ShouldDropCachedCopy() {
+        server.expect(requestTo("http://server/items/1"))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(eTag("\"v1\"")));
+        server.expect(requestTo("http://server/items/1"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        server.expect(requestTo("http://server/items/1"))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        client.getRevalidated("/1", 7L);
+        assertEquals(HttpStatus.NOT_FOUND, client.getRevalidated("/1", 7L).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, client.getRevalidated("/1", 7L).getStatusCode());
+        server.verify();
+    }
+
+    @Test
+    void getRevalidated_ForbiddenResponse_ShouldKeepCachedCopy() {
+        server.expect(requestTo("http://server/items/1"))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(eTag("\"v1\"")));
+        server.expect(requestTo("http://server/items/1"))
+                .andRespond(withStatus(HttpStatus.FORBIDDEN));
+        server.expect(requestTo("http://server/items/1"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        client.getRevalidated("/1", 7L);
+        assertEquals(HttpStatus.FORBIDDEN, client.getRevalidated("/1", 7L).getStatusCode());
+        assertArrayEquals(BODY, (byte[]) client.getRevalidated("/1", 7L).getBody());
+        server.verify();
+    }
+
+    @Test
+    void get_OverConcurrencyLimit_ShouldBeServiceUnavailableWithoutServerCall() {
+        AdaptiveConcurrencyLimit limit = limit();
+        RestTemplate rest = limitedRest(limit);
+        MockRestServiceServer limitedServer = MockRestServiceServer.bindTo(rest).build();
+        limit.tryAcquire();
+
+        ResponseEntity<Object> response = new BaseClient(rest).get("/1", 7L);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        limitedServer.verify();
+    }
+
+    @Test
+    void getRevalidated_OverConcurrencyLimit_ShouldServeCachedCopy() {
+        AdaptiveConcurrencyLimit limit = limit();
+        RestTemplate rest = limitedRest(limit);
+        MockRestServiceServer limitedServer = MockRestServiceServer.bindTo(rest).build();
+        limitedServer.expect(requestTo("http://server/items/1"))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(eTag("\"v1\"")));
+        limitedServer.expect(requestTo("http://server/items/1"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+        BaseClient limitedClient = new BaseClient(rest, new ResponseCache(1_000_000), null);
+
+        limitedClient.getRevalidated("/1", 7L);
+        limit.tryAcquire();
+        ResponseEntity<Object> stale = limitedClient.getRevalidated("/1", 7L);
+        limit.release(0, false);
+        ResponseEntity<Object> revalidated = limitedClient.getRevalidated("/1", 7L);
+
+        assertEquals(HttpStatus.OK, stale.getStatusCode());
+        assertArrayEquals(BODY, (byte[]) stale.getBody());
+        assertEquals("110 - \"Response is Stale\"", stale.getHeaders().getFirst(HttpHeaders.WARNING));
+        assertArrayEquals(BODY, (byte[]) revalidated.getBody());
+        limitedServer.verify();
+    }
+
+    private static AdaptiveConcurrencyLimit limit() {
+        return new AdaptiveConcurrencyLimit(new ConcurrencyLimitProperties(1, 1, 1, Duration.ofMillis(500), 0.9));
+    }
+
+    private static RestTemplate limitedRest(AdaptiveConcurrencyLimit limit) {
+        RestTemplate rest = new RestTemplate();
+        rest.setUriTemplateHandler(new DefaultUriBuilderFactory("http://server/items"));
+        rest.getInterceptors().add(new ConcurrencyLimitInterceptor(limit));
+        return rest;
+    }
+
+    private static HttpHeaders eTag(String eTag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(eTag);
+        return headers;
+    }
+}
@@ -0,0 +1,101 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Compares gateway work per proxied page of 100 bookings: parsing the server response into maps and writing
+ * it back as JSON, as the gateway used to, against passing the bytes through.
+ * Excluded from the default build, run with {@code mvn test -Dsurefire.excludedGroups= -Dgroups=benchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class PassThroughBenchmarkTest {
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private RestTemplate rest;
+    private BaseClient client;
+
+    @BeforeEach
+    void setUp() {
+        LoggingSystem.get(getClass().getClassLoader()).setLogLevel("org.springframework", LogLevel.INFO);
+
+        StringJoiner page = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add("{\"id\":" + i + ",\"start\":\"2030-01-01T10:00:00\",\"end\":\"2030-01-02T10:00:00\","
+                    + "\"itemId\":" + i + ",\"item\":{\"id\":" + i + ",\"name\":\"Item " + i + "\"},"
+                    + "\"booker\":{\"id\":1,\"name\":\"User 1\"},\"status\":\"APPROVED\"}");
+        }
+        byte[] body = page.toString().getBytes(StandardCharsets.UTF_8);
+
+        rest = new RestTemplate();
+        rest.setUriTemplateHandler(new DefaultUriBuilderFactory("http://server/bookings"));
+        MockRestServiceServer.bindTo(rest).build()
+                .expect(ExpectedCount.manyTimes(), requestTo("http://server/bookings"))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+        client = new BaseClient(rest);
+    }
+
+    @Test
+    void passThrough_ShouldDoLessWorkThanParsing() throws JsonProcessingException {
+        Result parsed = measure("parse and re-serialize", () -> objectMapper.writeValueAsBytes(
+                rest.exchange("", HttpMethod.GET, HttpEntity.EMPTY, Object.class).getBody()));
+        Result passThrough = measure("pass-through", () -> (byte[]) client.get("", 1L).getBody());
+
+        assertTrue(passThrough.allocatedBytes() < parsed.allocatedBytes());
+        assertTrue(passThrough.micros() < parsed.micros());
+    }
+
+    private Result measure(String name, Proxy proxy) throws JsonProcessingException {
+        for (int i = 0; i < WARMUP; i++) {
+            proxy.run();
+        }
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        int bytes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            bytes = proxy.run().length;
+        }
+        double micros = (System.nanoTime() - startedAt) / 1000.0 / ITERATIONS;
+        long allocated = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / ITERATIONS;
+        log.info("{}: {} byte page, {} us and {} bytes allocated per request", name, bytes,
+                String.format("%.1f", micros), allocated);
+        return new Result(micros, allocated);
+    }
+
+    @FunctionalInterface
+    private interface Proxy {
+        byte[] run() throws JsonProcessingException;
+    }
+
+    private record Result(double micros, long allocatedBytes) {
+    }
+}
@@ -0,0 +1,155 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RequestCoalescerTest {
+    private static final int CALLERS = 8;
+    private static final Duration GRACE = Duration.ofMillis(100);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void execute_ConcurrentIdenticalCalls_ShouldShareOneServerCall() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofSeconds(5), registry);
+        ResponseEntity<Object> response = ResponseEntity.ok("item".getBytes());
+        AtomicInteger serverCalls = new AtomicInteger();
+
+        List<Future<ResponseEntity<Object>>> futures = runConcurrently(arrived ->
+                coalescer.execute("/items/1@7", () -> {
+                    serverCalls.incrementAndGet();
+                    awaitOthers(arrived);
+                    return response;
+                }));
+
+        for (Future<ResponseEntity<Object>> future : futures) {
+            assertSame(response, future.get());
+        }
+        assertEquals(1, serverCalls.get());
+        assertEquals(1.0, calls("leader"));
+        assertEquals(CALLERS - 1, calls("follower"));
+    }
+
+    @Test
+    void execute_DifferentKeys_ShouldNotShare() {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofSeconds(5), registry);
+        AtomicInteger serverCalls = new AtomicInteger();
+
+        coalescer.execute("/items/1@7", () -> ResponseEntity.ok(serverCalls.incrementAndGet()));
+        coalescer.execute("/items/1@8", () -> ResponseEntity.ok(serverCalls.incrementAndGet()));
+        coalescer.execute("/items/1@7", () -> ResponseEntity.ok(serverCalls.incrementAndGet()));
+
+        assertEquals(3, serverCalls.get());
+        assertEquals(0.0, calls("follower"));
+    }
+
+    @Test
+    void execute_SharedCallTooSlow_ShouldMakeOwnCallAfterMaxWait() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofMillis(50), registry);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger serverCalls = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<ResponseEntity<Object>> slow = executor.submit(() -> coalescer.execute("/items/search", () -> {
+                serverCalls.incrementAndGet();
+                await(release);
+                return ResponseEntity.ok("slow");
+            }));
+            while (serverCalls.get() == 0) {
+                Thread.onSpinWait();
+            }
+
+            ResponseEntity<Object> own = coalescer.execute("/items/search", () -> {
+                serverCalls.incrementAndGet();
+                return ResponseEntity.ok("own");
+            });
+            release.countDown();
+
+            assertEquals("own", own.getBody());
+            assertEquals("slow", slow.get().getBody());
+        }
+        assertEquals(2, serverCalls.get());
+        assertEquals(1.0, calls("timeout"));
+    }
+
+    @Test
+    void execute_FailedServerCall_ShouldFailFollowersAndNotStayInFlight() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofSeconds(5), registry);
+
+        List<Future<ResponseEntity<Object>>> futures = runConcurrently(arrived ->
+                coalescer.execute("/users/1", () -> {
+                    awaitOthers(arrived);
+                    throw new ResourceAccessException("Connection refused");
+                }));
+
+        for (Future<ResponseEntity<Object>> future : futures) {
+            ExecutionException e = assertThrows(ExecutionException.class, future::get);
+            assertInstanceOf(ResourceAccessException.class, e.getCause());
+        }
+        assertEquals(1.0, calls("leader"));
+        assertEquals("ok", coalescer.execute("/users/1", () -> ResponseEntity.ok("ok")).getBody());
+        assertEquals(0.0, registry.get("gateway.coalescing.in-flight").gauge().value());
+    }
+
+    /*
+     * Starts all callers at once and waits for them to finish. Each caller is counted as arrived right before
+     * it enters the coalescer.
+     */
+    private static List<Future<ResponseEntity<Object>>> runConcurrently(
+            Function<CountDownLatch, ResponseEntity<Object>> caller) {
+        CountDownLatch arrived = new CountDownLatch(CALLERS);
+        List<Future<ResponseEntity<Object>>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> {
+                    arrived.countDown();
+                    return caller.apply(arrived);
+                }));
+            }
+        }
+        return futures;
+    }
+
+    /*
+     * Holds the shared server call until every caller arrived, plus a grace period for the last ones to find
+     * it in flight.
+     */
+    private static void awaitOthers(CountDownLatch arrived) {
+        try {
+            arrived.await();
+            Thread.sleep(GRACE.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double calls(String role) {
+        return registry.get("gateway.coalescing.calls").tag("role", role).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ServerHttpClientConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(ServerHttpClientConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues("shareit-server.http.max-total=7", "shareit-server.http.max-per-route=3");
+
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void requestFactory_ShouldUseConfiguredPoolAndRecordLeases() {
+        contextRunner.run(context -> {
+            TimedConnectionManager connectionManager = context.getBean(TimedConnectionManager.class);
+            assertEquals(7, connectionManager.getMaxTotal());
+            assertEquals(3, connectionManager.getDefaultMaxPerRoute());
+
+            RestTemplate rest = new RestTemplate(context.getBean(ClientHttpRequestFactory.class));
+            String url = "http://localhost:" + server.getAddress().getPort() + "/items";
+            rest.getForObject(url, String.class);
+            rest.getForObject(url, String.class);
+
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+            context.getBeansOfType(MeterBinder.class).values().forEach(binder -> binder.bindTo(registry));
+            assertEquals(2, registry.get(TimedConnectionManager.LEASE_TIMER)
+                    .tag("httpclient", ServerHttpClientConfig.POOL_NAME)
+                    .tag("outcome", "leased")
+                    .timer().count());
+            assertEquals(7.0, registry.get("httpcomponents.httpclient.pool.total.max").gauge().value());
+            assertEquals(1.0, registry.get("httpcomponents.httpclient.pool.total.connections")
+                    .tag("state", "available")
+                    .gauge().value(), "The connection should be kept alive and reused");
+        });
+    }
+}
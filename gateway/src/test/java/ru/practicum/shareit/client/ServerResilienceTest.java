@@ -0,0 +1,213 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the client against a stub server on a local port whose latency and status are set per test.
+ * {@code /bookings} calls are held until the test releases them.
+ */
+class ServerResilienceTest {
+    private static final byte[] BODY = "{\"id\":1,\"name\":\"Дрель\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final CountDownLatch bookingsReleased = new CountDownLatch(1);
+    private final CountDownLatch bookingsArrived = new CountDownLatch(2);
+    private volatile int status = 200;
+    private volatile Duration latency = Duration.ZERO;
+
+    private HttpServer server;
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 50);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            calls.incrementAndGet();
+            try {
+                if (exchange.getRequestURI().getPath().startsWith("/bookings")) {
+                    bookingsArrived.countDown();
+                    bookingsReleased.await(10, TimeUnit.SECONDS);
+                }
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, BODY.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(BODY);
+            }
+        });
+        server.start();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingsReleased.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void slowBookings_ShouldNotTakeCallsOfItems() throws Exception {
+        BaseClient client = client(properties(Map.of("bookings", 2), 100, Duration.ofSeconds(2)));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<ResponseEntity<Object>> first = executor.submit(() -> client.get("/bookings", 1L));
+            Future<ResponseEntity<Object>> second = executor.submit(() -> client.get("/bookings", 2L));
+            assertTrue(bookingsArrived.await(5, TimeUnit.SECONDS));
+
+            ResponseEntity<Object> rejected = client.get("/bookings", 3L);
+            ResponseEntity<Object> items = client.get("/items/1", 3L);
+
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getStatusCode());
+            assertEquals("1", rejected.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            assertEquals(HttpStatus.OK, items.getStatusCode());
+
+            bookingsReleased.countDown();
+            assertEquals(HttpStatus.OK, first.get().getStatusCode());
+            assertEquals(HttpStatus.OK, second.get().getStatusCode());
+        }
+        assertEquals(3, calls.get());
+        assertEquals(1.0, registry.counter("gateway.bulkhead.rejected", "route", "bookings").count());
+    }
+
+    @Test
+    void serverErrors_ShouldOpenCircuitAndServeLastGoodResponse() {
+        BaseClient client = client(properties(Map.of(), 100, Duration.ofSeconds(2)));
+        assertEquals(HttpStatus.OK, client.get("/items/1", 7L).getStatusCode());
+
+        status = 500;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, client.get("/items/1", 7L).getStatusCode());
+        }
+        ResponseEntity<Object> stale = client.get("/items/1", 7L);
+
+        assertEquals(HttpStatus.OK, stale.getStatusCode());
+        assertArrayEquals(BODY, (byte[]) stale.getBody());
+        assertEquals("110 - \"Response is Stale\"", stale.getHeaders().getFirst(HttpHeaders.WARNING));
+        assertEquals(4, calls.get());
+        assertEquals(1.0, registry.counter("gateway.circuit-breaker.transitions",
+                "route", "items", "from", "CLOSED", "to", "OPEN").count());
+        assertEquals(1.0, registry.counter("gateway.circuit-breaker.rejected", "route", "items").count());
+    }
+
+    @Test
+    void openCircuit_WithoutCachedResponse_ShouldBeServiceUnavailable() {
+        BaseClient client = client(properties(Map.of(), 100, Duration.ofSeconds(2)));
+        status = 500;
+        for (int i = 0; i < 4; i++) {
+            client.get("/items/1", 7L);
+        }
+
+        ResponseEntity<Object> other = client.get("/items/2", 7L);
+        ResponseEntity<Object> created = client.post("/items", 7L, Map.of("name", "Дрель"));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, other.getStatusCode());
+        assertNull(other.getHeaders().getFirst(HttpHeaders.WARNING));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, created.getStatusCode());
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void slowCalls_ShouldOpenCircuitOfTheirRouteOnly() {
+        BaseClient client = client(properties(Map.of(), 100, Duration.ofMillis(20)));
+        latency = Duration.ofMillis(50);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(HttpStatus.OK, client.get("/requests/all", 7L).getStatusCode());
+        }
+        latency = Duration.ZERO;
+
+        assertEquals("110 - \"Response is Stale\"",
+                client.get("/requests/all", 7L).getHeaders().getFirst(HttpHeaders.WARNING));
+        assertNull(client.get("/users/1", 7L).getHeaders().getFirst(HttpHeaders.WARNING));
+        assertEquals(5, calls.get());
+    }
+
+    @Test
+    void slowCalls_WhileConcurrencyLimitSheds_ShouldOpenCircuit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+                new ConcurrencyLimitProperties(1, 1, 1, Duration.ofMillis(500), 0.9));
+        BaseClient client = client(properties(Map.of(), 100, Duration.ofMillis(20)), limit);
+        latency = Duration.ofMillis(50);
+        assertEquals(HttpStatus.OK, client.get("/items/1", 7L).getStatusCode());
+        for (int i = 0; i < 3; i++) {
+            limit.tryAcquire();
+            for (int j = 0; j < 3; j++) {
+                assertEquals("110 - \"Response is Stale\"",
+                        client.get("/items/1", 7L).getHeaders().getFirst(HttpHeaders.WARNING));
+            }
+            limit.release(0, false);
+            assertEquals(HttpStatus.OK, client.get("/items/1", 7L).getStatusCode());
+        }
+
+        assertEquals("110 - \"Response is Stale\"",
+                client.get("/items/1", 7L).getHeaders().getFirst(HttpHeaders.WARNING));
+        assertEquals(4, calls.get());
+        assertEquals(1.0, registry.counter("gateway.circuit-breaker.transitions",
+                "route", "items", "from", "CLOSED", "to", "OPEN").count());
+        assertEquals(1.0, registry.counter("gateway.circuit-breaker.rejected", "route", "items").count());
+    }
+
+    private BaseClient client(ServerResilienceProperties properties) {
+        RestTemplate rest = rest();
+        rest.getInterceptors().add(new ServerResilienceInterceptor(resilience(properties)));
+        return new BaseClient(rest, new ResponseCache(1_000_000), null);
+    }
+
+    private BaseClient client(ServerResilienceProperties properties, AdaptiveConcurrencyLimit limit) {
+        RestTemplate rest = rest();
+        new ServerHttpClientConfig().serverCallCustomizer(resilience(properties), limit).customize(rest);
+        return new BaseClient(rest, new ResponseCache(1_000_000), null);
+    }
+
+    private ServerResilience resilience(ServerResilienceProperties properties) {
+        ServerResilience resilience = new ServerResilience(properties);
+        resilience.bindTo(registry);
+        return resilience;
+    }
+
+    private RestTemplate rest() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setReadTimeout(Duration.ofSeconds(10));
+        RestTemplate rest = new RestTemplate(requestFactory);
+        rest.setUriTemplateHandler(new DefaultUriBuilderFactory("http://localhost:" + server.getAddress().getPort()));
+        return rest;
+    }
+
+    private static ServerResilienceProperties properties(Map<String, Integer> routes, int maxConcurrentCalls,
+                                                         Duration slowCallDuration) {
+        return new ServerResilienceProperties(50, 50, slowCallDuration, 4, 4, Duration.ofMinutes(1), 1,
+                maxConcurrentCalls, Duration.ZERO, routes);
+    }
+}
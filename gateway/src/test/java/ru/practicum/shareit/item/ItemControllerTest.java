@@ -65,7 +65,7 @@ class ItemControllerTest {
 
         ResponseEntity<Object> responseEntity = ResponseEntity.ok(updatedItemDto);
 
-        when(itemClient.patch(userId, updatedItemDto)).thenReturn(responseEntity);
+        when(itemClient.patch(updatedItemDto.getId(), updatedItemDto, userId)).thenReturn(responseEntity);
 
         mvc.perform(MockMvcRequestBuilders.patch("/items/{id}", updatedItemDto.getId())
                         .header("X-Sharer-User-Id", userId)
@@ -77,7 +77,7 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.description").value(updatedItemDto.getDescription()))
                 .andExpect(jsonPath("$.available").value(updatedItemDto.getAvailable()));
 
-        verify(itemClient).patch(userId, updatedItemDto);
+        verify(itemClient).patch(updatedItemDto.getId(), updatedItemDto, userId);
     }
 
     @Test
@@ -92,7 +92,7 @@ class ItemControllerTest {
 
         ResponseEntity<Object> responseEntity = ResponseEntity.ok(items);
 
-        when(itemClient.getAll(userId)).thenReturn(responseEntity);
+        when(itemClient.getAll(userId, null, 20)).thenReturn(responseEntity);
 
         mvc.perform(MockMvcRequestBuilders.get("/items")
                         .header("X-Sharer-User-Id", userId))
@@ -105,7 +105,7 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$[1].description").value(items.get(1).getDescription()))
                 .andExpect(jsonPath("$[1].available").value(items.get(1).getAvailable()));
 
-        verify(itemClient).getAll(userId);
+        verify(itemClient).getAll(userId, null, 20);
     }
 
     @Test
@@ -142,7 +142,7 @@ class ItemControllerTest {
 
         ResponseEntity<Object> responseEntity = ResponseEntity.ok(items);
 
-        when(itemClient.getText(searchText)).thenReturn(responseEntity);
+        when(itemClient.getText(searchText, 0, 20)).thenReturn(responseEntity);
 
         mvc.perform(MockMvcRequestBuilders.get("/items/search")
                         .param("text", searchText))
@@ -155,7 +155,7 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$[1].description").value(items.get(1).getDescription()))
                 .andExpect(jsonPath("$[1].available").value(items.get(1).getAvailable()));
 
-        verify(itemClient).getText(searchText);
+        verify(itemClient).getText(searchText, 0, 20);
     }
 
     @Test
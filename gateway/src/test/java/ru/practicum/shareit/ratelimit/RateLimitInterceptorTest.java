@@ -0,0 +1,69 @@
+package ru.practicum.shareit.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.booking.BookingController;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = BookingController.class, properties = {
+        "shareit-gateway.rate-limit.capacity=5",
+        "shareit-gateway.rate-limit.refill-per-second=0.001",
+        "shareit-gateway.rate-limit.routes[/bookings/owner].capacity=2",
+        "shareit-gateway.rate-limit.routes[/bookings/owner].refill-per-second=0.5"
+})
+class RateLimitInterceptorTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private BookingClient bookingClient;
+
+    @Test
+    void ownerBookings_OverUserLimit_ShouldBeTooManyRequestsWithRetryAfter() throws Exception {
+        when(bookingClient.getBookingOwner(anyLong(), anyString(), any(), anyInt(), anyString()))
+                .thenReturn(ResponseEntity.ok().build());
+
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(get("/bookings/owner").header("X-Sharer-User-Id", 1))
+                    .andExpect(status().isOk());
+        }
+        mvc.perform(get("/bookings/owner").header("X-Sharer-User-Id", 1))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+
+        verify(bookingClient, times(2)).getBookingOwner(anyLong(), anyString(), any(), anyInt(), anyString());
+    }
+
+    @Test
+    void limitedUser_ShouldNotAffectOtherUsersOrRoutes() throws Exception {
+        when(bookingClient.getBookingOwner(anyLong(), anyString(), any(), anyInt(), anyString()))
+                .thenReturn(ResponseEntity.ok().build());
+        when(bookingClient.getBooking(anyLong(), anyLong())).thenReturn(ResponseEntity.ok().build());
+
+        for (int i = 0; i < 3; i++) {
+            mvc.perform(get("/bookings/owner").header("X-Sharer-User-Id", 2));
+        }
+
+        mvc.perform(get("/bookings/owner").header("X-Sharer-User-Id", 3))
+                .andExpect(status().isOk());
+        mvc.perform(get("/bookings/1").header("X-Sharer-User-Id", 2))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,67 @@
+package ru.practicum.shareit.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+    private final AtomicLong now = new AtomicLong();
+    private final RateLimiter rateLimiter = new RateLimiter(new RateLimitProperties(3, 2,
+            Map.of("/bookings/owner", new RateLimitProperties.Limit(1, 0.5)), Duration.ofMinutes(10), 1000), now::get);
+
+    @Test
+    void tryAcquire_OverCapacity_ShouldReturnTimeUntilNextToken() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("1", "/items"));
+        }
+
+        long waitNanos = rateLimiter.tryAcquire("1", "/items");
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), waitNanos);
+    }
+
+    @Test
+    void tryAcquire_AfterRefill_ShouldPassAgain() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("1", "/items");
+        }
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertEquals(0, rateLimiter.tryAcquire("1", "/items"));
+        assertTrue(rateLimiter.tryAcquire("1", "/items") > 0);
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepSeparateBucketsPerUserAndRoute() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("1", "/items");
+        }
+
+        assertEquals(0, rateLimiter.tryAcquire("2", "/items"));
+        assertEquals(0, rateLimiter.tryAcquire("1", "/requests"));
+    }
+
+    @Test
+    void tryAcquire_ConfiguredRoute_ShouldUseItsLimit() {
+        assertEquals(0, rateLimiter.tryAcquire("1", "/bookings/owner"));
+
+        assertEquals(TimeUnit.SECONDS.toNanos(2), rateLimiter.tryAcquire("1", "/bookings/owner"));
+    }
+
+    @Test
+    void tryAcquire_LongIdle_ShouldNotRefillOverCapacity() {
+        now.addAndGet(TimeUnit.HOURS.toNanos(1));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("1", "/items"));
+        }
+        assertTrue(rateLimiter.tryAcquire("1", "/items") > 0);
+    }
+}
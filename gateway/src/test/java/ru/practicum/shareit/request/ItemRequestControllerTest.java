@@ -65,7 +65,7 @@ class ItemRequestControllerTest {
 
         ResponseEntity<Object> responseEntity = ResponseEntity.ok(itemRequests);
 
-        when(itemRequestClient.getAllByUser(userId)).thenReturn(responseEntity);
+        when(itemRequestClient.getAllByUser(userId, null, 20)).thenReturn(responseEntity);
 
         mvc.perform(MockMvcRequestBuilders.get("/requests")
                         .header("X-Sharer-User-Id", userId))
@@ -74,7 +74,7 @@ class ItemRequestControllerTest {
                 .andExpect(jsonPath("$[0].description").value("Нужен рубанок"))
                 .andExpect(jsonPath("$[1].description").value("срочно нужен молоток"));
 
-        verify(itemRequestClient).getAllByUser(userId);
+        verify(itemRequestClient).getAllByUser(userId, null, 20);
     }
 
     @Test
@@ -88,7 +88,7 @@ class ItemRequestControllerTest {
 
         ResponseEntity<Object> responseEntity = ResponseEntity.ok(itemRequests);
 
-        when(itemRequestClient.getAll(userId)).thenReturn(responseEntity);
+        when(itemRequestClient.getAll(userId, null, 20)).thenReturn(responseEntity);
 
         mvc.perform(MockMvcRequestBuilders.get("/requests/all")
                         .header("X-Sharer-User-Id", userId))
@@ -97,7 +97,7 @@ class ItemRequestControllerTest {
                 .andExpect(jsonPath("$[0].description").value("Мышь беспроводная"))
                 .andExpect(jsonPath("$[1].description").value("Чемодан"));
 
-        verify(itemRequestClient).getAll(userId);
+        verify(itemRequestClient).getAll(userId, null, 20);
     }
 
     @Test
@@ -0,0 +1,42 @@
+package ru.practicum.shareit.loadtest;
+
+/**
+ * Gateway endpoints a session calls, with their share of the traffic in percent: 70% item reads and
+ * searches, 20% booking lists and 10% writes.
+ */
+public enum Endpoint {
+    GET_ITEM("GET /items/{id}", Category.ITEM_READ, 40),
+    SEARCH_ITEMS("GET /items/search", Category.ITEM_READ, 20),
+    GET_OWN_ITEMS("GET /items", Category.ITEM_READ, 10),
+    GET_BOOKINGS("GET /bookings", Category.BOOKING_LIST, 10),
+    GET_OWNER_BOOKINGS("GET /bookings/owner", Category.BOOKING_LIST, 10),
+    CREATE_BOOKING("POST /bookings", Category.WRITE, 6),
+    CREATE_ITEM("POST /items", Category.WRITE, 2),
+    CREATE_REQUEST("POST /requests", Category.WRITE, 2);
+
+    private final String label;
+    private final Category category;
+    private final int weight;
+
+    Endpoint(String label, Category category, int weight) {
+        this.label = label;
+        this.category = category;
+        this.weight = weight;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public Category category() {
+        return category;
+    }
+
+    public int weight() {
+        return weight;
+    }
+
+    public enum Category {
+        ITEM_READ, BOOKING_LIST, WRITE
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies in microseconds and response statuses of one endpoint, recorded concurrently by the sessions.
+ * Status {@code 0} counts requests that got no response, such as timeouts and refused connections.
+ */
+class LatencyRecorder {
+    static final int NO_RESPONSE = 0;
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    void record(long latencyNanos, int status) {
+        histogram.recordValue(Math.max(1, latencyNanos / 1_000));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    Histogram histogram() {
+        return histogram.copy();
+    }
+
+    Map<Integer, Long> statuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,115 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the gateway with an open workload. Sessions start on their own schedule, one virtual thread each,
+ * whether or not earlier requests have been answered, so a slow gateway faces a growing number of
+ * concurrent sessions instead of fewer requests.
+ * <p>
+ * Every request has an intended start time: the arrival of its session, or the end of the previous request
+ * plus the think time. Latency is measured from that time rather than from the moment the request is sent,
+ * so that delays in the load generator itself count against the response time instead of being hidden,
+ * which avoids coordinated omission.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadGenerator {
+    private static final long START_DELAY_NANOS = 100_000_000;
+
+    private final LoadTestConfig config;
+    private final Traffic traffic;
+
+    /**
+     * Runs the warmup and the measured period, waits for the started sessions to finish their current
+     * request and returns the latencies recorded per endpoint.
+     */
+    public Map<Endpoint, LatencyRecorder> run() {
+        Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new LatencyRecorder());
+        }
+        SplittableRandom arrivals = new SplittableRandom(config.seed());
+        double meanGapNanos = 1e9 / config.sessionRate();
+
+        long start = System.nanoTime() + START_DELAY_NANOS;
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        int sessions = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient http = HttpClient.newBuilder()
+                    .executor(executor)
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(config.timeout())
+                    .build();
+            for (long arrival = start; arrival < end; arrival += exponential(arrivals, meanGapNanos)) {
+                sleepUntil(arrival);
+                Session session = new Session(http, recorders, arrivals.split(), arrival, measureFrom, end);
+                executor.submit(session::run);
+                sessions++;
+            }
+            log.info("Started {} sessions, waiting for the last requests", sessions);
+        }
+        return recorders;
+    }
+
+    private static long exponential(SplittableRandom random, double mean) {
+        return Math.max(1, (long) (-Math.log(1 - random.nextDouble()) * mean));
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        for (long remaining = nanoTime - System.nanoTime(); remaining > 0; remaining = nanoTime - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private final class Session {
+        private final HttpClient http;
+        private final Map<Endpoint, LatencyRecorder> recorders;
+        private final SplittableRandom random;
+        private final long arrival;
+        private final long measureFrom;
+        private final long end;
+
+        void run() {
+            long userId = traffic.sessionUser(random);
+            double moreRequests = 1 - 1 / config.meanSessionLength();
+            long intended = arrival;
+            do {
+                Endpoint endpoint = traffic.next(random);
+                HttpRequest request = traffic.request(endpoint, userId, random);
+                sleepUntil(intended);
+                int status = send(request);
+                long done = System.nanoTime();
+                if (intended >= measureFrom) {
+                    recorders.get(endpoint).record(done - intended, status);
+                }
+                intended = done + exponential(random, config.meanThinkTime().toNanos());
+            } while (intended < end && random.nextDouble() < moreRequests);
+        }
+
+        private int send(HttpRequest request) {
+            try {
+                return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                return LatencyRecorder.NO_RESPONSE;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return LatencyRecorder.NO_RESPONSE;
+            }
+        }
+    }
+}
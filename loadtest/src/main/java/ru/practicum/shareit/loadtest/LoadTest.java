@@ -0,0 +1,89 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import ru.practicum.shareit.datagen.BulkLoader;
+import ru.practicum.shareit.datagen.DataGenerator;
+import ru.practicum.shareit.datagen.DatasetCatalog;
+import ru.practicum.shareit.datagen.DatasetSpec;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replays the production traffic mix against a running gateway and server, with the synthetic dataset of
+ * the data generator in the database:
+ * <pre>
+ * mvn -pl loadtest -am package -DskipTests
+ * java -jar loadtest/target/shareit-loadtest-0.0.1-SNAPSHOT-exec.jar --load-dataset=true \
+ *     --users=100000 --items=500000 --bookings=5000000
+ * # restart the server
+ * java -jar loadtest/target/shareit-loadtest-0.0.1-SNAPSHOT-exec.jar \
+ *     --users=100000 --items=500000 --bookings=5000000 --rate=500 --report=before.json
+ * java -jar loadtest/target/shareit-loadtest-0.0.1-SNAPSHOT-exec.jar \
+ *     --users=100000 --items=500000 --bookings=5000000 --rate=500 --report=after.json --baseline=before.json
+ * </pre>
+ * The dataset options are those of {@link DataGenerator}; they tell the sessions which ids exist, so they
+ * must match the dataset loaded into the database, which is assumed to have been empty before. With
+ * {@code --load-dataset=true} the dataset is only loaded and no traffic is sent: the server has to be
+ * restarted before the run so that its in-memory indexes see the dataset, otherwise the run is not
+ * comparable with others. The run options are described by {@link LoadTestConfig#from(Map)}; the report is
+ * written to {@code --report}, and compared with {@code --baseline} if given.
+ */
+@Slf4j
+public class LoadTest {
+
+    public static void main(String[] args) throws SQLException, IOException {
+        Map<String, String> options = DataGenerator.options(args);
+        DatasetSpec dataset = DataGenerator.spec(options);
+
+        if (Boolean.parseBoolean(options.getOrDefault("load-dataset", "false"))) {
+            try (Connection connection = DataGenerator.connect(options)) {
+                log.info("Loaded dataset: {}", new BulkLoader(connection).load(dataset));
+            }
+            log.info("Restart the server so that it indexes the dataset, then run without --load-dataset");
+            return;
+        }
+
+        LoadTestConfig config = LoadTestConfig.from(options);
+        log.info("Running {} requests per second against {} for {} s after {} s of warmup", config.rate(),
+                config.gateway(), config.duration().toSeconds(), config.warmup().toSeconds());
+        Traffic traffic = new Traffic(config.gateway(), new DatasetCatalog(dataset), config.timeout());
+        Report report = Report.of(settings(config, dataset), config.duration(),
+                new LoadGenerator(config, traffic).run());
+        log.info("Results:{}{}", System.lineSeparator(), report.summary());
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        File reportFile = new File(options.getOrDefault("report", "loadtest-report.json"));
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile, report);
+        log.info("Report written to {}", reportFile.getAbsolutePath());
+
+        String baseline = options.get("baseline");
+        if (baseline != null) {
+            Report before = objectMapper.readValue(new File(baseline), Report.class);
+            log.info("Change against {}:{}{}", baseline, System.lineSeparator(), report.compare(before));
+        }
+    }
+
+    static Map<String, String> settings(LoadTestConfig config, DatasetSpec dataset) {
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("gateway", config.gateway().toString());
+        settings.put("rate", String.valueOf(config.rate()));
+        settings.put("warmup-seconds", String.valueOf(config.warmup().toSeconds()));
+        settings.put("duration-seconds", String.valueOf(config.duration().toSeconds()));
+        settings.put("load-seed", String.valueOf(config.seed()));
+        settings.put("session-length", String.valueOf(config.meanSessionLength()));
+        settings.put("think-millis", String.valueOf(config.meanThinkTime().toMillis()));
+        settings.put("seed", String.valueOf(dataset.seed()));
+        settings.put("users", String.valueOf(dataset.users()));
+        settings.put("requests", String.valueOf(dataset.requests()));
+        settings.put("items", String.valueOf(dataset.items()));
+        settings.put("bookings", String.valueOf(dataset.bookings()));
+        settings.put("comments", String.valueOf(dataset.comments()));
+        return settings;
+    }
+}
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Shape of a run: sessions arrive at the gateway as a Poisson process whose rate gives {@code rate} requests
+ * per second on average, independently of how fast the gateway answers. Each session makes
+ * {@code meanSessionLength} requests on average with exponential think times in between. Only requests due
+ * after the warmup are recorded; the warmup should last a few sessions, so that the request rate has settled
+ * by then.
+ */
+public record LoadTestConfig(URI gateway, double rate, Duration warmup, Duration duration, long seed,
+                             double meanSessionLength, Duration meanThinkTime, Duration timeout) {
+
+    public LoadTestConfig {
+        if (rate <= 0 || meanSessionLength < 1 || duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("Rate and duration must be positive, sessions at least a request long");
+        }
+    }
+
+    public static LoadTestConfig from(Map<String, String> options) {
+        return new LoadTestConfig(
+                URI.create(options.getOrDefault("gateway", "http://localhost:8080")),
+                Double.parseDouble(options.getOrDefault("rate", "200")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup-seconds", "30"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration-seconds", "120"))),
+                Long.parseLong(options.getOrDefault("load-seed", "1")),
+                Double.parseDouble(options.getOrDefault("session-length", "4")),
+                Duration.ofMillis(Long.parseLong(options.getOrDefault("think-millis", "1000"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("timeout-seconds", "30"))));
+    }
+
+    double sessionRate() {
+        return rate / meanSessionLength;
+    }
+}
@@ -0,0 +1,147 @@
+package ru.practicum.shareit.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.zip.DataFormatException;
+
+/**
+ * Outcome of a run, written as JSON so that runs can be compared later. Besides the percentiles, each
+ * endpoint keeps its full HDR histogram, compressed and base64 encoded, for tools that plot or merge them.
+ *
+ * @param settings the run and dataset settings, which two runs must share to be comparable
+ */
+public record Report(Map<String, String> settings, double measuredSeconds, List<EndpointReport> endpoints,
+                     EndpointReport total) {
+    private static final String ROW = "%-22s %9s %9s %9s %9s %9s %9s %9s  %s%n";
+    private static final String CHANGE_ROW = "%-22s %9s %9s %9s %9s %9s %9s%n";
+
+    public static Report of(Map<String, String> settings, Duration measured,
+                            Map<Endpoint, LatencyRecorder> recorders) {
+        double seconds = measured.toNanos() / 1e9;
+        Histogram all = new Histogram(3);
+        Map<Integer, Long> allStatuses = new TreeMap<>();
+        List<EndpointReport> endpoints = new ArrayList<>();
+        recorders.forEach((endpoint, recorder) -> {
+            Histogram histogram = recorder.histogram();
+            all.add(histogram);
+            recorder.statuses().forEach((status, count) -> allStatuses.merge(status, count, Long::sum));
+            endpoints.add(EndpointReport.of(endpoint.label(), histogram, recorder.statuses(), seconds));
+        });
+        return new Report(settings, seconds, endpoints, EndpointReport.of("total", all, allStatuses, seconds));
+    }
+
+    /**
+     * Table of throughput, latency percentiles and statuses other than 2xx per endpoint.
+     */
+    public String summary() {
+        StringBuilder table = new StringBuilder(String.format(ROW, "endpoint", "count", "req/s", "p50 ms",
+                "p90 ms", "p99 ms", "p99.9 ms", "max ms", "statuses other than 2xx"));
+        for (EndpointReport endpoint : rows()) {
+            Latency latency = endpoint.latencyMillis();
+            table.append(String.format(ROW, endpoint.endpoint(), endpoint.count(),
+                    String.format("%.1f", endpoint.throughput()), millis(latency.p50()), millis(latency.p90()),
+                    millis(latency.p99()), millis(latency.p999()), millis(latency.max()),
+                    endpoint.statuses().entrySet().stream()
+                            .filter(status -> status.getKey() < 200 || status.getKey() >= 300)
+                            .map(status -> status.getKey() + ":" + status.getValue())
+                            .collect(Collectors.joining(" "))));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Table of the change in throughput and latency percentiles per endpoint against an earlier run, headed
+     * by the settings the two runs differ in, if any.
+     */
+    public String compare(Report baseline) {
+        StringBuilder table = new StringBuilder();
+        settings.forEach((name, value) -> {
+            String before = baseline.settings().get(name);
+            if (!Objects.equals(before, value)) {
+                table.append("Runs differ in ").append(name).append(": ").append(before).append(" -> ")
+                        .append(value).append(System.lineSeparator());
+            }
+        });
+        table.append(String.format(CHANGE_ROW, "endpoint", "req/s", "p50", "p90", "p99", "p99.9", "max"));
+        for (EndpointReport endpoint : rows()) {
+            EndpointReport before = baseline.rows().stream()
+                    .filter(row -> row.endpoint().equals(endpoint.endpoint()))
+                    .findFirst()
+                    .orElse(null);
+            if (before == null) {
+                continue;
+            }
+            table.append(String.format(CHANGE_ROW, endpoint.endpoint(),
+                    change(before, endpoint, EndpointReport::throughput),
+                    change(before, endpoint, row -> row.latencyMillis().p50()),
+                    change(before, endpoint, row -> row.latencyMillis().p90()),
+                    change(before, endpoint, row -> row.latencyMillis().p99()),
+                    change(before, endpoint, row -> row.latencyMillis().p999()),
+                    change(before, endpoint, row -> row.latencyMillis().max())));
+        }
+        return table.toString();
+    }
+
+    private List<EndpointReport> rows() {
+        List<EndpointReport> rows = new ArrayList<>(endpoints);
+        rows.add(total);
+        return rows;
+    }
+
+    private static String change(EndpointReport before, EndpointReport after,
+                                 ToDoubleFunction<EndpointReport> metric) {
+        double from = metric.applyAsDouble(before);
+        double to = metric.applyAsDouble(after);
+        return from == 0 ? "n/a" : String.format("%+.0f%%", (to - from) * 100 / from);
+    }
+
+    private static String millis(double value) {
+        return String.format("%.2f", value);
+    }
+
+    public record EndpointReport(String endpoint, long count, double throughput, Map<Integer, Long> statuses,
+                                 Latency latencyMillis, String histogram) {
+
+        static EndpointReport of(String endpoint, Histogram histogram, Map<Integer, Long> statuses,
+                                 double seconds) {
+            return new EndpointReport(endpoint, histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                    statuses, Latency.of(histogram), encode(histogram));
+        }
+
+        /**
+         * The recorded latencies in microseconds.
+         */
+        public Histogram decodeHistogram() throws DataFormatException {
+            return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(Base64.getDecoder().decode(histogram)), 0);
+        }
+
+        private static String encode(Histogram histogram) {
+            ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+            int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+            return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+        }
+    }
+
+    public record Latency(double p50, double p90, double p99, double p999, double max) {
+
+        static Latency of(Histogram histogram) {
+            return new Latency(percentile(histogram, 50), percentile(histogram, 90), percentile(histogram, 99),
+                    percentile(histogram, 99.9), histogram.getMaxValue() / 1000.0);
+        }
+
+        private static double percentile(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.loadtest;
+
+import ru.practicum.shareit.datagen.DatasetCatalog;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Builds the requests of user sessions against the gateway from a dataset catalog. Endpoints are drawn by
+ * their {@link Endpoint#weight()}; ids and search words are drawn from the dataset, so that the same seed
+ * produces the same requests.
+ */
+public class Traffic {
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+    private static final int PAGE_SIZE = 20;
+    private static final double OWNER_SESSIONS = 0.3;
+    private static final double ANSWERING_ITEMS = 0.2;
+
+    private final URI gateway;
+    private final DatasetCatalog catalog;
+    private final Duration timeout;
+    private final int[] cumulativeWeights;
+
+    public Traffic(URI gateway, DatasetCatalog catalog, Duration timeout) {
+        this.gateway = gateway;
+        this.catalog = catalog;
+        this.timeout = timeout;
+        this.cumulativeWeights = new int[Endpoint.values().length];
+        int total = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            total += endpoint.weight();
+            cumulativeWeights[endpoint.ordinal()] = total;
+        }
+    }
+
+    /**
+     * User a session acts as. Some sessions are item owners looking after their items and bookings.
+     */
+    public long sessionUser(RandomGenerator random) {
+        return random.nextDouble() < OWNER_SESSIONS ? catalog.owner(random) : catalog.user(random);
+    }
+
+    public Endpoint next(RandomGenerator random) {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = Arrays.binarySearch(cumulativeWeights, draw + 1);
+        return Endpoint.values()[index >= 0 ? index : -index - 1];
+    }
+
+    public HttpRequest request(Endpoint endpoint, long userId, RandomGenerator random) {
+        return switch (endpoint) {
+            case GET_ITEM -> get(userId, "/items/" + catalog.item(random));
+            case SEARCH_ITEMS -> get(userId, "/items/search?text="
+                    + URLEncoder.encode(catalog.searchTerm(random), StandardCharsets.UTF_8) + "&size=" + PAGE_SIZE);
+            case GET_OWN_ITEMS -> get(userId, "/items?size=" + PAGE_SIZE);
+            case GET_BOOKINGS -> get(userId, "/bookings?state=ALL&size=" + PAGE_SIZE);
+            case GET_OWNER_BOOKINGS -> get(userId, "/bookings/owner?state=ALL&size=" + PAGE_SIZE);
+            case CREATE_BOOKING -> {
+                LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS)
+                        .plusHours(1 + random.nextInt(90 * 24));
+                yield post(userId, "/bookings", "{\"itemId\":" + catalog.item(random)
+                        + ",\"start\":\"" + start + "\",\"end\":\"" + start.plusHours(1 + random.nextInt(72)) + "\"}");
+            }
+            case CREATE_ITEM -> {
+                String name = catalog.itemName(random);
+                Long requestId = random.nextDouble() < ANSWERING_ITEMS ? catalog.request(random) : null;
+                yield post(userId, "/items", "{\"name\":\"" + name + "\",\"description\":\""
+                        + catalog.itemDescription(random, name) + "\",\"available\":true"
+                        + (requestId == null ? "" : ",\"requestId\":" + requestId) + "}");
+            }
+            case CREATE_REQUEST -> post(userId, "/requests",
+                    "{\"description\":\"" + catalog.requestDescription(random) + "\"}");
+        };
+    }
+
+    private HttpRequest get(long userId, String path) {
+        return builder(userId, path).GET().build();
+    }
+
+    private HttpRequest post(long userId, String path, String json) {
+        return builder(userId, path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest.Builder builder(long userId, String path) {
+        return HttpRequest.newBuilder(gateway.resolve(path))
+                .header(USER_HEADER, String.valueOf(userId))
+                .timeout(timeout);
+    }
+}
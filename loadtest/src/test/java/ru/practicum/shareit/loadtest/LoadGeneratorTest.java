@@ -0,0 +1,82 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.datagen.DatasetCatalog;
+import ru.practicum.shareit.datagen.DatasetSpec;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs a short load test against a stub gateway that answers every request after a fixed delay.
+ */
+class LoadGeneratorTest {
+    private static final long DELAY_MILLIS = 20;
+
+    private HttpServer server;
+    private final AtomicInteger received = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            received.incrementAndGet();
+            try {
+                Thread.sleep(DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            int status = exchange.getRequestURI().getPath().startsWith("/bookings/owner") ? 404 : 200;
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void run_ShouldRecordEveryMeasuredRequestFromItsIntendedStart() throws Exception {
+        LoadTestConfig config = new LoadTestConfig(URI.create("http://localhost:" + server.getAddress().getPort()),
+                100, Duration.ofMillis(500), Duration.ofSeconds(2), 1, 2, Duration.ofMillis(50),
+                Duration.ofSeconds(5));
+        DatasetSpec dataset = DatasetSpec.of(1_000, 100, 5_000, 10_000, 1_000);
+        Traffic traffic = new Traffic(config.gateway(), new DatasetCatalog(dataset), config.timeout());
+
+        Report report = Report.of(LoadTest.settings(config, dataset), config.duration(),
+                new LoadGenerator(config, traffic).run());
+
+        long recorded = report.endpoints().stream().mapToLong(Report.EndpointReport::count).sum();
+        assertEquals(recorded, report.total().count());
+        assertTrue(recorded > 50 && recorded < received.get());
+        assertTrue(report.total().latencyMillis().p50() >= DELAY_MILLIS);
+        Map<Integer, Long> ownerStatuses = report.endpoints().stream()
+                .filter(endpoint -> endpoint.endpoint().equals(Endpoint.GET_OWNER_BOOKINGS.label()))
+                .findFirst()
+                .orElseThrow()
+                .statuses();
+        assertTrue(ownerStatuses.keySet().stream().allMatch(status -> status == 404));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Report read = objectMapper.readValue(objectMapper.writeValueAsBytes(report), Report.class);
+        assertEquals(report.total().count(), read.total().decodeHistogram().getTotalCount());
+        assertTrue(report.compare(read).contains("+0%"));
+    }
+}
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.loadtest;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.datagen.DatasetCatalog;
+import ru.practicum.shareit.datagen.DatasetSpec;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrafficTest {
+    private static final int DRAWS = 100_000;
+
+    private final Traffic traffic = new Traffic(URI.create("http://gateway:8080"),
+            new DatasetCatalog(DatasetSpec.of(1_000, 100, 5_000, 10_000, 1_000)), Duration.ofSeconds(5));
+
+    @Test
+    void next_ShouldFollowTheProductionMix() {
+        SplittableRandom random = new SplittableRandom(1);
+        Map<Endpoint.Category, Integer> counts = new EnumMap<>(Endpoint.Category.class);
+        for (int i = 0; i < DRAWS; i++) {
+            counts.merge(traffic.next(random).category(), 1, Integer::sum);
+        }
+
+        assertEquals(0.7, counts.get(Endpoint.Category.ITEM_READ) / (double) DRAWS, 0.01);
+        assertEquals(0.2, counts.get(Endpoint.Category.BOOKING_LIST) / (double) DRAWS, 0.01);
+        assertEquals(0.1, counts.get(Endpoint.Category.WRITE) / (double) DRAWS, 0.01);
+    }
+
+    @Test
+    void request_ShouldAddressDatasetIdsAsTheSessionUser() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (Endpoint endpoint : Endpoint.values()) {
+            HttpRequest request = traffic.request(endpoint, 7, random);
+
+            assertEquals("7", request.headers().firstValue("X-Sharer-User-Id").orElseThrow());
+            assertEquals(endpoint.label().startsWith("POST") ? "POST" : "GET", request.method());
+            assertTrue(request.uri().toString().startsWith("http://gateway:8080/"));
+        }
+        HttpRequest item = traffic.request(Endpoint.GET_ITEM, 7, random);
+        long itemId = Long.parseLong(item.uri().getPath().substring("/items/".length()));
+        assertTrue(itemId >= 1 && itemId <= 5_000);
+    }
+
+    @Test
+    void request_SameSeed_ShouldRepeatTheSameRequests() {
+        assertEquals(uris(3), uris(3));
+    }
+
+    private List<URI> uris(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        return IntStream.range(0, 100)
+                .mapToObj(i -> traffic.request(traffic.next(random), traffic.sessionUser(random), random).uri())
+                .toList();
+    }
+}
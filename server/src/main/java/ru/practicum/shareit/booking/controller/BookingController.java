@@ -3,6 +3,7 @@ package ru.practicum.shareit.booking.controller;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -14,7 +15,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.util.List;
@@ -25,6 +28,12 @@ import java.util.List;
 @Validated
 @RequiredArgsConstructor
 public class BookingController {
+    /*
+     * Booking lists return BookingShortDto unless view=full asks for the BookingDto shape,
+     * which repeats the item, its owner and the booker's email in every row.
+     */
+    private static final String FULL_VIEW = "view=full";
+
     private final BookingService bookingServiceImpl;
     private final UserService userServiceImpl;
 
@@ -52,20 +61,49 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingDto> getBookingsByState(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                        @RequestParam(required = false, defaultValue = "ALL") String state) {
-        log.info("Request GET /bookings?state={} by userId={}", state, userId);
+    public ResponseEntity<List<BookingShortDto>> getBookingsByState(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                        @RequestParam(required = false, defaultValue = "ALL") String state,
+                                        @RequestParam(required = false) String cursor,
+                                        @RequestParam(defaultValue = "20") int size) {
+        log.info("Request GET /bookings?state={}&cursor={}&size={} by userId={}", state, cursor, size, userId);
         userServiceImpl.getById(userId);
-        return bookingServiceImpl.getBookingsByState(userId, state);
+        return PageCursor.toResponse(bookingServiceImpl.getBookingsByState(userId, state, cursor, size), size,
+                booking -> PageCursor.of(booking.getStart(), booking.getId()));
     }
 
-    @GetMapping("owner")
-    public List<BookingDto> getBookingOwner(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                      @RequestParam(required = false, defaultValue = "ALL") String state) {
-        log.info("Request GET /bookingId/owner?state={} for X-Sharer-User-Id {}", state, userId);
+    @GetMapping(params = FULL_VIEW)
+    public ResponseEntity<List<BookingDto>> getFullBookingsByState(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                        @RequestParam(required = false, defaultValue = "ALL") String state,
+                                        @RequestParam(required = false) String cursor,
+                                        @RequestParam(defaultValue = "20") int size) {
+        log.info("Request GET /bookings?state={}&cursor={}&size={}&view=full by userId={}",
+                state, cursor, size, userId);
         userServiceImpl.getById(userId);
-        return bookingServiceImpl.getBookingOwner(state, userId);
+        return PageCursor.toResponse(bookingServiceImpl.getFullBookingsByState(userId, state, cursor, size),
+                size, booking -> PageCursor.of(booking.getStart(), booking.getId()));
     }
 
+    @GetMapping("owner")
+    public ResponseEntity<List<BookingShortDto>> getBookingOwner(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                      @RequestParam(required = false, defaultValue = "ALL") String state,
+                                      @RequestParam(required = false) String cursor,
+                                      @RequestParam(defaultValue = "20") int size) {
+        log.info("Request GET /bookingId/owner?state={}&cursor={}&size={} for X-Sharer-User-Id {}",
+                state, cursor, size, userId);
+        userServiceImpl.getById(userId);
+        return PageCursor.toResponse(bookingServiceImpl.getBookingOwner(state, userId, cursor, size), size,
+                booking -> PageCursor.of(booking.getStart(), booking.getId()));
+    }
 
+    @GetMapping(value = "owner", params = FULL_VIEW)
+    public ResponseEntity<List<BookingDto>> getFullBookingOwner(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                      @RequestParam(required = false, defaultValue = "ALL") String state,
+                                      @RequestParam(required = false) String cursor,
+                                      @RequestParam(defaultValue = "20") int size) {
+        log.info("Request GET /bookingId/owner?state={}&cursor={}&size={}&view=full for X-Sharer-User-Id {}",
+                state, cursor, size, userId);
+        userServiceImpl.getById(userId);
+        return PageCursor.toResponse(bookingServiceImpl.getFullBookingOwner(state, userId, cursor, size), size,
+                booking -> PageCursor.of(booking.getStart(), booking.getId()));
+    }
 }
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.user.dto.UserShortDto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compact booking shown in booking lists: item and booker are reduced to their id and name.
+ */
+@Data
+@Builder
+public class BookingShortDto {
+    private Long id;
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private Long itemId;
+    private ItemShortDto item;
+    private UserShortDto booker;
+    private BookingStatus status;
+}
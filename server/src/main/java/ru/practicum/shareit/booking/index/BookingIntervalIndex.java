@@ -0,0 +1,143 @@
+package ru.practicum.shareit.booking.index;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingInterval;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exception.ConflictException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-item interval index of bookings that hold their dates (waiting or approved), used to reject
+ * overlapping bookings before they commit.
+ * <p>
+ * The intervals of an item are loaded from the database on its first booking and kept current by
+ * {@link #hold(Booking)} and {@link #release(Booking)}. Each item has its own lock, so the check and
+ * insert of a new booking are atomic against concurrent bookings of the same item while bookings of
+ * different items never wait for each other. A hold is taken before the booking commits and dropped
+ * again if the transaction rolls back.
+ * <p>
+ * The index only sees bookings made through this instance; on PostgreSQL the
+ * {@code bookings_no_overlap} exclusion constraint enforces the same rule for everything else.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingIntervalIndex {
+    private static final List<BookingStatus> HOLDING_STATUSES = Arrays.stream(BookingStatus.values())
+            .filter(BookingStatus::holdsDates)
+            .toList();
+
+    private final BookingRepository bookingRepository;
+    private final Map<Long, ItemIntervals> items = new ConcurrentHashMap<>();
+
+    /**
+     * Holds the dates of a saved booking, rejecting it if it overlaps another held booking of the item.
+     *
+     * @throws ConflictException if the item is already booked for some of these dates
+     */
+    public void hold(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        ItemIntervals intervals = items.computeIfAbsent(itemId, id -> new ItemIntervals());
+
+        intervals.lock.lock();
+        try {
+            if (intervals.tree == null) {
+                intervals.tree = load(itemId, booking.getId());
+            }
+            if (intervals.tree.findOverlap(booking.getStart(), booking.getEnd()) != null) {
+                throw new ConflictException("Item with ID = " + itemId + " is already booked for these dates");
+            }
+            intervals.tree.insert(booking.getId(), booking.getStart(), booking.getEnd());
+        } finally {
+            intervals.lock.unlock();
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        remove(intervals, booking.getId(), booking.getStart());
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Frees the dates of a booking that no longer holds them, once the current transaction commits.
+     */
+    public void release(Booking booking) {
+        ItemIntervals intervals = items.get(booking.getItem().getId());
+        if (intervals == null) {
+            return;
+        }
+        Long bookingId = booking.getId();
+        LocalDateTime start = booking.getStart();
+        afterCommit(() -> remove(intervals, bookingId, start));
+    }
+
+    /**
+     * Forgets every item, they are reloaded on their next booking. Used when bookings are deleted in bulk.
+     */
+    public void clear() {
+        afterCommit(items::clear);
+    }
+
+    int size(Long itemId) {
+        ItemIntervals intervals = items.get(itemId);
+        return intervals == null || intervals.tree == null ? 0 : intervals.tree.size();
+    }
+
+    private IntervalTree load(Long itemId, Long holdingBookingId) {
+        IntervalTree tree = new IntervalTree();
+        for (BookingInterval interval : bookingRepository.findIntervals(itemId, HOLDING_STATUSES,
+                LocalDateTime.now())) {
+            // The booking being held is already visible to its own transaction.
+            if (!Objects.equals(interval.bookingId(), holdingBookingId)) {
+                tree.insert(interval.bookingId(), interval.start(), interval.end());
+            }
+        }
+        return tree;
+    }
+
+    private static void remove(ItemIntervals intervals, Long bookingId, LocalDateTime start) {
+        intervals.lock.lock();
+        try {
+            if (intervals.tree != null) {
+                intervals.tree.remove(bookingId, start);
+            }
+        } finally {
+            intervals.lock.unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class ItemIntervals {
+        private final ReentrantLock lock = new ReentrantLock();
+        private IntervalTree tree;
+    }
+}
@@ -3,24 +3,55 @@ package ru.practicum.shareit.booking.mapper;
 import jakarta.validation.constraints.NotNull;
 import lombok.experimental.UtilityClass;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingView;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemShortDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.dto.UserShortDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
 
 @UtilityClass
 public class BookingMapper {
     public BookingDto mapToBookingDto(@NotNull Booking booking) {
+        return mapToBookingDto(booking, ItemMapper.mapToItemDto(booking.getItem(), null, null, null));
+    }
+
+    /**
+     * Maps the booking with an item already mapped, so that the booking's item is not loaded.
+     */
+    public BookingDto mapToBookingDto(@NotNull Booking booking, ItemDto item) {
 
         return BookingDto.builder()
                 .id(booking.getId())
                 .start(booking.getStart())
                 .end(booking.getEnd())
-                .itemId(booking.getItem().getId())
+                .itemId(item.getId())
                 .booker(UserMapper.mapToUserDto(booking.getBooker()))
                 .status(booking.getStatus())
-                .item(ItemMapper.mapToItemDto(booking.getItem(), null, null, null))
+                .item(item)
+                .build();
+    }
+
+    public BookingShortDto mapToBookingShortDto(@NotNull BookingView booking) {
+
+        return BookingShortDto.builder()
+                .id(booking.id())
+                .start(booking.start())
+                .end(booking.end())
+                .itemId(booking.itemId())
+                .item(ItemShortDto.builder()
+                        .id(booking.itemId())
+                        .name(booking.itemName())
+                        .build())
+                .booker(UserShortDto.builder()
+                        .id(booking.bookerId())
+                        .name(booking.bookerName())
+                        .build())
+                .status(booking.status())
                 .build();
     }
 
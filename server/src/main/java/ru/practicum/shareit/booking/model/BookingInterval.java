@@ -0,0 +1,9 @@
+package ru.practicum.shareit.booking.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dates of one booking, as held in the per-item booking interval index.
+ */
+public record BookingInterval(Long bookingId, LocalDateTime start, LocalDateTime end) {
+}
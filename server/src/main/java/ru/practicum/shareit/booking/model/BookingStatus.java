@@ -5,5 +5,12 @@ public enum BookingStatus {
     APPROVED,
     REJECTED,
     CANCELED,
-    ALL
-}
\ No newline at end of file
+    ALL;
+
+    /**
+     * Whether a booking in this status keeps its dates, so no other booking of the item may overlap it.
+     */
+    public boolean holdsDates() {
+        return this == WAITING || this == APPROVED;
+    }
+}
@@ -0,0 +1,10 @@
+package ru.practicum.shareit.booking.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Booking list row read straight from the database, without loading the booking, item or booker entities.
+ */
+public record BookingView(Long id, LocalDateTime start, LocalDateTime end, BookingStatus status,
+                          Long itemId, String itemName, Long bookerId, String bookerName) {
+}
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.booking.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * End of the latest finished booking and start of the nearest upcoming booking of an item.
+ *
+ * @param nextEnd end of the earliest booking that has not finished yet, the moment {@code lastBooking} changes
+ */
+public record ItemBookingDates(Long itemId, LocalDateTime lastBooking, LocalDateTime nextBooking,
+                               LocalDateTime nextEnd) {
+
+    /**
+     * Moment until which both dates stay the same unless bookings of the item change.
+     */
+    public LocalDateTime validUntil() {
+        if (nextBooking == null) {
+            return nextEnd == null ? LocalDateTime.MAX : nextEnd;
+        }
+        return nextEnd == null || nextBooking.isBefore(nextEnd) ? nextBooking : nextEnd;
+    }
+}
@@ -1,50 +1,149 @@
 package ru.practicum.shareit.booking.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingInterval;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingView;
+import ru.practicum.shareit.booking.model.ItemBookingDates;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-    @Query("""
-            SELECT b
+    /**
+     * Select clause of booking list queries: one flat row per booking, no entities are loaded.
+     */
+    String VIEW_SELECT = """
+            SELECT new ru.practicum.shareit.booking.model.BookingView(
+                    b.id, b.start, b.end, b.status, i.id, i.name, u.id, u.name)
                 FROM Booking b
-                WHERE b.booker.id = :userId AND b.start <= CURRENT_TIMESTAMP AND b.end >= CURRENT_TIMESTAMP
+                JOIN b.item i
+                JOIN b.booker u
+            """;
+
+    /*
+     * List queries page by keyset: bookers see (start DESC, id DESC), owners (start, id).
+     * The caller passes the sort key of the last row of the previous page, see PageCursor.
+     */
+    @Query(VIEW_SELECT + """
+                WHERE u.id = :userId AND b.start <= :now AND b.end >= :now
+                    AND (b.start < :start OR (b.start = :start AND b.id < :id))
+                ORDER BY b.start DESC, b.id DESC
             """)
-    List<Booking> findCurrentBookings(Long userId);
+    List<BookingView> findCurrentBookings(Long userId, LocalDateTime now, LocalDateTime start, long id, Limit limit);
 
-    @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId AND b.start > CURRENT_TIMESTAMP ORDER BY b.start DESC")
-    List<Booking> findFutureBookings(Long userId);
+    @Query(VIEW_SELECT + """
+                WHERE u.id = :userId AND b.start > :now
+                    AND (b.start < :start OR (b.start = :start AND b.id < :id))
+                ORDER BY b.start DESC, b.id DESC
+            """)
+    List<BookingView> findFutureBookings(Long userId, LocalDateTime now, LocalDateTime start, long id, Limit limit);
 
-    @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId AND b.end < CURRENT_TIMESTAMP")
-    List<Booking> findPastBookings(Long userId);
+    @Query(VIEW_SELECT + """
+                WHERE u.id = :userId AND b.end < :now
+                    AND (b.start < :start OR (b.start = :start AND b.id < :id))
+                ORDER BY b.start DESC, b.id DESC
+            """)
+    List<BookingView> findPastBookings(Long userId, LocalDateTime now, LocalDateTime start, long id, Limit limit);
 
+    @Query(VIEW_SELECT + """
+                WHERE u.id = :userId AND b.status = :status
+                    AND (b.start < :start OR (b.start = :start AND b.id < :id))
+                ORDER BY b.start DESC, b.id DESC
+            """)
+    List<BookingView> findBookingsByStatus(Long userId, BookingStatus status, LocalDateTime start, long id,
+                                           Limit limit);
 
-    @Query("SELECT b FROM Booking b WHERE b.booker.id = :userId AND b.status = :status")
-    List<Booking> findBookingsByStatus(Long userId, BookingStatus status);
+    @Query(VIEW_SELECT + """
+                WHERE u.id = :userId
+                    AND (b.start < :start OR (b.start = :start AND b.id < :id))
+                ORDER BY b.start DESC, b.id DESC
+            """)
+    List<BookingView> findBookerBookings(Long userId, LocalDateTime start, long id, Limit limit);
 
-    List<Booking> findAllByBookerId(Long userId);
+    @Query(VIEW_SELECT + """
+                WHERE i.owner.id = :ownerId AND b.start < :now AND b.end > :now
+                    AND (b.start > :start OR (b.start = :start AND b.id > :id))
+                ORDER BY b.start, b.id
+            """)
+    List<BookingView> findOwnerCurrentBookings(Long ownerId, LocalDateTime now, LocalDateTime start, long id,
+                                               Limit limit);
 
-    List<Booking> findByItemOwnerIdAndStartBeforeAndEndAfterOrderByStart(
-            Long ownerId, LocalDateTime start, LocalDateTime end);
+    @Query(VIEW_SELECT + """
+                WHERE i.owner.id = :ownerId AND b.start > :now
+                    AND (b.start > :start OR (b.start = :start AND b.id > :id))
+                ORDER BY b.start, b.id
+            """)
+    List<BookingView> findOwnerFutureBookings(Long ownerId, LocalDateTime now, LocalDateTime start, long id,
+                                              Limit limit);
 
-    List<Booking> findByItemOwnerIdAndStartAfterOrderByStart(Long ownerId, LocalDateTime now);
+    @Query(VIEW_SELECT + """
+                WHERE i.owner.id = :ownerId AND b.end < :now
+                    AND (b.start > :start OR (b.start = :start AND b.id > :id))
+                ORDER BY b.start, b.id
+            """)
+    List<BookingView> findOwnerPastBookings(Long ownerId, LocalDateTime now, LocalDateTime start, long id, Limit limit);
 
-    List<Booking> findByItemOwnerIdAndEndBeforeOrderByStart(Long ownerId, LocalDateTime now);
+    @Query(VIEW_SELECT + """
+                WHERE i.owner.id = :ownerId AND b.status = :status
+                    AND (b.start > :start OR (b.start = :start AND b.id > :id))
+                ORDER BY b.start, b.id
+            """)
+    List<BookingView> findOwnerBookingsByStatus(Long ownerId, BookingStatus status, LocalDateTime start, long id,
+                                            Limit limit);
 
-    List<Booking> findByItemOwnerIdAndStatusOrderByStart(Long ownerId, BookingStatus status);
+    @Query(VIEW_SELECT + """
+                WHERE i.owner.id = :ownerId
+                    AND (b.start > :start OR (b.start = :start AND b.id > :id))
+                ORDER BY b.start, b.id
+            """)
+    List<BookingView> findOwnerBookings(Long ownerId, LocalDateTime start, long id, Limit limit);
+
+    /**
+     * Loads a booking with the booker, item and owner a full booking response shows.
+     */
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Optional<Booking> findDetailsById(Long id);
 
-    List<Booking> findByItemOwnerIdOrderByStart(Long ownerId);
+    /**
+     * Loads bookings with the booker, item and owner a full booking response shows.
+     */
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    List<Booking> findByIdIn(Collection<Long> ids);
 
     List<Booking> findByItemIdAndBookerId(Long itemId, Long userId);
 
-    Optional<Booking> findFirstByItemIdAndEndBeforeOrderByEndDesc(Long itemId, LocalDateTime now);
+    /**
+     * Computes last and next booking dates for all given items in one grouped query.
+     * Items without bookings are absent from the result.
+     */
+    @Query("""
+            SELECT new ru.practicum.shareit.booking.model.ItemBookingDates(
+                    b.item.id,
+                    MAX(CASE WHEN b.end < :now THEN b.end END),
+                    MIN(CASE WHEN b.start > :now THEN b.start END),
+                    MIN(CASE WHEN b.end >= :now THEN b.end END))
+                FROM Booking b
+                WHERE b.item.id IN :itemIds
+                GROUP BY b.item.id
+            """)
+    List<ItemBookingDates> findBookingDates(Collection<Long> itemIds, LocalDateTime now);
 
-    Optional<Booking> findFirstByItemIdAndStartAfterOrderByStartAsc(Long itemId, LocalDateTime now);
+    /**
+     * Dates of the item's bookings in one of the given statuses that have not finished by {@code now}.
+     */
+    @Query("""
+            SELECT new ru.practicum.shareit.booking.model.BookingInterval(b.id, b.start, b.end)
+                FROM Booking b
+                WHERE b.item.id = :itemId AND b.status IN :statuses AND b.end > :now
+            """)
+    List<BookingInterval> findIntervals(Long itemId, Collection<BookingStatus> statuses, LocalDateTime now);
 }
@@ -1,6 +1,7 @@
 package ru.practicum.shareit.booking.service;
 
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 
 import java.util.List;
 
@@ -12,7 +13,11 @@ public interface BookingService {
 
     BookingDto getById(Long id, Long userId);
 
-    List<BookingDto> getBookingsByState(Long userId, String state);
+    List<BookingShortDto> getBookingsByState(Long userId, String state, String cursor, int size);
 
-    List<BookingDto> getBookingOwner(String state, Long userId);
+    List<BookingDto> getFullBookingsByState(Long userId, String state, String cursor, int size);
+
+    List<BookingShortDto> getBookingOwner(String state, Long userId, String cursor, int size);
+
+    List<BookingDto> getFullBookingOwner(String state, Long userId, String cursor, int size);
 }
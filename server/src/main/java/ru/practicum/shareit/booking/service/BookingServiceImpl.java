@@ -1,33 +1,48 @@
 package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.index.BookingIntervalIndex;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingView;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.InvalidDataException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.cache.ItemDetailCache;
 import ru.practicum.shareit.item.mapper.ItemMapper;
-import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.item.model.ItemAvailability;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BookingServiceImpl implements BookingService {
+    private static final String OVERLAP_CONSTRAINT = "bookings_no_overlap";
+
     private final BookingRepository bookingRepository;
     private final UserService userService;
-    private final ItemService itemService;
+    private final ItemRepository itemRepository;
+    private final ItemDetailCache itemDetailCache;
+    private final BookingIntervalIndex bookingIntervalIndex;
 
 
     @Override
@@ -45,20 +60,26 @@ public class BookingServiceImpl implements BookingService {
         User booker = UserMapper.mapToUser(userService.getById(userId));
 
         bookingDto.setStatus(BookingStatus.WAITING);
-        Item item = ItemMapper.mapToItem(itemService.getById(bookingDto.getItemId()));
-        if (!item.getAvailable()) {
+        ItemAvailability item = itemRepository.findAvailability(bookingDto.getItemId())
+                .orElseThrow(() -> new NotFoundException("Item not found"));
+        if (!Boolean.TRUE.equals(item.available())) {
             throw new InvalidDataException("Item with ID = " + bookingDto.getItemId() + " is not available");
         }
 
-        Booking booking = BookingMapper.mapToBooking(bookingDto, booker, item);
+        Booking booking = BookingMapper.mapToBooking(bookingDto, booker, itemRepository.getReferenceById(item.id()));
+        Booking saved = save(booking);
+        bookingIntervalIndex.hold(saved);
+        itemDetailCache.invalidateBookingDates(item.id());
 
-        return BookingMapper.mapToBookingDto(bookingRepository.save(booking));
+        return BookingMapper.mapToBookingDto(saved, ItemMapper.mapToItemDto(item));
     }
 
     @Transactional
     @Override
     public BookingDto update(Long ownerId, Long bookingId, Boolean approved) {
-        Booking booking = bookingRepository.findById(bookingId)
+        // The availability projection would not do here: the response shows the booker as well as the item
+        // and its owner, which the details graph loads in the same single statement.
+        Booking booking = bookingRepository.findDetailsById(bookingId)
                 .orElseThrow(() -> new NotFoundException("Booking not found"));
         if (booking.getId() == null) {
             throw new InvalidDataException("Booking with ID = " + bookingId + " not found");
@@ -67,17 +88,40 @@ public class BookingServiceImpl implements BookingService {
             throw new InvalidDataException("The user with ID = " + ownerId
                     + " is not the owner of item with ID = " + booking.getItem().getId());
         }
+        boolean heldDates = booking.getStatus() != null && booking.getStatus().holdsDates();
         if (approved) {
             booking.setStatus(BookingStatus.APPROVED);
         } else {
             booking.setStatus(BookingStatus.REJECTED);
         }
-        return BookingMapper.mapToBookingDto(bookingRepository.save(booking));
+        Booking saved = save(booking);
+        if (!heldDates && saved.getStatus().holdsDates()) {
+            bookingIntervalIndex.hold(saved);
+        } else if (heldDates && !saved.getStatus().holdsDates()) {
+            bookingIntervalIndex.release(saved);
+        }
+        itemDetailCache.invalidateBookingDates(booking.getItem().getId());
+        return BookingMapper.mapToBookingDto(saved);
+    }
+
+    /**
+     * Saves the booking, reporting a violation of the database overlap constraint as a conflict.
+     */
+    private Booking save(Booking booking) {
+        try {
+            return bookingRepository.save(booking);
+        } catch (DataIntegrityViolationException e) {
+            if (e.getMessage() != null && e.getMessage().contains(OVERLAP_CONSTRAINT)) {
+                throw new ConflictException("Item with ID = " + booking.getItem().getId()
+                        + " is already booked for these dates");
+            }
+            throw e;
+        }
     }
 
     @Override
     public BookingDto getById(Long bookingId, Long userId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findDetailsById(bookingId)
                 .orElseThrow(() -> new NotFoundException("Booking not found"));
 
         if (!booking.getBooker().getId().equals(userId) && !booking.getItem().getOwner().getId().equals(userId)) {
@@ -88,40 +132,86 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public List<BookingDto> getBookingsByState(Long userId, String state) {
-        List<Booking> bookings = switch (state.toUpperCase()) {
-            case "CURRENT" -> bookingRepository.findCurrentBookings(userId);
-            case "PAST" -> bookingRepository.findPastBookings(userId);
-            case "FUTURE" -> bookingRepository.findFutureBookings(userId);
-            case "WAITING" -> bookingRepository.findBookingsByStatus(userId, BookingStatus.WAITING);
-            case "REJECTED" -> bookingRepository.findBookingsByStatus(userId, BookingStatus.REJECTED);
-            default -> bookingRepository.findAllByBookerId(userId);
-        };
-        return bookings
-                .stream()
-                .map(BookingMapper::mapToBookingDto)
+    public List<BookingShortDto> getBookingsByState(Long userId, String state, String cursor, int size) {
+        return findBookerPage(userId, state, cursor, size).stream()
+                .map(BookingMapper::mapToBookingShortDto)
+                .toList();
+    }
+
+    @Override
+    public List<BookingDto> getFullBookingsByState(Long userId, String state, String cursor, int size) {
+        return loadFullBookings(findBookerPage(userId, state, cursor, size));
+    }
+
+    @Override
+    public List<BookingShortDto> getBookingOwner(String state, Long userId, String cursor, int size) {
+        return findOwnerPage(state, userId, cursor, size).stream()
+                .map(BookingMapper::mapToBookingShortDto)
                 .toList();
     }
 
-    public List<BookingDto> getBookingOwner(String state, Long userId) {
+    @Override
+    public List<BookingDto> getFullBookingOwner(String state, Long userId, String cursor, int size) {
+        return loadFullBookings(findOwnerPage(state, userId, cursor, size));
+    }
+
+    private List<BookingView> findBookerPage(Long userId, String state, String cursor, int size) {
+        LocalDateTime now = LocalDateTime.now();
+        PageCursor after = PageCursor.decode(cursor, PageCursor.firstDescending());
+        Limit limit = PageCursor.limit(size);
+
+        return switch (state.toUpperCase()) {
+            case "CURRENT" -> bookingRepository.findCurrentBookings(
+                    userId, now, after.getTime(), after.getId(), limit);
+            case "PAST" -> bookingRepository.findPastBookings(userId, now, after.getTime(), after.getId(), limit);
+            case "FUTURE" -> bookingRepository.findFutureBookings(userId, now, after.getTime(), after.getId(), limit);
+            case "WAITING" -> bookingRepository.findBookingsByStatus(
+                    userId, BookingStatus.WAITING, after.getTime(), after.getId(), limit);
+            case "REJECTED" -> bookingRepository.findBookingsByStatus(
+                    userId, BookingStatus.REJECTED, after.getTime(), after.getId(), limit);
+            default -> bookingRepository.findBookerBookings(userId, after.getTime(), after.getId(), limit);
+        };
+    }
+
+    private List<BookingView> findOwnerPage(String state, Long userId, String cursor, int size) {
         if (state == null || state.isEmpty()) {
             throw new IllegalArgumentException("State must not be null or empty");
         }
         LocalDateTime now = LocalDateTime.now();
-
-        List<Booking> bookings = switch (state.toUpperCase()) {
-            case "CURRENT" -> bookingRepository.findByItemOwnerIdAndStartBeforeAndEndAfterOrderByStart(
-                    userId, now, now);
-            case "PAST" -> bookingRepository.findByItemOwnerIdAndEndBeforeOrderByStart(userId, now);
-            case "FUTURE" -> bookingRepository.findByItemOwnerIdAndStartAfterOrderByStart(userId, now);
-            case "WAITING" -> bookingRepository.findByItemOwnerIdAndStatusOrderByStart(userId, BookingStatus.WAITING);
-            case "REJECTED" -> bookingRepository.findByItemOwnerIdAndStatusOrderByStart(userId, BookingStatus.REJECTED);
-            default -> bookingRepository.findByItemOwnerIdOrderByStart(userId);
+        PageCursor after = PageCursor.decode(cursor, PageCursor.firstAscending());
+        Limit limit = PageCursor.limit(size);
+
+        return switch (state.toUpperCase()) {
+            case "CURRENT" -> bookingRepository.findOwnerCurrentBookings(
+                    userId, now, after.getTime(), after.getId(), limit);
+            case "PAST" -> bookingRepository.findOwnerPastBookings(
+                    userId, now, after.getTime(), after.getId(), limit);
+            case "FUTURE" -> bookingRepository.findOwnerFutureBookings(
+                    userId, now, after.getTime(), after.getId(), limit);
+            case "WAITING" -> bookingRepository.findOwnerBookingsByStatus(
+                    userId, BookingStatus.WAITING, after.getTime(), after.getId(), limit);
+            case "REJECTED" -> bookingRepository.findOwnerBookingsByStatus(
+                    userId, BookingStatus.REJECTED, after.getTime(), after.getId(), limit);
+            default -> bookingRepository.findOwnerBookings(userId, after.getTime(), after.getId(), limit);
         };
-        return bookings
-                .stream()
+    }
+
+    /**
+     * Loads the full bookings of a page in one query, keeping the page order.
+     */
+    private List<BookingDto> loadFullBookings(List<BookingView> page) {
+        if (page.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Booking> bookings = bookingRepository.findByIdIn(page.stream()
+                        .map(BookingView::id)
+                        .toList()).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+
+        return page.stream()
+                .map(view -> bookings.get(view.id()))
+                .filter(Objects::nonNull)
                 .map(BookingMapper::mapToBookingDto)
                 .toList();
     }
 }
-
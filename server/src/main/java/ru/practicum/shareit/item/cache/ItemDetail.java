@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.cache;
+
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.Set;
+
+/**
+ * Viewer-independent item detail together with what it was assembled from.
+ *
+ * @param item    item with comments, without owner-only booking dates
+ * @param userIds users whose names or emails are shown: owner and comment authors
+ */
+public record ItemDetail(ItemDto item, Set<Long> userIds) {
+}
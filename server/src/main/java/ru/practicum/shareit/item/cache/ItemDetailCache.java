@@ -0,0 +1,159 @@
+package ru.practicum.shareit.item.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.model.ItemBookingDates;
+import ru.practicum.shareit.comment.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded read-through cache of assembled item details for {@code GET /items/{id}}.
+ * <p>
+ * Entries are weighed by their approximate size in characters and evicted once the total weight
+ * exceeds {@code shareit.item.cache.maximum-weight}. Owner-only booking dates are cached next to the
+ * detail until the next booking starts or a booking ends, whichever comes first, and are only handed
+ * out to the owner by the service.
+ * <p>
+ * Writers invalidate after their transaction commits. Every invalidation bumps a generation counter;
+ * a value loaded while the generation changed is dropped instead of cached, so a load racing with a
+ * write can never leave stale data behind.
+ */
+@Component
+public class ItemDetailCache implements MeterBinder {
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final Cache<Long, Entry> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ItemDetailCache(@Value("${shareit.item.cache.maximum-weight:16777216}") long maximumWeight) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Long id, Entry entry) -> weigh(entry.detail().item()))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "items.detail");
+    }
+
+    /**
+     * Returns the cached detail of an item, loading and caching it on a miss.
+     */
+    public ItemDto get(Long itemId, Function<Long, ItemDetail> loader) {
+        Entry entry = cache.getIfPresent(itemId);
+        if (entry == null) {
+            long loadedAt = generation.get();
+            entry = new Entry(loader.apply(itemId), null);
+            cacheIfCurrent(itemId, entry, loadedAt);
+        }
+        return entry.detail().item();
+    }
+
+    /**
+     * Returns booking dates of a cached item while they are still valid, otherwise loads them.
+     */
+    public ItemBookingDates getBookingDates(Long itemId, LocalDateTime now, Supplier<ItemBookingDates> loader) {
+        Entry entry = cache.getIfPresent(itemId);
+        if (entry != null && entry.dates() != null && now.isBefore(entry.dates().validUntil())) {
+            return entry.dates();
+        }
+        long loadedAt = generation.get();
+        ItemBookingDates dates = loader.get();
+        if (entry != null && cache.asMap().replace(itemId, entry, new Entry(entry.detail(), dates))
+                && generation.get() != loadedAt) {
+            cache.invalidate(itemId);
+        }
+        return dates;
+    }
+
+    public void invalidateItem(Long itemId) {
+        afterCommit(() -> cache.invalidate(itemId));
+    }
+
+    /**
+     * Keeps the item detail but drops its booking dates, they are reloaded on the next owner view.
+     */
+    public void invalidateBookingDates(Long itemId) {
+        afterCommit(() -> cache.asMap().computeIfPresent(itemId, (id, entry) -> new Entry(entry.detail(), null)));
+    }
+
+    /**
+     * Drops items showing the user as owner or comment author.
+     */
+    public void invalidateUser(Long userId) {
+        afterCommit(() -> invalidateIf(entry -> entry.detail().userIds().contains(userId)));
+    }
+
+    public void invalidateAll() {
+        afterCommit(cache::invalidateAll);
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private void cacheIfCurrent(Long itemId, Entry entry, long loadedAt) {
+        cache.put(itemId, entry);
+        if (generation.get() != loadedAt) {
+            cache.invalidate(itemId);
+        }
+    }
+
+    private void invalidateIf(Predicate<Entry> predicate) {
+        cache.asMap().values().removeIf(predicate);
+    }
+
+    private void afterCommit(Runnable invalidation) {
+        Runnable bumped = () -> {
+            generation.incrementAndGet();
+            invalidation.run();
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumped.run();
+                }
+            });
+        } else {
+            bumped.run();
+        }
+    }
+
+    private static int weigh(ItemDto item) {
+        int weight = ENTRY_OVERHEAD + length(item.getName()) + length(item.getDescription());
+        if (item.getComments() != null) {
+            for (CommentDto comment : item.getComments()) {
+                weight += ENTRY_OVERHEAD / 2 + length(comment.getText()) + length(comment.getAuthorName());
+            }
+        }
+        return weight;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private record Entry(ItemDetail detail, ItemBookingDates dates) {
+        Entry {
+            Objects.requireNonNull(detail);
+        }
+    }
+}
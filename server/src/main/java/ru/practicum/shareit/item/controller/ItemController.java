@@ -4,6 +4,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -17,8 +18,8 @@ import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.PageCursor;
 
-import java.util.Collection;
 import java.util.List;
 
 @Slf4j
@@ -45,9 +46,12 @@ public class ItemController {
     }
 
     @GetMapping
-    public Collection<ItemDto> getAllItemsByUser(@RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("Request GET /items from user {}", userId);
-        return itemService.getAllItemsByUser(userId);
+    public ResponseEntity<List<ItemDto>> getAllItemsByUser(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "20") int size) {
+        log.info("Request GET /items from user {} cursor={} size={}", userId, cursor, size);
+        return PageCursor.toResponse(itemService.getAllItemsByUser(userId, cursor, size), size,
+                item -> PageCursor.of(item.getId()));
     }
 
     @GetMapping("/{id}")
@@ -58,9 +62,11 @@ public class ItemController {
     }
 
     @GetMapping("/search")
-    public List<ItemDto> getItem(@RequestParam String text) {
-        log.info("Request GET /search: {}", text);
-        return itemService.getText(text);
+    public List<ItemDto> getItem(@RequestParam String text,
+                                 @RequestParam(defaultValue = "0") int from,
+                                 @RequestParam(defaultValue = "20") int size) {
+        log.info("Request GET /search: {} from={} size={}", text, from, size);
+        return itemService.getText(text, from, size);
     }
 
     @PostMapping("{itemId}/comment")
@@ -7,7 +7,6 @@ import jakarta.validation.constraints.PastOrPresent;
 import lombok.Builder;
 import lombok.Data;
 import ru.practicum.shareit.comment.dto.CommentDto;
-import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.time.LocalDateTime;
@@ -17,7 +16,7 @@ import java.util.List;
  * Data Transfer Object representing an Item.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class ItemDto {
     private Long id;
     @NotBlank(message = "Name cannot be empty")
@@ -28,7 +27,6 @@ public class ItemDto {
     private Boolean available;
     @NotNull(message = "Owner must be specified")
     private UserDto owner;
-    private ItemRequestDto request;
     private Long requestId;
     private List<CommentDto> comments;
     @PastOrPresent(message = "Last booking date must be in the past or present")
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Item reference shown in compact booking lists.
+ */
+@Data
+@Builder
+public class ItemShortDto {
+    private Long id;
+    private String name;
+}
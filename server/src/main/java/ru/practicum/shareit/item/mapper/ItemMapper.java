@@ -5,7 +5,9 @@ import lombok.experimental.UtilityClass;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.item.model.ItemAvailability;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 
 import java.time.LocalDateTime;
@@ -21,7 +23,9 @@ public class ItemMapper {
                 .name(itemDto.getName())
                 .description(itemDto.getDescription())
                 .owner(UserMapper.mapToUser(itemDto.getOwner()))
-                .request(ItemRequestMapper.mapToItemRequest(itemDto.getRequest()))
+                .request(itemDto.getRequestId() == null ? null : ItemRequest.builder()
+                        .id(itemDto.getRequestId())
+                        .build())
                 .available(itemDto.getAvailable())
                 .build();
     }
@@ -36,11 +40,27 @@ public class ItemMapper {
                 .name(item.getName())
                 .description(item.getDescription())
                 .owner(UserMapper.mapToUserDto(item.getOwner()))
-                .request(ItemRequestMapper.mapToItemRequestDto(item.getRequest()))
+                .requestId(item.getRequest() == null ? null : item.getRequest().getId())
                 .available(item.getAvailable())
                 .comments(comments)
                 .lastBooking(lastBookingDate)
                 .nextBooking(nextBookingDate)
                 .build();
     }
+
+    public ItemDto mapToItemDto(@NotNull final ItemAvailability item) {
+
+        return ItemDto.builder()
+                .id(item.id())
+                .name(item.name())
+                .description(item.description())
+                .owner(item.ownerId() == null ? null : UserDto.builder()
+                        .id(item.ownerId())
+                        .name(item.ownerName())
+                        .email(item.ownerEmail())
+                        .build())
+                .requestId(item.requestId())
+                .available(item.available())
+                .build();
+    }
 }
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.item.model;
+
+/**
+ * What booking needs to know about an item: whether it can be booked, and what the new booking
+ * shows of the item and its owner.
+ */
+public record ItemAvailability(Long id, String name, String description, Boolean available, Long requestId,
+                               Long ownerId, String ownerName, String ownerEmail) {
+}
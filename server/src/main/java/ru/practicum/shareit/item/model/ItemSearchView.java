@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.model;
+
+/**
+ * Projection of the item columns needed to build the in-memory search index.
+ */
+public interface ItemSearchView {
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    Boolean getAvailable();
+}
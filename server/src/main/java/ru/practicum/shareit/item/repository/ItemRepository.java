@@ -1,14 +1,61 @@
 package ru.practicum.shareit.item.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemAvailability;
+import ru.practicum.shareit.item.model.ItemSearchView;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ItemRepository extends JpaRepository<Item, Long> {
-    List<Item> findByOwnerId(long userId);
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemSearchRepository {
+    @Query("SELECT i FROM Item i WHERE i.owner.id = :ownerId AND i.id > :afterId ORDER BY i.id")
+    List<Item> findByOwnerIdAfter(long ownerId, long afterId, Limit limit);
 
-    List<Item> findByAvailableTrueAndNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String text, String descriptionText);
+    @Query("SELECT i.id FROM Item i WHERE i.owner.id = :ownerId")
+    List<Long> findIdsByOwnerId(long ownerId);
+
+    /**
+     * Ids of the items answering the user's requests, which are deleted along with the requests.
+     */
+    @Query("SELECT i.id FROM Item i JOIN i.request r WHERE r.requester.id = :requesterId")
+    List<Long> findIdsByRequesterId(long requesterId);
+
+    @Query("""
+            SELECT i.id AS id, i.name AS name, i.description AS description, i.available AS available
+                FROM Item i
+                WHERE i.id > :afterId
+                ORDER BY i.id
+            """)
+    List<ItemSearchView> findSearchViewsAfter(long afterId, Limit limit);
+
+    /**
+     * Reads an item's availability, fields and owner in one statement, without loading the item, its owner,
+     * its request or its comments as entities.
+     */
+    @Query("""
+            SELECT new ru.practicum.shareit.item.model.ItemAvailability(i.id, i.name, i.description, i.available,
+                    i.request.id, o.id, o.name, o.email)
+                FROM Item i
+                LEFT JOIN i.owner o
+                WHERE i.id = :itemId
+            """)
+    Optional<ItemAvailability> findAvailability(long itemId);
+
+    /**
+     * Loads the items answering any of the requests, with their owners, in one query.
+     */
+    @Query("""
+            SELECT i
+                FROM Item i
+                LEFT JOIN FETCH i.owner
+                WHERE i.request.id IN :requestIds
+                ORDER BY i.id
+            """)
+    List<Item> findByRequestIdIn(Collection<Long> requestIds);
 }
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.item.repository;
+
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+/**
+ * Full-text search over item name and description.
+ */
+public interface ItemSearchRepository {
+
+    /**
+     * Finds available items matching every token of the given text, most relevant first.
+     * Matches in the name rank above matches in the description; ties are ordered by id.
+     *
+     * @param text free text entered by the user
+     * @param from number of results to skip
+     * @param size maximum number of results to return
+     */
+    List<Item> search(String text, int from, int size);
+}
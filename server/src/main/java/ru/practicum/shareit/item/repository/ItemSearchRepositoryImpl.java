@@ -0,0 +1,89 @@
+package ru.practicum.shareit.item.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.SearchTokens;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * On PostgreSQL the search runs against the GIN index on
+ * {@code to_tsvector('simple', name || ' ' || description)} (see db/migration/postgresql)
+ * and is ranked with {@code ts_rank}. Other databases (H2 in tests) fall back to
+ * a tokenized {@code LIKE} search with an equivalent ranking.
+ */
+public class ItemSearchRepositoryImpl implements ItemSearchRepository {
+    private static final String POSTGRES_SEARCH = """
+            SELECT i.*
+                FROM items i, to_tsquery('simple', :query) q
+                WHERE i.available = TRUE
+                    AND to_tsvector('simple', i.name || ' ' || i.description) @@ q
+                ORDER BY ts_rank(setweight(to_tsvector('simple', i.name), 'A')
+                        || setweight(to_tsvector('simple', i.description), 'B'), q) DESC, i.id
+                LIMIT :size OFFSET :from
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Boolean postgres;
+
+    @Override
+    public List<Item> search(String text, int from, int size) {
+        List<String> tokens = SearchTokens.tokenize(text);
+        if (tokens.isEmpty() || size <= 0) {
+            return List.of();
+        }
+        return isPostgres() ? searchPostgres(tokens, from, size) : searchPortable(tokens, from, size);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Item> searchPostgres(List<String> tokens, int from, int size) {
+        String query = tokens.stream()
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+
+        return entityManager.createNativeQuery(POSTGRES_SEARCH, Item.class)
+                .setParameter("query", query)
+                .setParameter("from", from)
+                .setParameter("size", size)
+                .getResultList();
+    }
+
+    private List<Item> searchPortable(List<String> tokens, int from, int size) {
+        StringBuilder where = new StringBuilder("SELECT i FROM Item i WHERE i.available = true");
+        StringBuilder rank = new StringBuilder();
+        for (int i = 0; i < tokens.size(); i++) {
+            String param = ":t" + i;
+            where.append(" AND (lower(i.name) LIKE ").append(param)
+                    .append(" OR lower(i.description) LIKE ").append(param).append(")");
+            rank.append(i == 0 ? "" : " + ")
+                    .append("CASE WHEN lower(i.name) LIKE ").append(param).append(" THEN 2 ELSE 0 END")
+                    .append(" + CASE WHEN lower(i.description) LIKE ").append(param).append(" THEN 1 ELSE 0 END");
+        }
+        where.append(" ORDER BY ").append(rank).append(" DESC, i.id");
+
+        TypedQuery<Item> query = entityManager.createQuery(where.toString(), Item.class);
+        for (int i = 0; i < tokens.size(); i++) {
+            query.setParameter("t" + i, "%" + tokens.get(i) + "%");
+        }
+        return query.setFirstResult(from)
+                .setMaxResults(size)
+                .getResultList();
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgres;
+    }
+}
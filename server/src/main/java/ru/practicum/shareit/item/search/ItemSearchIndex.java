@@ -0,0 +1,458 @@
+package ru.practicum.shareit.item.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSearchView;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+/**
+ * In-memory trigram inverted index over item name and description.
+ * <p>
+ * Every document gets an ordinal; each trigram maps to a sorted {@code int[]} posting list of ordinals.
+ * A query token of three or more characters narrows the candidates to the intersection of its
+ * trigram postings, then every candidate is verified with a substring check against the indexed text,
+ * so results keep the {@code LIKE %text%} semantics. Updated items get a new ordinal and the old one
+ * is tombstoned, as are removed items; the index compacts itself once tombstones outnumber live documents.
+ * <p>
+ * The index is built when the application is ready and kept current by {@link #index(Item)} and
+ * {@link #remove(long)}, which apply changes after the surrounding transaction commits.
+ */
+@Slf4j
+@Component
+public class ItemSearchIndex implements MeterBinder {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int COMPACTION_THRESHOLD = 1024;
+    private static final int MAX_SCORE = 3 * SearchTokens.MAX_TOKENS;
+
+    private final ItemRepository itemRepository;
+    private final boolean enabled;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private State state = new State();
+    private List<Consumer<State>> pendingDuringRebuild;
+    private volatile boolean ready;
+
+    public ItemSearchIndex(ItemRepository itemRepository,
+                           @Value("${shareit.search.index.enabled:true}") boolean enabled) {
+        this.itemRepository = itemRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Loads every item in id order, in batches, and atomically replaces the current index.
+     * Changes indexed while the rebuild is running are replayed onto the new index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            log.info("Item search index is disabled, search falls back to the database");
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State fresh = new State();
+        long afterId = 0;
+        List<ItemSearchView> batch;
+        do {
+            batch = itemRepository.findSearchViewsAfter(afterId, Limit.of(REBUILD_BATCH_SIZE));
+            for (ItemSearchView view : batch) {
+                fresh.put(view.getId(), view.getName(), view.getDescription(), Boolean.TRUE.equals(view.getAvailable()));
+                afterId = view.getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(change -> change.accept(fresh));
+            pendingDuringRebuild = null;
+            state = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Item search index built: {} documents, {} trigrams, ~{} bytes",
+                documentCount(), trigramCount(), memoryFootprintBytes());
+    }
+
+    /**
+     * Adds or replaces the item in the index once the current transaction commits.
+     */
+    public void index(Item item) {
+        if (!enabled) {
+            return;
+        }
+        long id = item.getId();
+        String name = item.getName();
+        String description = item.getDescription();
+        boolean available = Boolean.TRUE.equals(item.getAvailable());
+        afterCommit(() -> put(id, name, description, available));
+    }
+
+    /**
+     * Drops the item from the index once the current transaction commits.
+     */
+    public void remove(long itemId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> delete(itemId));
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    void put(long id, String name, String description, boolean available) {
+        apply(target -> target.put(id, name, description, available));
+    }
+
+    void delete(long id) {
+        apply(target -> target.remove(id));
+    }
+
+    private void apply(Consumer<State> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+            if (state.deletedCount > COMPACTION_THRESHOLD && state.deletedCount > state.liveCount()) {
+                state = state.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds available items whose name or description contains every token of the text.
+     * Name matches rank above description matches, ties are ordered by item id.
+     *
+     * @return ids of the requested page of matching items
+     */
+    public List<Long> search(String text, int from, int size) {
+        List<String> tokens = SearchTokens.tokenize(text);
+        if (tokens.isEmpty() || size <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return state.search(tokens, from, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return state.liveCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int trigramCount() {
+        lock.readLock().lock();
+        try {
+            return state.postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimated heap used by postings, lookup tables and the indexed text, in bytes.
+     */
+    public long memoryFootprintBytes() {
+        lock.readLock().lock();
+        try {
+            return state.memoryFootprintBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("items.search.index.memory", this, ItemSearchIndex::memoryFootprintBytes)
+                .description("Estimated heap used by the item search index")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("items.search.index.documents", this, ItemSearchIndex::documentCount)
+                .description("Items in the search index")
+                .register(registry);
+        Gauge.builder("items.search.index.trigrams", this, ItemSearchIndex::trigramCount)
+                .description("Distinct trigrams in the search index")
+                .register(registry);
+    }
+
+    static long trigram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32)
+                | ((long) text.charAt(offset + 1) << 16)
+                | text.charAt(offset + 2);
+    }
+
+    private static int[] intersect(int[] left, int[] right, int rightSize) {
+        int[] result = new int[Math.min(left.length, rightSize)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < rightSize) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Sorted, growable posting list of document ordinals.
+     */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size > 0 && docs[size - 1] == ordinal) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = ordinal;
+        }
+    }
+
+    private static final class State {
+        private static final int INITIAL_CAPACITY = 64;
+        // Rough per-entry heap cost of HashMap.Node + boxed Long key + value object header.
+        private static final int MAP_ENTRY_BYTES = 64;
+        private static final int ARRAY_HEADER_BYTES = 16;
+        private static final int STRING_BYTES = 40;
+
+        private final Map<Long, Postings> postings = new HashMap<>();
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final BitSet available = new BitSet();
+        private final BitSet deleted = new BitSet();
+        private long[] itemIds = new long[INITIAL_CAPACITY];
+        private String[] names = new String[INITIAL_CAPACITY];
+        private String[] descriptions = new String[INITIAL_CAPACITY];
+        private int size;
+        private int deletedCount;
+        private long textBytes;
+
+        int liveCount() {
+            return size - deletedCount;
+        }
+
+        void put(long itemId, String name, String description, boolean isAvailable) {
+            String normalizedName = SearchTokens.normalize(name);
+            String normalizedDescription = SearchTokens.normalize(description);
+            Integer previous = ordinals.get(itemId);
+            if (previous != null) {
+                if (names[previous].equals(normalizedName) && descriptions[previous].equals(normalizedDescription)) {
+                    available.set(previous, isAvailable);
+                    return;
+                }
+                tombstone(previous);
+            }
+
+            int ordinal = size++;
+            if (ordinal == itemIds.length) {
+                int capacity = itemIds.length * 2;
+                itemIds = Arrays.copyOf(itemIds, capacity);
+                names = Arrays.copyOf(names, capacity);
+                descriptions = Arrays.copyOf(descriptions, capacity);
+            }
+            itemIds[ordinal] = itemId;
+            names[ordinal] = normalizedName;
+            descriptions[ordinal] = normalizedDescription;
+            available.set(ordinal, isAvailable);
+            ordinals.put(itemId, ordinal);
+            textBytes += textBytes(normalizedName) + textBytes(normalizedDescription);
+
+            addTrigrams(normalizedName, ordinal);
+            addTrigrams(normalizedDescription, ordinal);
+        }
+
+        void remove(long itemId) {
+            Integer ordinal = ordinals.remove(itemId);
+            if (ordinal != null) {
+                tombstone(ordinal);
+            }
+        }
+
+        private void tombstone(int ordinal) {
+            textBytes -= textBytes(names[ordinal]) + textBytes(descriptions[ordinal]);
+            names[ordinal] = null;
+            descriptions[ordinal] = null;
+            deleted.set(ordinal);
+            deletedCount++;
+        }
+
+        private void addTrigrams(String text, int ordinal) {
+            for (int i = 0; i + 3 <= text.length(); i++) {
+                postings.computeIfAbsent(trigram(text, i), key -> new Postings()).add(ordinal);
+            }
+        }
+
+        State compact() {
+            State compacted = new State();
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                if (!deleted.get(ordinal)) {
+                    compacted.put(itemIds[ordinal], names[ordinal], descriptions[ordinal], available.get(ordinal));
+                }
+            }
+            return compacted;
+        }
+
+        List<Long> search(List<String> tokens, int from, int pageSize) {
+            int[] candidates = candidates(tokens);
+            LongStream.Builder[] buckets = new LongStream.Builder[MAX_SCORE + 1];
+            int limit = candidates == null ? size : candidates.length;
+            for (int i = 0; i < limit; i++) {
+                int ordinal = candidates == null ? i : candidates[i];
+                if (deleted.get(ordinal) || !available.get(ordinal)) {
+                    continue;
+                }
+                int score = score(ordinal, tokens);
+                if (score > 0) {
+                    if (buckets[score] == null) {
+                        buckets[score] = LongStream.builder();
+                    }
+                    buckets[score].add(itemIds[ordinal]);
+                }
+            }
+
+            List<Long> page = new ArrayList<>(Math.min(pageSize, limit));
+            int skip = from;
+            for (int score = MAX_SCORE; score > 0 && page.size() < pageSize; score--) {
+                if (buckets[score] == null) {
+                    continue;
+                }
+                long[] ids = buckets[score].build().toArray();
+                if (skip >= ids.length) {
+                    skip -= ids.length;
+                    continue;
+                }
+                Arrays.sort(ids);
+                for (int i = skip; i < ids.length && page.size() < pageSize; i++) {
+                    page.add(ids[i]);
+                }
+                skip = 0;
+            }
+            return page;
+        }
+
+        /**
+         * Intersects the postings of every trigram of every token that is long enough to have one.
+         *
+         * @return sorted candidate ordinals, or {@code null} when no token narrows the search
+         */
+        private int[] candidates(List<String> tokens) {
+            Set<Long> trigrams = new HashSet<>();
+            for (String token : tokens) {
+                for (int i = 0; i + 3 <= token.length(); i++) {
+                    trigrams.add(trigram(token, i));
+                }
+            }
+            if (trigrams.isEmpty()) {
+                return null;
+            }
+            List<Postings> lists = new ArrayList<>(trigrams.size());
+            for (Long key : trigrams) {
+                Postings list = postings.get(key);
+                if (list == null) {
+                    return new int[0];
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            int[] result = Arrays.copyOf(lists.get(0).docs, lists.get(0).size);
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = intersect(result, lists.get(i).docs, lists.get(i).size);
+            }
+            return result;
+        }
+
+        private int score(int ordinal, List<String> tokens) {
+            int total = 0;
+            for (String token : tokens) {
+                int tokenScore = (names[ordinal].contains(token) ? 2 : 0)
+                        + (descriptions[ordinal].contains(token) ? 1 : 0);
+                if (tokenScore == 0) {
+                    return 0;
+                }
+                total += tokenScore;
+            }
+            return total;
+        }
+
+        long memoryFootprintBytes() {
+            long bytes = 0;
+            for (Postings list : postings.values()) {
+                bytes += MAP_ENTRY_BYTES + ARRAY_HEADER_BYTES + 4L * list.docs.length;
+            }
+            bytes += (long) ordinals.size() * MAP_ENTRY_BYTES;
+            bytes += 3L * ARRAY_HEADER_BYTES + 8L * itemIds.length + 4L * names.length + 4L * descriptions.length;
+            bytes += (available.size() + deleted.size()) / 8;
+            return bytes + textBytes;
+        }
+
+        private static long textBytes(String text) {
+            boolean latin1 = text.chars().allMatch(c -> c < 256);
+            return STRING_BYTES + (long) text.length() * (latin1 ? 1 : 2);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits search text into lower-case tokens, shared by every item search implementation.
+ */
+@UtilityClass
+public class SearchTokens {
+    public static final int MAX_TOKENS = 8;
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    public List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(TOKEN_SEPARATOR.split(normalize(text)))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .limit(MAX_TOKENS)
+                .toList();
+    }
+
+    public String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
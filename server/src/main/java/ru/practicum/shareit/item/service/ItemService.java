@@ -16,9 +16,9 @@ public interface ItemService extends CrudService<ItemDto> {
 
     ItemDto getById(Long id, Long userId);
 
-    List<ItemDto> getAllItemsByUser(Long userId);
+    List<ItemDto> getAllItemsByUser(Long userId, String cursor, int size);
 
-    List<ItemDto> getText(String text);
+    List<ItemDto> getText(String text, int from, int size);
 
     CommentDto createComment(Long itemId, CommentDto comment, Long userId);
 
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.ItemBookingDates;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.comment.mapper.CommentMapper;
@@ -12,11 +13,14 @@ import ru.practicum.shareit.comment.model.Comment;
 import ru.practicum.shareit.comment.repository.CommentRepository;
 import ru.practicum.shareit.exception.InvalidDataException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.cache.ItemDetail;
+import ru.practicum.shareit.item.cache.ItemDetailCache;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
-import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
@@ -24,8 +28,13 @@ import ru.practicum.shareit.user.repository.UserRepository;
 
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -37,6 +46,8 @@ public class ItemServiceImpl implements ItemService {
     private final CommentRepository commentRepository;
     private final BookingRepository bookingRepository;
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemDetailCache itemDetailCache;
 
     @Override
     @Transactional
@@ -57,7 +68,9 @@ public class ItemServiceImpl implements ItemService {
                 .owner(owner)
                 .request(itemRequest)
                 .build();
-        return ItemMapper.mapToItemDto(itemRepository.save(item), List.of(), null, null);
+        Item saved = itemRepository.save(item);
+        itemSearchIndex.index(saved);
+        return ItemMapper.mapToItemDto(saved, List.of(), null, null);
     }
 
     @Override
@@ -72,8 +85,9 @@ public class ItemServiceImpl implements ItemService {
             if (updatedItem.getAvailable() != null) {
                 item.setAvailable(updatedItem.getAvailable());
             }
-            if (updatedItem.getRequest() != null) {
-                item.setRequest(ItemRequestMapper.mapToItemRequest(updatedItem.getRequest()));
+            if (updatedItem.getRequestId() != null) {
+                item.setRequest(itemRequestRepository.findById(updatedItem.getRequestId())
+                        .orElseThrow(() -> new NotFoundException("Request is not found")));
             }
             if (updatedItem.getName() != null) {
                 item.setName(updatedItem.getName());
@@ -81,7 +95,10 @@ public class ItemServiceImpl implements ItemService {
             if (updatedItem.getDescription() != null) {
                 item.setDescription(updatedItem.getDescription());
             }
-            return ItemMapper.mapToItemDto(itemRepository.save(item), comments, null, null);
+            Item saved = itemRepository.save(item);
+            itemSearchIndex.index(saved);
+            itemDetailCache.invalidateItem(itemId);
+            return ItemMapper.mapToItemDto(saved, comments, null, null);
         }
         throw new NotFoundException("The user with ID = " + userId + " is not the owner");
     }
@@ -90,81 +107,94 @@ public class ItemServiceImpl implements ItemService {
     public List<ItemDto> getAll() {
         List<Item> items = itemRepository.findAll();
 
-        return items.stream()
-                .map(item -> {
-                    List<CommentDto> comments = getComments(item.getId());
-                    return ItemMapper.mapToItemDto(item, comments, null, null);
-                })
-                .collect(Collectors.toList());
+        return mapToItemDtos(items);
     }
 
     @Override
     public ItemDto getById(Long id) {
-        Item item = itemRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Item not found"));
-
-        List<CommentDto> comments = getComments(item.getId());
-
-        return ItemMapper.mapToItemDto(item, comments, null, null);
+        return itemDetailCache.get(id, this::loadItemDetail).toBuilder().build();
     }
 
     @Override
     public ItemDto getById(Long itemId, Long userId) {
-        Item item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new NotFoundException("Item not found"));
-
-        List<CommentDto> comments = getComments(item.getId());
+        ItemDto item = itemDetailCache.get(itemId, this::loadItemDetail);
 
-        boolean isOwner = item.getOwner().getId().equals(userId);
+        boolean isOwner = item.getOwner() != null && Objects.equals(item.getOwner().getId(), userId);
 
-        LocalDateTime lastBookingDate = null;
-        LocalDateTime nextBookingDate = null;
-
-        if (isOwner) {
-            lastBookingDate = getLastBookingDate(item.getId());
-            nextBookingDate = getNextBookingDate(item.getId());
+        if (!isOwner) {
+            return item.toBuilder().build();
         }
 
-        return ItemMapper.mapToItemDto(item, comments, lastBookingDate, nextBookingDate);
+        LocalDateTime now = LocalDateTime.now();
+        ItemBookingDates dates = itemDetailCache.getBookingDates(itemId, now,
+                () -> getBookingDates(List.of(itemId), now).get(itemId));
+
+        return item.toBuilder()
+                .lastBooking(dates == null ? null : dates.lastBooking())
+                .nextBooking(dates == null ? null : dates.nextBooking())
+                .build();
     }
 
-    private LocalDateTime getLastBookingDate(Long itemId) {
-        return bookingRepository.findFirstByItemIdAndEndBeforeOrderByEndDesc(itemId, LocalDateTime.now())
-                .map(Booking::getEnd)
-                .orElse(null);
+    /**
+     * Assembles the viewer-independent part of an item detail and records the users it shows.
+     */
+    private ItemDetail loadItemDetail(Long itemId) {
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new NotFoundException("Item not found"));
+
+        List<Comment> comments = commentRepository.findByItemId(itemId);
+
+        Set<Long> userIds = new HashSet<>();
+        if (item.getOwner() != null) {
+            userIds.add(item.getOwner().getId());
+        }
+        comments.forEach(comment -> userIds.add(comment.getAuthorId()));
+
+        return new ItemDetail(ItemMapper.mapToItemDto(item, mapToCommentDtos(comments), null, null),
+                Set.copyOf(userIds));
     }
 
-    private LocalDateTime getNextBookingDate(Long itemId) {
-        return bookingRepository.findFirstByItemIdAndStartAfterOrderByStartAsc(itemId, LocalDateTime.now())
-                .map(Booking::getStart)
-                .orElse(null);
+    /**
+     * Loads last and next booking dates of all given items with one grouped query.
+     *
+     * @return booking dates by item id, items without bookings are absent from the map
+     */
+    protected Map<Long, ItemBookingDates> getBookingDates(Collection<Long> itemIds, LocalDateTime now) {
+        if (itemIds.isEmpty()) {
+            return Map.of();
+        }
+        return bookingRepository.findBookingDates(itemIds, now).stream()
+                .collect(Collectors.toMap(ItemBookingDates::itemId, Function.identity()));
     }
 
     @Override
-    public List<ItemDto> getAllItemsByUser(Long userId) {
-        List<Item> items = itemRepository.findByOwnerId(userId);
-
-        return items.stream()
-                .map(item -> {
-                    List<CommentDto> comments = getComments(item.getId());
-                    return ItemMapper.mapToItemDto(item, comments, null, null);
-                })
-                .toList();
+    public List<ItemDto> getAllItemsByUser(Long userId, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor, PageCursor.of(0));
+        List<Item> items = itemRepository.findByOwnerIdAfter(userId, after.getId(), PageCursor.limit(size));
+        Map<Long, ItemBookingDates> dates = getBookingDates(items.stream()
+                .map(Item::getId)
+                .toList(), LocalDateTime.now());
+
+        return mapToItemDtos(items, dates);
     }
 
     @Override
-    public List<ItemDto> getText(String text) {
-        if (text == null || text.isEmpty()) {
+    public List<ItemDto> getText(String text, int from, int size) {
+        if (text == null || text.isBlank()) {
             return List.of();
         }
-        List<Item> items = itemRepository.findByAvailableTrueAndNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(text, text);
+        if (!itemSearchIndex.isReady()) {
+            return mapToItemDtos(itemRepository.search(text, from, size));
+        }
 
-        return items.stream()
-                .map(item -> {
-                    List<CommentDto> comments = getComments(item.getId());
-                    return ItemMapper.mapToItemDto(item, comments, null, null);
-                })
-                .toList();
+        List<Long> ids = itemSearchIndex.search(text, from, size);
+        Map<Long, Item> itemsById = itemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        return mapToItemDtos(ids.stream()
+                .map(itemsById::get)
+                .filter(Objects::nonNull)
+                .toList());
     }
 
 
@@ -200,22 +230,68 @@ public class ItemServiceImpl implements ItemService {
                 .build();
 
         commentRepository.save(comment);
+        itemDetailCache.invalidateItem(itemId);
 
         return CommentMapper.mapToCommentDto(comment, user);
     }
 
     protected List<CommentDto> getComments(Long itemId) {
-        List<Comment> comments = commentRepository.findByItemId(itemId);
+        return mapToCommentDtos(commentRepository.findByItemId(itemId));
+    }
+
+    /**
+     * Loads comments of all given items with one query for the comments and one for their authors.
+     *
+     * @return comments grouped by item id, items without comments are absent from the map
+     */
+    protected Map<Long, List<CommentDto>> getCommentsByItemIds(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return Map.of();
+        }
+        return mapToCommentDtos(commentRepository.findByItemIdIn(itemIds)).stream()
+                .collect(Collectors.groupingBy(CommentDto::getItemId));
+    }
+
+    private List<CommentDto> mapToCommentDtos(List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> authorIds = comments.stream()
+                .map(Comment::getAuthorId)
+                .collect(Collectors.toSet());
+        Map<Long, User> authors = userRepository.findAllById(authorIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
 
         return comments.stream()
                 .map(comment -> {
-                    User author = userRepository.findById(comment.getAuthorId())
-                            .orElseThrow(() -> new NotFoundException("getComments: User not found"));
+                    User author = authors.get(comment.getAuthorId());
+                    if (author == null) {
+                        throw new NotFoundException("getComments: User not found");
+                    }
                     return CommentMapper.mapToCommentDto(comment, author);
                 })
                 .collect(Collectors.toList());
     }
 
+    private List<ItemDto> mapToItemDtos(List<Item> items) {
+        return mapToItemDtos(items, Map.of());
+    }
+
+    private List<ItemDto> mapToItemDtos(List<Item> items, Map<Long, ItemBookingDates> bookingDates) {
+        Map<Long, List<CommentDto>> comments = getCommentsByItemIds(items.stream()
+                .map(Item::getId)
+                .toList());
+
+        return items.stream()
+                .map(item -> {
+                    ItemBookingDates dates = bookingDates.get(item.getId());
+                    return ItemMapper.mapToItemDto(item, comments.getOrDefault(item.getId(), List.of()),
+                            dates == null ? null : dates.lastBooking(),
+                            dates == null ? null : dates.nextBooking());
+                })
+                .toList();
+    }
+
 }
 
 
@@ -0,0 +1,104 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.exception.InvalidDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Opaque keyset cursor: the sort key of the last row of a page, either {@code id} or {@code (time, id)}.
+ * <p>
+ * The next page is selected with a seek predicate such as {@code (start < :time OR (start = :time AND id < :id))},
+ * so a deep page costs the same index range scan as the first one. The cursor for the following page is
+ * returned in the {@value #NEXT_CURSOR_HEADER} response header while the body stays a plain JSON array.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class PageCursor {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime time;
+    private final long id;
+
+    private PageCursor(LocalDateTime time, long id) {
+        this.time = time;
+        this.id = id;
+    }
+
+    public static PageCursor of(long id) {
+        return new PageCursor(null, id);
+    }
+
+    public static PageCursor of(LocalDateTime time, long id) {
+        return new PageCursor(time, id);
+    }
+
+    /**
+     * Position before the first row of a page sorted ascending.
+     */
+    public static PageCursor firstAscending() {
+        return new PageCursor(MIN_TIME, 0);
+    }
+
+    /**
+     * Position before the first row of a page sorted descending.
+     */
+    public static PageCursor firstDescending() {
+        return new PageCursor(MAX_TIME, Long.MAX_VALUE);
+    }
+
+    /**
+     * Decodes a cursor received from a client, or returns {@code first} when none was given.
+     */
+    public static PageCursor decode(String cursor, PageCursor first) {
+        if (cursor == null || cursor.isBlank()) {
+            return first;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return of(Long.parseLong(value));
+            }
+            return of(LocalDateTime.parse(value.substring(0, separator)), Long.parseLong(value.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidDataException("Invalid page cursor: " + cursor);
+        }
+    }
+
+    public static Limit limit(int size) {
+        if (size <= 0) {
+            throw new InvalidDataException("Page size must be positive");
+        }
+        return Limit.of(size);
+    }
+
+    /**
+     * Wraps a page into a response carrying the cursor of its last row when more rows may follow.
+     */
+    public static <T> ResponseEntity<List<T>> toResponse(List<T> page, int size, Function<T, PageCursor> cursorOf) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!page.isEmpty() && page.size() >= size) {
+            response.header(NEXT_CURSOR_HEADER, cursorOf.apply(page.get(page.size() - 1)).encode());
+        }
+        return response.body(page);
+    }
+
+    public String encode() {
+        String value = time == null ? String.valueOf(id) : time + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,6 +2,7 @@ package ru.practicum.shareit.request.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -9,8 +10,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import ru.practicum.shareit.request.service.ItemRequestService;
@@ -34,15 +37,21 @@ public class ItemRequestController {
     }
 
     @GetMapping
-    public List<ItemRequestDto> getUserRequests(@RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("Request GET /requests with X-Sharer-User-Id: {}", userId);
-        return itemRequestService.getAllRequestsByUser(userId);
+    public ResponseEntity<List<ItemRequestDto>> getUserRequests(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(defaultValue = "20") int size) {
+        log.info("Request GET /requests with X-Sharer-User-Id: {} cursor={} size={}", userId, cursor, size);
+        return PageCursor.toResponse(itemRequestService.getAllRequestsByUser(userId, cursor, size), size,
+                request -> PageCursor.of(request.getCreated(), request.getId()));
     }
 
     @GetMapping("/all")
-    public List<ItemRequestDto> getAll(@RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("Request GET /requests/all with X-Sharer-User-Id: {}", userId);
-        return itemRequestService.getAll(userId);
+    public ResponseEntity<List<ItemRequestDto>> getAll(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(defaultValue = "20") int size) {
+        log.info("Request GET /requests/all with X-Sharer-User-Id: {} cursor={} size={}", userId, cursor, size);
+        return PageCursor.toResponse(itemRequestService.getAll(userId, cursor, size), size,
+                request -> PageCursor.of(request.getCreated(), request.getId()));
     }
 
     @GetMapping("/{requestId}")
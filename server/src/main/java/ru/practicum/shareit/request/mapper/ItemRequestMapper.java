@@ -31,10 +31,16 @@ public class ItemRequestMapper {
         if (itemRequest == null) {
             return null;
         }
+        return mapToItemRequestDto(itemRequest, itemRequest.getItems());
+    }
 
+    /**
+     * Maps a request with items loaded separately, so the lazy {@link ItemRequest#getItems()} is never touched.
+     */
+    public ItemRequestDto mapToItemRequestDto(final ItemRequest itemRequest, final List<Item> items) {
         List<ItemOwnerDto> itemOwnerDto = List.of();
-        if (itemRequest.getItems() != null && !itemRequest.getItems().isEmpty()) {
-            itemOwnerDto = itemRequest.getItems().stream()
+        if (items != null && !items.isEmpty()) {
+            itemOwnerDto = items.stream()
                     .map(ItemRequestMapper::mapToItemOwnerDto)
                     .collect(Collectors.toList());
         }
@@ -39,7 +39,7 @@ public class ItemRequest {
     @Column(name = "description", nullable = false)
     private String description;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "requester_id", nullable = false)
     private User requester;
 
@@ -48,6 +48,6 @@ public class ItemRequest {
     private LocalDateTime created;
 
     @ToString.Exclude
-    @OneToMany(mappedBy = "request", fetch = FetchType.EAGER) // связь с вещами
+    @OneToMany(mappedBy = "request", fetch = FetchType.LAZY) // связь с вещами
     private List<Item> items;
 }
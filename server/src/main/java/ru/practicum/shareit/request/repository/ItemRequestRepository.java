@@ -1,15 +1,37 @@
 package ru.practicum.shareit.request.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
-    List<ItemRequest> findAllByRequester_IdOrderByCreatedDesc(Long userId);
+    @Query("""
+            SELECT r
+                FROM ItemRequest r
+                JOIN FETCH r.requester
+                WHERE r.requester.id = :userId
+                    AND (r.created < :created OR (r.created = :created AND r.id < :id))
+                ORDER BY r.created DESC, r.id DESC
+            """)
+    List<ItemRequest> findByRequesterIdBefore(Long userId, LocalDateTime created, long id, Limit limit);
 
-    List<ItemRequest> findAllByOrderByCreatedDesc();
+    /**
+     * Seeks the next page of other users' requests, newest first, along {@code requests_created_idx}.
+     */
+    @Query("""
+            SELECT r
+                FROM ItemRequest r
+                JOIN FETCH r.requester u
+                WHERE u.id <> :userId
+                    AND (r.created < :created OR (r.created = :created AND r.id < :id))
+                ORDER BY r.created DESC, r.id DESC
+            """)
+    List<ItemRequest> findOthersBefore(Long userId, LocalDateTime created, long id, Limit limit);
 
 }
@@ -10,9 +10,9 @@ public interface ItemRequestService {
     @Transactional
     ItemRequestDto create(Long userId, ItemRequestDto itemRequestDto);
 
-    List<ItemRequestDto> getAllRequestsByUser(Long userId);
+    List<ItemRequestDto> getAllRequestsByUser(Long userId, String cursor, int size);
 
-    List<ItemRequestDto> getAll(Long userId);
+    List<ItemRequestDto> getAll(Long userId, String cursor, int size);
 
     ItemRequestDto getById(Long id);
 
@@ -4,6 +4,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
@@ -14,6 +17,8 @@ import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +26,7 @@ import java.util.List;
 public class ItemRequestServiceImpl implements ItemRequestService {
     private final ItemRequestRepository itemRequestRepository;
     private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
 
     @Override
     @Transactional
@@ -31,33 +37,51 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         itemRequestDto.setCreated(LocalDateTime.now());
 
         return ItemRequestMapper.mapToItemRequestDto(
-                itemRequestRepository.save(ItemRequestMapper.mapToItemRequest(itemRequestDto))
+                itemRequestRepository.save(ItemRequestMapper.mapToItemRequest(itemRequestDto)), List.of()
         );
     }
 
     @Override
-    public List<ItemRequestDto> getAllRequestsByUser(Long userId) {
+    public List<ItemRequestDto> getAllRequestsByUser(Long userId, String cursor, int size) {
         //получаем все запросы, сделанные пользователем userId
-        List<ItemRequest> itemRequest = itemRequestRepository.findAllByRequester_IdOrderByCreatedDesc(userId);
+        PageCursor after = PageCursor.decode(cursor, PageCursor.firstDescending());
+        List<ItemRequest> itemRequest = itemRequestRepository.findByRequesterIdBefore(
+                userId, after.getTime(), after.getId(), PageCursor.limit(size));
 
-        return itemRequest
-                .stream()
-                .map(ItemRequestMapper::mapToItemRequestDto)
-                .toList();
+        return mapWithItems(itemRequest);
     }
 
     @Override
-    public List<ItemRequestDto> getAll(Long userId) {
-        return itemRequestRepository.findAllByOrderByCreatedDesc()
-                .stream()
-                .map(ItemRequestMapper::mapToItemRequestDto)
-                .toList();
+    public List<ItemRequestDto> getAll(Long userId, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor, PageCursor.firstDescending());
+        return mapWithItems(itemRequestRepository.findOthersBefore(userId, after.getTime(), after.getId(),
+                PageCursor.limit(size)));
     }
 
     @Override
     public ItemRequestDto getById(Long id) {
-        return ItemRequestMapper.mapToItemRequestDto(itemRequestRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Item request not found")));
+        ItemRequest itemRequest = itemRequestRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Item request not found"));
+        return ItemRequestMapper.mapToItemRequestDto(itemRequest, itemRepository.findByRequestIdIn(List.of(id)));
+    }
+
+    /**
+     * Maps a page of requests, loading the items of all of them with one query.
+     */
+    private List<ItemRequestDto> mapWithItems(List<ItemRequest> itemRequests) {
+        if (itemRequests.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<Item>> items = itemRepository.findByRequestIdIn(itemRequests.stream()
+                        .map(ItemRequest::getId)
+                        .toList())
+                .stream()
+                .collect(Collectors.groupingBy(item -> item.getRequest().getId()));
+
+        return itemRequests.stream()
+                .map(itemRequest -> ItemRequestMapper.mapToItemRequestDto(itemRequest,
+                        items.getOrDefault(itemRequest.getId(), List.of())))
+                .toList();
     }
 
 }
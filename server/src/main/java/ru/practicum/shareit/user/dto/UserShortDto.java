@@ -0,0 +1,14 @@
+package ru.practicum.shareit.user.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * User reference shown in compact booking lists.
+ */
+@Data
+@Builder
+public class UserShortDto {
+    private Long id;
+    private String name;
+}
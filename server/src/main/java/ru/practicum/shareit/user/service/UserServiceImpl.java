@@ -3,19 +3,30 @@ package ru.practicum.shareit.user.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.index.BookingIntervalIndex;
 import ru.practicum.shareit.exception.InvalidDataException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.cache.ItemDetailCache;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final ItemDetailCache itemDetailCache;
+    private final ItemSearchIndex itemSearchIndex;
+    private final BookingIntervalIndex bookingIntervalIndex;
 
     @Transactional
     @Override
@@ -41,13 +52,19 @@ public class UserServiceImpl implements UserService {
     public UserDto update(Long id, UserDto userDto) {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("User not found with id: " + id));
+        String previousName = existingUser.getName();
+        String previousEmail = existingUser.getEmail();
         if (userDto.getName() != null && !userDto.getName().isEmpty()) {
             existingUser.setName(userDto.getName());
         }
         if (userDto.getEmail() != null && !userDto.getEmail().isEmpty()) {
             existingUser.setEmail(userDto.getEmail());
         }
-        return UserMapper.mapToUserDto(userRepository.save(existingUser));
+        User saved = userRepository.save(existingUser);
+        if (!Objects.equals(previousName, saved.getName()) || !Objects.equals(previousEmail, saved.getEmail())) {
+            itemDetailCache.invalidateUser(id);
+        }
+        return UserMapper.mapToUserDto(saved);
     }
 
     @Override
@@ -66,7 +83,14 @@ public class UserServiceImpl implements UserService {
     @Transactional
     @Override
     public void delete(long id) {
+        // cascades to the user's items and requests, and to the items of other users answering those requests
+        List<Long> itemIds = new ArrayList<>(itemRepository.findIdsByOwnerId(id));
+        itemIds.addAll(itemRepository.findIdsByRequesterId(id));
         userRepository.deleteById(id);
+        itemIds.forEach(itemSearchIndex::remove);
+        // and to comments and bookings, which any cached item may show
+        itemDetailCache.invalidateAll();
+        bookingIntervalIndex.clear();
     }
 
 }
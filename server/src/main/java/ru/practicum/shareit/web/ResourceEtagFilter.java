@@ -0,0 +1,24 @@
+package ru.practicum.shareit.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.util.regex.Pattern;
+
+/**
+ * Adds a strong {@code ETag} to single item, request and user responses and answers a matching
+ * {@code If-None-Match} with 304 and no body, so a gateway revalidating its copy does not transfer it again.
+ * <p>
+ * The tag is a hash of the response body, so it changes whenever the body does, including viewer-dependent
+ * parts such as the booking dates shown to an item owner. Lists are paged and not tagged.
+ */
+@Component
+public class ResourceEtagFilter extends ShallowEtagHeaderFilter {
+    private static final Pattern SINGLE_RESOURCE = Pattern.compile("/(items|requests|users)/\\d+");
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !SINGLE_RESOURCE.matcher(request.getRequestURI()).matches();
+    }
+}
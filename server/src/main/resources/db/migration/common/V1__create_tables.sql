@@ -1,9 +1,3 @@
-DROP TABLE IF EXISTS users CASCADE;
-DROP TABLE IF EXISTS items CASCADE;
-DROP TABLE IF EXISTS bookings CASCADE;
-DROP TABLE IF EXISTS requests CASCADE;
-DROP TABLE IF EXISTS comments CASCADE;
-
 CREATE TABLE IF NOT EXISTS users (
 	id int8 GENERATED BY DEFAULT AS IDENTITY NOT NULL,
 	name varchar NOT NULL,
@@ -60,4 +54,4 @@ CREATE TABLE IF NOT EXISTS comments (
 	CONSTRAINT comments_pk PRIMARY KEY (id),
 	CONSTRAINT comments_items_fk FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE ON UPDATE CASCADE,
 	CONSTRAINT comments_users_fk FOREIGN KEY (author_id) REFERENCES users(id) ON DELETE CASCADE ON UPDATE CASCADE
-);
\ No newline at end of file
+);
@@ -0,0 +1,23 @@
+-- One index per access path of the repositories and per foreign key, which PostgreSQL does not index by itself.
+-- SchemaIndexPlanTest checks that every repository query reads along one of them.
+
+-- ItemRepository.findByOwnerIdAfter, and the owner side of the BookingRepository.findOwner* joins
+CREATE INDEX IF NOT EXISTS items_owner_id_idx ON items (owner_id, id);
+-- ItemRepository.findByRequestIdIn
+CREATE INDEX IF NOT EXISTS items_request_id_idx ON items (request_id, id);
+
+-- BookingRepository.findCurrentBookings, findFutureBookings, findPastBookings, findBookingsByStatus,
+-- findBookerBookings: seek and walk (start DESC, id DESC) within one booker
+CREATE INDEX IF NOT EXISTS bookings_booker_start_idx ON bookings (booker_id, start_date, id);
+-- BookingRepository.findOwner*, findByItemIdAndBookerId, findBookingDates, findIntervals
+CREATE INDEX IF NOT EXISTS bookings_item_start_idx ON bookings (item_id, start_date, id);
+
+-- CommentRepository.findByItemId, findByItemIdIn
+CREATE INDEX IF NOT EXISTS comments_item_id_idx ON comments (item_id, id);
+-- Deletes of users cascading to their comments
+CREATE INDEX IF NOT EXISTS comments_author_id_idx ON comments (author_id);
+
+-- ItemRequestRepository.findByRequesterIdBefore
+CREATE INDEX IF NOT EXISTS requests_requester_created_idx ON requests (requester_id, created, id);
+-- ItemRequestRepository.findOthersBefore
+CREATE INDEX IF NOT EXISTS requests_created_idx ON requests (created DESC, id DESC);
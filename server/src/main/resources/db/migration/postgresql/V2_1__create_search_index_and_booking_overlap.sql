@@ -0,0 +1,43 @@
+CREATE INDEX IF NOT EXISTS items_search_idx ON items
+    USING GIN (to_tsvector('simple', name || ' ' || description));
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Databases created before overlapping bookings were refused may hold some, on which the constraint below fails.
+-- Of overlapping bookings, approved ones are kept over waiting ones and earlier ones over later ones;
+-- a booking overlapping one that is kept is rejected.
+DO $$
+DECLARE
+    booking record;
+BEGIN
+    FOR booking IN
+        SELECT b.id, b.item_id, b.start_date, b.end_date, b.status
+            FROM bookings b
+            WHERE b.status IN ('WAITING', 'APPROVED')
+              AND EXISTS (SELECT 1
+                              FROM bookings o
+                              WHERE o.item_id = b.item_id
+                                AND o.id <> b.id
+                                AND o.status IN ('WAITING', 'APPROVED')
+                                AND tsrange(o.start_date, o.end_date) && tsrange(b.start_date, b.end_date))
+            ORDER BY b.status = 'WAITING', b.id
+    LOOP
+        UPDATE bookings
+            SET status = 'REJECTED'
+            WHERE id = booking.id
+              AND EXISTS (SELECT 1
+                              FROM bookings o
+                              WHERE o.item_id = booking.item_id
+                                AND o.id <> booking.id
+                                AND o.status IN ('WAITING', 'APPROVED')
+                                AND (o.status = 'WAITING', o.id) < (booking.status = 'WAITING', booking.id)
+                                AND tsrange(o.start_date, o.end_date)
+                                    && tsrange(booking.start_date, booking.end_date));
+    END LOOP;
+END
+$$;
+
+ALTER TABLE bookings DROP CONSTRAINT IF EXISTS bookings_no_overlap;
+ALTER TABLE bookings ADD CONSTRAINT bookings_no_overlap
+    EXCLUDE USING gist (item_id WITH =, tsrange(start_date, end_date) WITH &&)
+    WHERE (status IN ('WAITING', 'APPROVED'));
@@ -0,0 +1,117 @@
+package ru.practicum.shareit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the request feed with thousands of concurrent clients and reports throughput and latency percentiles
+ * for the request thread mode the server was started with.
+ * Excluded from the default build; run once per mode and compare:
+ * <pre>
+ * mvn test -pl server -Dsurefire.excludedGroups= -Dgroups=benchmark -Dtest=ThreadModeLoadBenchmarkTest \
+ *     -Dspring.threads.virtual.enabled=false -Dloadtest.clients=1000,2000,4000
+ * </pre>
+ * Every client holds its own connection, so the open file limit has to allow two descriptors per client.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "logging.level.org.springframework.transaction.interceptor=INFO",
+        "logging.level.org.springframework.orm.jpa.JpaTransactionManager=INFO"
+})
+class ThreadModeLoadBenchmarkTest {
+    private static final int REQUESTS_PER_CLIENT = 5;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Test
+    void requestFeed_UnderConcurrentClients() throws Exception {
+        int[] levels = Arrays.stream(System.getProperty("loadtest.clients", "1000,2000,4000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        URI uri = URI.create("http://localhost:" + port + "/requests/all?size=20");
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient http = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+            run(http, executor, uri, 200);
+            for (int clients : levels) {
+                Result result = run(http, executor, uri, clients);
+                log.info("{} threads, {} clients: {} req/s, p50 {} ms, p99 {} ms, {} failed",
+                        virtualThreads ? "virtual" : "platform", clients, result.throughput(),
+                        result.p50Millis(), result.p99Millis(), result.failed());
+                assertTrue(result.failed() < clients * REQUESTS_PER_CLIENT);
+            }
+        }
+    }
+
+    private static Result run(HttpClient http, ExecutorService executor, URI uri, int clients) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("X-Sharer-User-Id", "1")
+                .timeout(Duration.ofSeconds(60))
+                .build();
+        AtomicInteger failed = new AtomicInteger();
+        List<Future<long[]>> futures = new ArrayList<>(clients);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[REQUESTS_PER_CLIENT];
+                for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                    long sentAt = System.nanoTime();
+                    try {
+                        if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                            failed.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                    }
+                    latencies[r] = System.nanoTime() - sentAt;
+                }
+                return latencies;
+            }));
+        }
+        long[] latencies = new long[clients * REQUESTS_PER_CLIENT];
+        for (int i = 0; i < clients; i++) {
+            System.arraycopy(futures.get(i).get(), 0, latencies, i * REQUESTS_PER_CLIENT, REQUESTS_PER_CLIENT);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        return new Result(latencies.length * 1_000_000_000L / elapsed,
+                percentile(latencies, 0.50) / 1_000_000, percentile(latencies, 0.99) / 1_000_000, failed.get());
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private record Result(long throughput, long p50Millis, long p99Millis, int failed) {
+    }
+}
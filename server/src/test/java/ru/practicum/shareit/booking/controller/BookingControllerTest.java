@@ -16,7 +16,9 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.booking.service.BookingServiceImpl;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserServiceImpl;
 
@@ -52,16 +54,16 @@ class BookingControllerTest {
     public void testGetBookingsByState() throws Exception {
         long userId = 1L;
         String state = "APPROVED";
-        List<BookingDto> bookingsDto = List.of(
-                Instancio.of(BookingDto.class).create(),
-                Instancio.of(BookingDto.class).create());
+        List<BookingShortDto> bookingsDto = List.of(
+                Instancio.of(BookingShortDto.class).create(),
+                Instancio.of(BookingShortDto.class).create());
 
         UserDto userDto = Instancio.of(UserDto.class)
                 .generate(field("email"), gen -> gen.text().pattern("#a#a#a#a#a#a@example.com"))
                 .create();
 
         when(userService.getById(userId)).thenReturn(userDto);
-        when(bookingService.getBookingsByState(userId, state)).thenReturn(bookingsDto);
+        when(bookingService.getBookingsByState(userId, state, null, 20)).thenReturn(bookingsDto);
 
         mvc.perform(MockMvcRequestBuilders.get("/bookings")
                         .header("X-Sharer-User-Id", userId)
@@ -70,7 +72,24 @@ class BookingControllerTest {
                 .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(bookingsDto)));
 
         Mockito.verify(userService).getById(userId);
-        Mockito.verify(bookingService).getBookingsByState(userId, state);
+        Mockito.verify(bookingService).getBookingsByState(userId, state, null, 20);
+    }
+
+    @Test
+    public void testGetBookingsByState_FullView_ShouldReturnFullBookings() throws Exception {
+        long userId = 1L;
+        List<BookingDto> bookingsDto = List.of(Instancio.of(BookingDto.class).create());
+
+        when(bookingService.getFullBookingsByState(userId, "ALL", null, 20)).thenReturn(bookingsDto);
+
+        mvc.perform(MockMvcRequestBuilders.get("/bookings")
+                        .header("X-Sharer-User-Id", userId)
+                        .param("view", "full"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(bookingsDto)));
+
+        Mockito.verify(bookingService, Mockito.never()).getBookingsByState(Mockito.anyLong(), Mockito.anyString(),
+                Mockito.any(), Mockito.anyInt());
     }
 
     @Test
@@ -121,11 +140,11 @@ class BookingControllerTest {
     public void testGetBookingOwner() throws Exception {
         long userId = 1L;
         String state = "CURRENT";
-        List<BookingDto> bookingsDto = List.of(
-                Instancio.of(BookingDto.class).create(),
-                Instancio.of(BookingDto.class).create());
+        List<BookingShortDto> bookingsDto = List.of(
+                Instancio.of(BookingShortDto.class).create(),
+                Instancio.of(BookingShortDto.class).create());
 
-        Mockito.when(bookingService.getBookingOwner(state, userId))
+        Mockito.when(bookingService.getBookingOwner(state, userId, null, 20))
                 .thenReturn(bookingsDto);
 
         mvc.perform(MockMvcRequestBuilders.get("/bookings/owner")
@@ -134,7 +153,39 @@ class BookingControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().json(objectMapper.writeValueAsString(bookingsDto)));
 
-        Mockito.verify(bookingService).getBookingOwner(state, userId);
+        Mockito.verify(bookingService).getBookingOwner(state, userId, null, 20);
+    }
+
+    @Test
+    public void testGetBookingOwner_FullPage_ShouldReturnNextCursor() throws Exception {
+        long userId = 1L;
+        BookingShortDto last = Instancio.of(BookingShortDto.class).create();
+        List<BookingShortDto> bookingsDto = List.of(Instancio.of(BookingShortDto.class).create(), last);
+
+        Mockito.when(bookingService.getBookingOwner("ALL", userId, null, 2))
+                .thenReturn(bookingsDto);
+
+        mvc.perform(MockMvcRequestBuilders.get("/bookings/owner")
+                        .header("X-Sharer-User-Id", userId)
+                        .param("size", "2"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(PageCursor.NEXT_CURSOR_HEADER,
+                        PageCursor.of(last.getStart(), last.getId()).encode()));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testGetBookingOwner_LastPage_ShouldNotReturnNextCursor() throws Exception {
+        long userId = 1L;
+        List<BookingShortDto> bookingsDto = List.of(Instancio.of(BookingShortDto.class).create());
+
+        Mockito.when(bookingService.getBookingOwner("ALL", userId, "cursor", 2))
+                .thenReturn(bookingsDto);
+
+        mvc.perform(MockMvcRequestBuilders.get("/bookings/owner")
+                        .header("X-Sharer-User-Id", userId)
+                        .param("cursor", "cursor")
+                        .param("size", "2"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(PageCursor.NEXT_CURSOR_HEADER));
+    }
+}
@@ -0,0 +1,131 @@
+package ru.practicum.shareit.booking.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingInterval;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exception.ConflictException;
+import ru.practicum.shareit.item.model.Item;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BookingIntervalIndexTest {
+    private static final LocalDateTime BASE = LocalDateTime.now().plusDays(1);
+
+    private BookingRepository bookingRepository;
+    private BookingIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository = Mockito.mock(BookingRepository.class);
+        index = new BookingIntervalIndex(bookingRepository);
+    }
+
+    @Test
+    public void testHold_OverlappingStoredBooking_ShouldThrowConflictException() {
+        Mockito.when(bookingRepository.findIntervals(Mockito.eq(1L), Mockito.anyCollection(), Mockito.any()))
+                .thenReturn(List.of(new BookingInterval(10L, at(0), at(24))));
+
+        assertThrows(ConflictException.class, () -> index.hold(booking(11L, 1L, 12, 36)));
+        assertDoesNotThrow(() -> index.hold(booking(12L, 1L, 24, 48)));
+        assertEquals(2, index.size(1L));
+    }
+
+    @Test
+    public void testHold_ShouldLoadItemOnceAndSkipHeldBooking() {
+        Mockito.when(bookingRepository.findIntervals(Mockito.eq(1L), Mockito.anyCollection(), Mockito.any()))
+                .thenReturn(List.of(new BookingInterval(10L, at(0), at(24))));
+
+        index.hold(booking(10L, 1L, 0, 24));
+        index.hold(booking(11L, 1L, 48, 72));
+
+        assertEquals(2, index.size(1L));
+        Mockito.verify(bookingRepository, Mockito.times(1))
+                .findIntervals(Mockito.eq(1L), Mockito.anyCollection(), Mockito.any());
+    }
+
+    @Test
+    public void testHold_DifferentItems_ShouldNotConflict() {
+        index.hold(booking(1L, 1L, 0, 24));
+
+        assertDoesNotThrow(() -> index.hold(booking(2L, 2L, 0, 24)));
+    }
+
+    @Test
+    public void testRelease_ShouldFreeDates() {
+        Booking held = booking(1L, 1L, 0, 24);
+        index.hold(held);
+
+        index.release(held);
+
+        assertDoesNotThrow(() -> index.hold(booking(2L, 1L, 0, 24)));
+    }
+
+    @Test
+    public void testClear_ShouldReloadFromDatabase() {
+        index.hold(booking(1L, 1L, 0, 24));
+
+        index.clear();
+
+        assertEquals(0, index.size(1L));
+        assertDoesNotThrow(() -> index.hold(booking(2L, 1L, 0, 24)));
+    }
+
+    @Test
+    public void testHold_ConcurrentOverlappingBookings_ShouldAcceptExactlyOne() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                Booking booking = booking(i + 1L, 1L, i, i + 24);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        index.hold(booking);
+                        return true;
+                    } catch (ConflictException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int accepted = 0;
+            for (Future<Boolean> result : results) {
+                accepted += result.get(10, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            assertEquals(1, accepted);
+            assertEquals(1, index.size(1L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Booking booking(Long id, Long itemId, long startHours, long endHours) {
+        return Booking.builder()
+                .id(id)
+                .item(Item.builder().id(itemId).build())
+                .start(at(startHours))
+                .end(at(endHours))
+                .build();
+    }
+
+    private static LocalDateTime at(long hours) {
+        return BASE.plusHours(hours);
+    }
+}
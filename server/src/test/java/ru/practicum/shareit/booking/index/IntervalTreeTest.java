@@ -0,0 +1,83 @@
+package ru.practicum.shareit.booking.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class IntervalTreeTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Test
+    public void testFindOverlap_AdjacentIntervals_ShouldNotOverlap() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(1L, at(10), at(20));
+
+        assertNull(tree.findOverlap(at(0), at(10)));
+        assertNull(tree.findOverlap(at(20), at(30)));
+        assertEquals(1L, tree.findOverlap(at(19), at(21)));
+        assertEquals(1L, tree.findOverlap(at(12), at(13)));
+        assertEquals(1L, tree.findOverlap(at(0), at(40)));
+    }
+
+    @Test
+    public void testFindOverlap_LongIntervalInLeftSubtree_ShouldBeFound() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(1L, at(0), at(100));
+        for (long i = 2; i < 50; i++) {
+            tree.insert(i, at(i * 2), at(i * 2 + 1));
+        }
+
+        assertNotNull(tree.findOverlap(at(99), at(100)));
+        assertNull(tree.findOverlap(at(100), at(101)));
+    }
+
+    @Test
+    public void testRemove_ShouldFreeInterval() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(1L, at(10), at(20));
+        tree.insert(2L, at(30), at(40));
+
+        tree.remove(1L, at(10));
+        tree.remove(3L, at(50));
+
+        assertNull(tree.findOverlap(at(10), at(20)));
+        assertEquals(2L, tree.findOverlap(at(35), at(36)));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void testRandomOperations_ShouldMatchLinearScan() {
+        Random random = new Random(42);
+        IntervalTree tree = new IntervalTree();
+        List<long[]> intervals = new ArrayList<>();
+
+        for (int step = 0; step < 5000; step++) {
+            if (!intervals.isEmpty() && random.nextInt(3) == 0) {
+                long[] removed = intervals.remove(random.nextInt(intervals.size()));
+                tree.remove(removed[0], at(removed[1]));
+            } else {
+                long start = random.nextInt(10_000);
+                long[] added = {step, start, start + 1 + random.nextInt(200)};
+                intervals.add(added);
+                tree.insert(added[0], at(added[1]), at(added[2]));
+            }
+
+            long start = random.nextInt(10_000);
+            long end = start + 1 + random.nextInt(50);
+            boolean expected = intervals.stream().anyMatch(i -> i[1] < end && start < i[2]);
+            assertEquals(expected, tree.findOverlap(at(start), at(end)) != null, "step " + step);
+        }
+        assertEquals(intervals.size(), tree.size());
+    }
+
+    private static LocalDateTime at(long hours) {
+        return BASE.plusHours(hours);
+    }
+}
@@ -0,0 +1,105 @@
+package ru.practicum.shareit.booking.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingView;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares payload size and serialization time of a full page of full and compact bookings.
+ * Excluded from the default build, run with {@code mvn test -Dsurefire.excludedGroups= -Dgroups=benchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class BookingResponseBenchmarkTest {
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void compactBookings_ShouldBeSmallerAndFasterToSerialize() throws JsonProcessingException {
+        List<Booking> bookings = new ArrayList<>();
+        List<BookingView> views = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 10, 0);
+        User booker = user(1L);
+        for (long i = 0; i < PAGE_SIZE; i++) {
+            Item item = item(i);
+            Booking booking = Booking.builder()
+                    .id(i)
+                    .start(start.plusDays(i))
+                    .end(start.plusDays(i + 1))
+                    .item(item)
+                    .booker(booker)
+                    .status(BookingStatus.APPROVED)
+                    .build();
+            bookings.add(booking);
+            views.add(new BookingView(booking.getId(), booking.getStart(), booking.getEnd(), booking.getStatus(),
+                    item.getId(), item.getName(), booker.getId(), booker.getName()));
+        }
+
+        Result full = measure("full", () -> objectMapper.writeValueAsBytes(bookings.stream()
+                .map(BookingMapper::mapToBookingDto)
+                .toList()));
+        Result compact = measure("compact", () -> objectMapper.writeValueAsBytes(views.stream()
+                .map(BookingMapper::mapToBookingShortDto)
+                .toList()));
+
+        assertTrue(compact.bytes() * 2 < full.bytes());
+        assertTrue(compact.micros() < full.micros());
+    }
+
+    private Result measure(String name, Serialization serialization) throws JsonProcessingException {
+        int bytes = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            bytes = serialization.run().length;
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serialization.run();
+        }
+        long micros = (System.nanoTime() - startedAt) / ITERATIONS / 1000;
+        log.info("{} page of {} bookings: {} bytes, {} us to map and serialize", name, PAGE_SIZE, bytes, micros);
+        return new Result(bytes, micros);
+    }
+
+    private static Item item(long id) {
+        return Item.builder()
+                .id(id)
+                .name("Item " + id)
+                .description("Description of item " + id)
+                .available(true)
+                .owner(user(10_000 + id))
+                .build();
+    }
+
+    private static User user(long id) {
+        return User.builder()
+                .id(id)
+                .name("User " + id)
+                .email("user" + id + "@benchmark.test")
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface Serialization {
+        byte[] run() throws JsonProcessingException;
+    }
+
+    private record Result(int bytes, long micros) {
+    }
+}
@@ -0,0 +1,142 @@
+package ru.practicum.shareit.booking.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingView;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that booking list pages, compact and full, issue a constant number of SQL statements
+ * regardless of how many bookings a page holds.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BookingRepositoryQueryCountTest {
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 10, 0);
+    private static final int MAX_FULL_STATEMENTS = 4;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User owner;
+    private User booker;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void findBookerBookings_ShouldReadPageWithOneStatement(int bookingCount) {
+        seed(bookingCount);
+        PageCursor first = PageCursor.firstDescending();
+
+        statistics.clear();
+        List<BookingShortDto> result = bookingRepository.findBookerBookings(booker.getId(), first.getTime(),
+                        first.getId(), Limit.of(bookingCount)).stream()
+                .map(BookingMapper::mapToBookingShortDto)
+                .toList();
+
+        assertEquals(bookingCount, result.size());
+        result.forEach(booking -> assertEquals(booker.getName(), booking.getBooker().getName()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void findOwnerBookingsByStatus_FullBookings_ShouldIssueConstantNumberOfStatements(int bookingCount) {
+        seed(bookingCount);
+        PageCursor first = PageCursor.firstAscending();
+
+        statistics.clear();
+        List<Long> ids = bookingRepository.findOwnerBookingsByStatus(owner.getId(), BookingStatus.WAITING,
+                        first.getTime(), first.getId(), Limit.of(bookingCount)).stream()
+                .map(BookingView::id)
+                .toList();
+        List<BookingDto> result = bookingRepository.findByIdIn(ids).stream()
+                .map(BookingMapper::mapToBookingDto)
+                .toList();
+
+        assertEquals(bookingCount, result.size());
+        result.forEach(booking -> assertEquals(owner.getName(), booking.getItem().getOwner().getName()));
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= MAX_FULL_STATEMENTS,
+                "Expected at most " + MAX_FULL_STATEMENTS + " statements but was " + statements);
+    }
+
+    private void seed(int bookingCount) {
+        owner = persistUser("owner");
+        booker = persistUser("booker");
+        for (int i = 0; i < bookingCount; i++) {
+            User requester = persistUser("requester" + i);
+            ItemRequest request = ItemRequest.builder()
+                    .description("request " + i)
+                    .requester(requester)
+                    .created(START)
+                    .build();
+            entityManager.persist(request);
+            Item item = persistItem("booked item " + i, owner, request);
+            persistItem("sibling item " + i, persistUser("sibling owner" + i), request);
+            entityManager.persist(Booking.builder()
+                    .start(START.plusHours(i))
+                    .end(START.plusHours(i + 1))
+                    .item(item)
+                    .booker(booker)
+                    .status(BookingStatus.WAITING)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Item persistItem(String name, User itemOwner, ItemRequest request) {
+        Item item = Item.builder()
+                .name(name)
+                .description("item used by booking query count test")
+                .available(true)
+                .owner(itemOwner)
+                .request(request)
+                .build();
+        entityManager.persist(item);
+        return item;
+    }
+
+    private User persistUser(String name) {
+        User user = User.builder()
+                .name(name)
+                .email(name.replace(' ', '.') + "@bookingcount.test")
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
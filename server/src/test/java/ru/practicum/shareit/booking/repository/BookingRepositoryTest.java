@@ -0,0 +1,146 @@
+package ru.practicum.shareit.booking.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingInterval;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingView;
+import ru.practicum.shareit.booking.model.ItemBookingDates;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+class BookingRepositoryTest {
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+    private User booker;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        owner = persistUser("keyset owner");
+        booker = persistUser("keyset booker");
+        item = Item.builder()
+                .name("Keyset item")
+                .description("paged bookings")
+                .available(true)
+                .owner(owner)
+                .build();
+        entityManager.persist(item);
+    }
+
+    @Test
+    public void testFindBookerBookings_ShouldWalkPagesByStartDescAndId() {
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            // two bookings per start date so the id tie-breaker is exercised
+            expected.add(persistBooking(START.plusDays(i / 2)).getId());
+        }
+        expected = List.of(expected.get(4), expected.get(3), expected.get(2), expected.get(1), expected.get(0));
+
+        List<Long> walked = new ArrayList<>();
+        PageCursor after = PageCursor.firstDescending();
+        List<BookingView> page;
+        do {
+            page = bookingRepository.findBookerBookings(booker.getId(), after.getTime(), after.getId(), Limit.of(2));
+            page.forEach(booking -> walked.add(booking.id()));
+            if (!page.isEmpty()) {
+                BookingView last = page.get(page.size() - 1);
+                after = PageCursor.of(last.start(), last.id());
+            }
+        } while (page.size() == 2);
+
+        assertEquals(expected, walked);
+    }
+
+    @Test
+    public void testFindOwnerBookings_ShouldWalkPagesByStartAndId() {
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(persistBooking(START.plusDays(i / 2)).getId());
+        }
+
+        List<Long> walked = new ArrayList<>();
+        PageCursor after = PageCursor.firstAscending();
+        List<BookingView> page;
+        do {
+            page = bookingRepository.findOwnerBookings(owner.getId(), after.getTime(), after.getId(), Limit.of(2));
+            page.forEach(booking -> walked.add(booking.id()));
+            if (!page.isEmpty()) {
+                BookingView last = page.get(page.size() - 1);
+                after = PageCursor.of(last.start(), last.id());
+            }
+        } while (page.size() == 2);
+
+        assertEquals(expected, walked);
+    }
+
+    @Test
+    public void testFindBookingDates_ShouldReturnLastEndAndNextStartPerItem() {
+        LocalDateTime now = START;
+        persistBooking(now.minusDays(5));
+        persistBooking(now.minusDays(2));
+        persistBooking(now.plusDays(3));
+        persistBooking(now.plusDays(1));
+
+        List<ItemBookingDates> result = bookingRepository.findBookingDates(List.of(item.getId()), now);
+
+        assertEquals(List.of(new ItemBookingDates(item.getId(), now.minusDays(2).plusHours(1), now.plusDays(1),
+                now.plusDays(1).plusHours(1))), result);
+    }
+
+    @Test
+    public void testFindIntervals_ShouldReturnUnfinishedBookingsInGivenStatuses() {
+        LocalDateTime now = START;
+        persistBooking(now.minusDays(1));
+        Booking waiting = persistBooking(now.plusDays(1));
+        Booking rejected = persistBooking(now.plusDays(2));
+        rejected.setStatus(BookingStatus.REJECTED);
+        entityManager.flush();
+
+        List<BookingInterval> result = bookingRepository.findIntervals(item.getId(),
+                List.of(BookingStatus.WAITING, BookingStatus.APPROVED), now);
+
+        assertEquals(List.of(new BookingInterval(waiting.getId(), waiting.getStart(), waiting.getEnd())), result);
+    }
+
+    private Booking persistBooking(LocalDateTime start) {
+        Booking booking = Booking.builder()
+                .start(start)
+                .end(start.plusHours(1))
+                .item(item)
+                .booker(booker)
+                .status(BookingStatus.WAITING)
+                .build();
+        entityManager.persist(booking);
+        return booking;
+    }
+
+    private User persistUser(String name) {
+        User user = User.builder()
+                .name(name)
+                .email(name.replace(' ', '.') + "@keyset.test")
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
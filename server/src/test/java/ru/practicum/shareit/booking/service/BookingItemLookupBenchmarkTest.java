@@ -0,0 +1,178 @@
+package ru.practicum.shareit.booking.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.index.BookingIntervalIndex;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.cache.ItemDetailCache;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.item.service.ItemServiceImpl;
+import ru.practicum.shareit.user.mapper.UserMapper;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.user.service.UserServiceImpl;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Times booking creation end to end: {@link BookingService#create}, which reads the item and its owner through
+ * one projection, against the same creation with the item lookup it used to make, the full item detail with
+ * comments and request. Every item is booked once by each, as the detail cache would serve repeated lookups
+ * of the same item.
+ * Excluded from the default build, run with {@code mvn test -Dsurefire.excludedGroups= -Dgroups=benchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({BookingServiceImpl.class, UserServiceImpl.class, BookingIntervalIndex.class, ItemServiceImpl.class,
+        ItemSearchIndex.class, ItemDetailCache.class})
+class BookingItemLookupBenchmarkTest {
+    private static final int WARMUP_ITEMS = 200;
+    private static final int ITEMS = 2_000;
+    private static final int ITEMS_PER_REQUEST = 10;
+    private static final int COMMENTS_PER_ITEM = 5;
+    private static final int MAX_CREATE_STATEMENTS = 4;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<Long> itemIds;
+    private Long bookerId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        int total = WARMUP_ITEMS + ITEMS;
+        Timestamp created = Timestamp.valueOf(LocalDateTime.of(2030, 1, 1, 10, 0));
+
+        jdbcTemplate.batchUpdate("INSERT INTO users (name, email) VALUES (?, ?)",
+                IntStream.range(0, total)
+                        .mapToObj(i -> new Object[]{"bench user " + i, "user" + i + "@lookup.test"})
+                        .toList());
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email LIKE '%@lookup.test' ORDER BY id", Long.class);
+
+        jdbcTemplate.batchUpdate("INSERT INTO requests (description, requester_id, created) VALUES (?, ?, ?)",
+                IntStream.range(0, total / ITEMS_PER_REQUEST)
+                        .mapToObj(i -> new Object[]{"bench request " + i, userIds.get(i), created})
+                        .toList());
+        List<Long> requestIds = jdbcTemplate.queryForList("SELECT id FROM requests ORDER BY id", Long.class);
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO items (name, description, available, request_id, owner_id) VALUES (?, ?, TRUE, ?, ?)",
+                IntStream.range(0, total)
+                        .mapToObj(i -> new Object[]{"bench item " + i, "benchmark",
+                                requestIds.get(i / ITEMS_PER_REQUEST), userIds.get(i)})
+                        .toList());
+        itemIds = jdbcTemplate.queryForList("SELECT id FROM items ORDER BY id", Long.class);
+
+        List<Object[]> comments = new ArrayList<>();
+        for (int i = 0; i < total; i++) {
+            for (int j = 0; j < COMMENTS_PER_ITEM; j++) {
+                comments.add(new Object[]{"comment " + j, itemIds.get(i), userIds.get((i + j + 1) % total), created});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comments (text, item_id, author_id, created) VALUES (?, ?, ?, ?)",
+                comments);
+
+        jdbcTemplate.update("INSERT INTO users (name, email) VALUES ('bench booker', 'booker@lookup.test')");
+        bookerId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'booker@lookup.test'", Long.class);
+    }
+
+    @Test
+    void create_ShouldIssueFewerStatementsThanWithItemDetail() {
+        List<Long> warmup = itemIds.subList(0, WARMUP_ITEMS);
+        List<Long> measured = itemIds.subList(WARMUP_ITEMS, itemIds.size());
+
+        Function<Long, BookingDto> withDetail = itemId -> {
+            User booker = UserMapper.mapToUser(userService.getById(bookerId));
+            Item item = ItemMapper.mapToItem(itemService.getById(itemId));
+            assertTrue(item.getAvailable());
+            BookingDto booking = booking(itemId, 1);
+            booking.setStatus(BookingStatus.WAITING);
+            return BookingMapper.mapToBookingDto(bookingRepository.save(BookingMapper.mapToBooking(booking, booker,
+                    item)));
+        };
+        Function<Long, BookingDto> create = itemId -> bookingService.create(bookerId, booking(itemId, 3));
+
+        measure("item detail", warmup, withDetail);
+        measure("create", warmup, create);
+        Measurement detail = measure("item detail", measured, withDetail);
+        Measurement created = measure("create", measured, create);
+
+        assertEquals(detail.items(), created.items());
+        assertTrue(created.statementsPerBooking() <= MAX_CREATE_STATEMENTS);
+        assertTrue(created.statementsPerBooking() < detail.statementsPerBooking());
+    }
+
+    private Measurement measure(String name, List<Long> ids, Function<Long, BookingDto> create) {
+        entityManager.clear();
+        statistics.clear();
+        List<ItemDto> items = new ArrayList<>(ids.size());
+        long started = System.nanoTime();
+        for (Long itemId : ids) {
+            items.add(create.apply(itemId).getItem());
+            entityManager.flush();
+            entityManager.clear();
+        }
+        long micros = (System.nanoTime() - started) / ids.size() / 1000;
+        double statements = (double) statistics.getPrepareStatementCount() / ids.size();
+        log.info("{} of {} bookings: {} us and {} statements per booking", name, ids.size(), micros, statements);
+        return new Measurement(items, statements);
+    }
+
+    private static BookingDto booking(Long itemId, int startInDays) {
+        BookingDto booking = new BookingDto();
+        booking.setItemId(itemId);
+        booking.setStart(LocalDateTime.now().plusDays(startInDays));
+        booking.setEnd(LocalDateTime.now().plusDays(startInDays + 1));
+        return booking;
+    }
+
+    private record Measurement(List<ItemDto> items, double statementsPerBooking) {
+    }
+}
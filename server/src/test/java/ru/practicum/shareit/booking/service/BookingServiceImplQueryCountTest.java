@@ -0,0 +1,188 @@
+package ru.practicum.shareit.booking.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.index.BookingIntervalIndex;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.cache.ItemDetailCache;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.sql.SqlRecorder;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserServiceImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that booking reads and writes issue a constant number of SQL statements however many bookings
+ * are stored or returned, and that the owner's feed reads along indexes.
+ */
+@DataJpaTest(showSql = false, properties = SqlRecorder.PROPERTY)
+@Import({BookingServiceImpl.class, UserServiceImpl.class, ItemDetailCache.class, ItemSearchIndex.class,
+        BookingIntervalIndex.class})
+class BookingServiceImplQueryCountTest {
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 10, 0);
+    private static final int BOOKINGS_PER_ITEM = 10;
+    private static final int MAX_FULL_STATEMENTS = 4;
+    // user, item with its owner, insert, held dates of the item
+    private static final int MAX_CREATE_STATEMENTS = 4;
+    private static final int MAX_UPDATE_STATEMENTS = 4;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private User booker;
+    private List<Item> items;
+    private List<Booking> bookings;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void getBookingsByState_ShouldReadPageWithOneStatement(int bookingCount) {
+        seed(bookingCount);
+
+        List<BookingShortDto> result = SqlRecorder.record(() -> bookingService.getBookingsByState(booker.getId(),
+                        "ALL", null, bookingCount))
+                .assertStatements(1)
+                .result();
+
+        assertEquals(bookingCount, result.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void getBookingOwner_ShouldReadPageWithOneIndexedStatement(int bookingCount) {
+        seed(bookingCount);
+
+        List<BookingShortDto> result = SqlRecorder.record(() -> bookingService.getBookingOwner("WAITING",
+                        owner.getId(), null, bookingCount))
+                .assertStatements(1)
+                .assertIndexed(jdbcTemplate)
+                .result();
+
+        assertEquals(bookingCount, result.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void getFullBookingOwner_ShouldIssueConstantNumberOfStatements(int bookingCount) {
+        seed(bookingCount);
+
+        List<BookingDto> result = SqlRecorder.record(() -> bookingService.getFullBookingOwner("ALL",
+                        owner.getId(), null, bookingCount))
+                .assertStatementsAtMost(MAX_FULL_STATEMENTS)
+                .result();
+
+        assertEquals(bookingCount, result.size());
+        result.forEach(booking -> assertEquals(owner.getName(), booking.getItem().getOwner().getName()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void getById_ShouldReadBookingWithOneStatement(int bookingCount) {
+        seed(bookingCount);
+        Long bookingId = bookings.get(bookingCount - 1).getId();
+
+        BookingDto result = SqlRecorder.record(() -> bookingService.getById(bookingId, booker.getId()))
+                .assertStatements(1)
+                .result();
+
+        assertEquals(bookingId, result.getId());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void create_ShouldIssueConstantNumberOfStatements(int bookingCount) {
+        seed(bookingCount);
+        BookingDto bookingDto = new BookingDto();
+        bookingDto.setItemId(items.get(0).getId());
+        bookingDto.setStart(START.minusDays(2));
+        bookingDto.setEnd(START.minusDays(1));
+
+        BookingDto result = SqlRecorder.record(() -> {
+                    BookingDto created = bookingService.create(booker.getId(), bookingDto);
+                    entityManager.flush();
+                    return created;
+                })
+                .assertStatementsAtMost(MAX_CREATE_STATEMENTS)
+                .result();
+
+        assertEquals(BookingStatus.WAITING, result.getStatus());
+        assertEquals(items.get(0).getName(), result.getItem().getName());
+        assertEquals(owner.getName(), result.getItem().getOwner().getName());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void update_ShouldIssueConstantNumberOfStatements(int bookingCount) {
+        seed(bookingCount);
+        Long bookingId = bookings.get(0).getId();
+
+        BookingDto result = SqlRecorder.record(() -> {
+                    BookingDto approved = bookingService.update(owner.getId(), bookingId, true);
+                    entityManager.flush();
+                    return approved;
+                })
+                .assertStatementsAtMost(MAX_UPDATE_STATEMENTS)
+                .result();
+
+        assertEquals(BookingStatus.APPROVED, result.getStatus());
+    }
+
+    private void seed(int bookingCount) {
+        owner = persistUser("owner");
+        booker = persistUser("booker");
+        items = new ArrayList<>();
+        for (int i = 0; i < (bookingCount + BOOKINGS_PER_ITEM - 1) / BOOKINGS_PER_ITEM; i++) {
+            Item item = Item.builder()
+                    .name("booked item " + i)
+                    .description("item used by booking service query count test")
+                    .available(true)
+                    .owner(owner)
+                    .build();
+            entityManager.persist(item);
+            items.add(item);
+        }
+        bookings = new ArrayList<>();
+        for (int i = 0; i < bookingCount; i++) {
+            Booking booking = Booking.builder()
+                    .start(START.plusHours(i))
+                    .end(START.plusHours(i + 1))
+                    .item(items.get(i / BOOKINGS_PER_ITEM))
+                    .booker(booker)
+                    .status(BookingStatus.WAITING)
+                    .build();
+            entityManager.persist(booking);
+            bookings.add(booking);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private User persistUser(String name) {
+        User user = User.builder()
+                .name(name)
+                .email(name + "@bookingservicecount.test")
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -7,16 +7,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.index.BookingIntervalIndex;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.BookingView;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.InvalidDataException;
 import ru.practicum.shareit.exception.NotFoundException;
-import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.cache.ItemDetailCache;
 import ru.practicum.shareit.item.model.Item;
-import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.item.model.ItemAvailability;
+import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 import ru.practicum.shareit.user.mapper.UserMapper;
@@ -38,7 +44,13 @@ class BookingServiceImplTest {
     private UserService userService;
 
     @Mock
-    private ItemService itemService;
+    private ItemRepository itemRepository;
+
+    @Mock
+    private ItemDetailCache itemDetailCache;
+
+    @Mock
+    private BookingIntervalIndex bookingIntervalIndex;
 
     @InjectMocks
     private BookingServiceImpl bookingService;
@@ -54,10 +66,8 @@ class BookingServiceImplTest {
         long itemId = 2L;
         LocalDateTime now = LocalDateTime.now();
 
-        ItemDto itemDto = Instancio.of(ItemDto.class)
-                .set(field(ItemDto::getId), itemId)
-                .set(field(ItemDto::getAvailable), true)
-                .create();
+        ItemAvailability availability = new ItemAvailability(itemId, "Дрель", "Ударная", true, null,
+                3L, "Владелец", "owner@mail.ru");
 
         BookingDto bookingDto = Instancio.of(BookingDto.class)
                 .set(field(BookingDto::getStart), now.plusDays(1))
@@ -71,13 +81,46 @@ class BookingServiceImplTest {
         Booking booking = BookingMapper.mapToBooking(bookingDto, user, item);
 
         Mockito.when(userService.getById(userId)).thenReturn(UserMapper.mapToUserDto(user));
-        Mockito.when(itemService.getById(itemId)).thenReturn(itemDto);
+        Mockito.when(itemRepository.findAvailability(itemId)).thenReturn(Optional.of(availability));
+        Mockito.when(itemRepository.getReferenceById(itemId)).thenReturn(item);
         Mockito.when(bookingRepository.save(Mockito.any(Booking.class))).thenReturn(booking);
 
         BookingDto result = bookingService.create(userId, bookingDto);
 
         assertEquals(BookingStatus.WAITING, result.getStatus());
+        assertEquals(itemId, result.getItemId());
+        assertEquals("Дрель", result.getItem().getName());
+        assertEquals(3L, result.getItem().getOwner().getId());
         Mockito.verify(bookingRepository).save(Mockito.any(Booking.class));
+        Mockito.verify(itemDetailCache).invalidateBookingDates(itemId);
+        Mockito.verify(bookingIntervalIndex).hold(booking);
+    }
+
+    @Test
+    public void testCreateBooking_Overlapping_ShouldThrowConflictException() {
+        long userId = 1L;
+        long itemId = 2L;
+        LocalDateTime now = LocalDateTime.now();
+
+        ItemAvailability availability = new ItemAvailability(itemId, "Дрель", "Ударная", true, null,
+                3L, "Владелец", "owner@mail.ru");
+        BookingDto bookingDto = Instancio.of(BookingDto.class)
+                .set(field(BookingDto::getStart), now.plusDays(1))
+                .set(field(BookingDto::getEnd), now.plusDays(2))
+                .set(field(BookingDto::getItemId), itemId)
+                .create();
+        User user = Instancio.of(User.class).create();
+
+        Mockito.when(userService.getById(userId)).thenReturn(UserMapper.mapToUserDto(user));
+        Mockito.when(itemRepository.findAvailability(itemId)).thenReturn(Optional.of(availability));
+        Mockito.when(itemRepository.getReferenceById(itemId)).thenReturn(Item.builder().id(itemId).build());
+        Mockito.when(bookingRepository.save(Mockito.any(Booking.class))).thenAnswer(call -> call.getArgument(0));
+        Mockito.doThrow(new ConflictException("Item with ID = 2 is already booked for these dates"))
+                .when(bookingIntervalIndex).hold(Mockito.any(Booking.class));
+
+        assertThrows(ConflictException.class, () -> bookingService.create(userId, bookingDto));
+
+        Mockito.verify(itemDetailCache, Mockito.never()).invalidateBookingDates(Mockito.anyLong());
     }
 
     @Test
@@ -95,6 +138,27 @@ class BookingServiceImplTest {
         Mockito.verify(bookingRepository, Mockito.never()).save(Mockito.any(Booking.class));
     }
 
+    @Test
+    public void testCreateBooking_ItemNotAvailable_ShouldNotLoadItem() {
+        long userId = 1L;
+        long itemId = 2L;
+        BookingDto bookingDto = Instancio.of(BookingDto.class)
+                .set(field(BookingDto::getStart), LocalDateTime.now().plusDays(1))
+                .set(field(BookingDto::getEnd), LocalDateTime.now().plusDays(2))
+                .set(field(BookingDto::getItemId), itemId)
+                .create();
+
+        Mockito.when(userService.getById(userId)).thenReturn(UserMapper.mapToUserDto(Instancio.create(User.class)));
+        Mockito.when(itemRepository.findAvailability(itemId))
+                .thenReturn(Optional.of(new ItemAvailability(itemId, "Дрель", "Ударная", false, null,
+                        3L, "Владелец", "owner@mail.ru")));
+
+        assertThrows(InvalidDataException.class, () -> bookingService.create(userId, bookingDto));
+
+        Mockito.verify(itemRepository, Mockito.never()).getReferenceById(Mockito.anyLong());
+        Mockito.verify(bookingRepository, Mockito.never()).save(Mockito.any(Booking.class));
+    }
+
     @Test
     void testUpdateBookingApproved() {
         Long ownerId = 1L;
@@ -111,7 +175,7 @@ class BookingServiceImplTest {
         item.setOwner(owner);
         booking.setItem(item);
 
-        Mockito.when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+        Mockito.when(bookingRepository.findDetailsById(bookingId)).thenReturn(Optional.of(booking));
         Mockito.when(bookingRepository.save(Mockito.any(Booking.class))).thenReturn(booking);
 
         BookingDto result = bookingService.update(ownerId, bookingId, true);
@@ -119,6 +183,7 @@ class BookingServiceImplTest {
         assertNotNull(result);
         assertEquals(BookingStatus.APPROVED, booking.getStatus());
         Mockito.verify(bookingRepository).save(booking);
+        Mockito.verify(itemDetailCache).invalidateBookingDates(item.getId());
     }
 
     @Test
@@ -137,7 +202,7 @@ class BookingServiceImplTest {
         item.setOwner(owner);
         booking.setItem(item);
 
-        Mockito.when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+        Mockito.when(bookingRepository.findDetailsById(bookingId)).thenReturn(Optional.of(booking));
         Mockito.when(bookingRepository.save(Mockito.any(Booking.class))).thenReturn(booking);
 
         BookingDto result = bookingService.update(ownerId, bookingId, false);
@@ -147,12 +212,46 @@ class BookingServiceImplTest {
         Mockito.verify(bookingRepository).save(booking);
     }
 
+    @Test
+    void testUpdateBookingRejected_Waiting_ShouldReleaseDates() {
+        Long ownerId = 1L;
+        Booking booking = Instancio.of(Booking.class)
+                .set(field(Booking::getStatus), BookingStatus.WAITING)
+                .create();
+        booking.getItem().getOwner().setId(ownerId);
+
+        Mockito.when(bookingRepository.findDetailsById(booking.getId())).thenReturn(Optional.of(booking));
+        Mockito.when(bookingRepository.save(booking)).thenReturn(booking);
+
+        bookingService.update(ownerId, booking.getId(), false);
+
+        Mockito.verify(bookingIntervalIndex).release(booking);
+        Mockito.verify(bookingIntervalIndex, Mockito.never()).hold(Mockito.any(Booking.class));
+    }
+
+    @Test
+    void testUpdateBookingApproved_Rejected_ShouldHoldDatesAgain() {
+        Long ownerId = 1L;
+        Booking booking = Instancio.of(Booking.class)
+                .set(field(Booking::getStatus), BookingStatus.REJECTED)
+                .create();
+        booking.getItem().getOwner().setId(ownerId);
+
+        Mockito.when(bookingRepository.findDetailsById(booking.getId())).thenReturn(Optional.of(booking));
+        Mockito.when(bookingRepository.save(booking)).thenReturn(booking);
+
+        bookingService.update(ownerId, booking.getId(), true);
+
+        Mockito.verify(bookingIntervalIndex).hold(booking);
+        Mockito.verify(bookingIntervalIndex, Mockito.never()).release(Mockito.any(Booking.class));
+    }
+
     @Test
     void testUpdateBookingNotFound() {
         Long ownerId = 1L;
         Long bookingId = 1L;
 
-        Mockito.when(bookingRepository.findById(bookingId)).thenReturn(Optional.empty());
+        Mockito.when(bookingRepository.findDetailsById(bookingId)).thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> bookingService.update(ownerId, bookingId, true));
@@ -174,7 +273,7 @@ class BookingServiceImplTest {
         item.setOwner(owner);
         booking.setItem(item);
 
-        Mockito.when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+        Mockito.when(bookingRepository.findDetailsById(bookingId)).thenReturn(Optional.of(booking));
 
         InvalidDataException exception = assertThrows(InvalidDataException.class,
                 () -> bookingService.update(ownerId, bookingId, true));
@@ -199,12 +298,12 @@ class BookingServiceImplTest {
         item.setOwner(owner);
         booking.setItem(item);
 
-        Mockito.when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+        Mockito.when(bookingRepository.findDetailsById(bookingId)).thenReturn(Optional.of(booking));
 
         BookingDto result = bookingService.getById(bookingId, userId);
 
         assertNotNull(result);
-        Mockito.verify(bookingRepository).findById(bookingId);
+        Mockito.verify(bookingRepository).findDetailsById(bookingId);
     }
 
     @Test
@@ -224,12 +323,12 @@ class BookingServiceImplTest {
         item.setOwner(owner);
         booking.setItem(item);
 
-        Mockito.when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+        Mockito.when(bookingRepository.findDetailsById(bookingId)).thenReturn(Optional.of(booking));
 
         BookingDto result = bookingService.getById(bookingId, userId);
 
         assertNotNull(result);
-        Mockito.verify(bookingRepository).findById(bookingId);
+        Mockito.verify(bookingRepository).findDetailsById(bookingId);
     }
 
     @Test
@@ -237,7 +336,7 @@ class BookingServiceImplTest {
         Long bookingId = 1L;
         Long userId = 2L;
 
-        Mockito.when(bookingRepository.findById(bookingId)).thenReturn(Optional.empty());
+        Mockito.when(bookingRepository.findDetailsById(bookingId)).thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> bookingService.getById(bookingId, userId));
@@ -262,7 +361,7 @@ class BookingServiceImplTest {
         item.setOwner(owner);
         booking.setItem(item);
 
-        Mockito.when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
+        Mockito.when(bookingRepository.findDetailsById(bookingId)).thenReturn(Optional.of(booking));
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> bookingService.getById(bookingId, userId));
@@ -272,120 +371,170 @@ class BookingServiceImplTest {
     @Test
     void testGetBookingsByStateCurrent() {
         Long userId = 1L;
-        List<Booking> bookings = List.of(
-                Instancio.of(Booking.class)
+        List<BookingView> bookings = List.of(
+                Instancio.of(BookingView.class)
                         .create(),
-                Instancio.of(Booking.class)
+                Instancio.of(BookingView.class)
                         .create()
         );
 
-        Mockito.when(bookingRepository.findCurrentBookings(userId)).thenReturn(bookings);
-        List<BookingDto> result = bookingService.getBookingsByState(userId, "CURRENT");
+        Mockito.when(bookingRepository.findCurrentBookings(
+                Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class))).thenReturn(bookings);
+        List<BookingShortDto> result = bookingService.getBookingsByState(userId, "CURRENT", null, 20);
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        Mockito.verify(bookingRepository).findCurrentBookings(userId);
+        Mockito.verify(bookingRepository).findCurrentBookings(
+                Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class));
     }
 
     @Test
     void testGetBookingsByStatePast() {
         Long userId = 1L;
-        List<Booking> bookings = List.of(
-                Instancio.of(Booking.class)
+        List<BookingView> bookings = List.of(
+                Instancio.of(BookingView.class)
                         .create(),
-                Instancio.of(Booking.class)
+                Instancio.of(BookingView.class)
                         .create()
         );
 
-        Mockito.when(bookingRepository.findPastBookings(userId)).thenReturn(bookings);
-        List<BookingDto> result = bookingService.getBookingsByState(userId, "PAST");
+        Mockito.when(bookingRepository.findPastBookings(
+                Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class))).thenReturn(bookings);
+        List<BookingShortDto> result = bookingService.getBookingsByState(userId, "PAST", null, 20);
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        Mockito.verify(bookingRepository).findPastBookings(userId);
+        Mockito.verify(bookingRepository).findPastBookings(
+                Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class));
     }
 
     @Test
     void testGetBookingsByStateFuture() {
         Long userId = 1L;
-        List<Booking> bookings = List.of(
-                Instancio.of(Booking.class)
+        List<BookingView> bookings = List.of(
+                Instancio.of(BookingView.class)
                         .create(),
-                Instancio.of(Booking.class)
+                Instancio.of(BookingView.class)
                         .create()
         );
 
-        Mockito.when(bookingRepository.findFutureBookings(userId)).thenReturn(bookings);
+        Mockito.when(bookingRepository.findFutureBookings(
+                Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class))).thenReturn(bookings);
 
-        List<BookingDto> result = bookingService.getBookingsByState(userId, "FUTURE");
+        List<BookingShortDto> result = bookingService.getBookingsByState(userId, "FUTURE", null, 20);
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        Mockito.verify(bookingRepository).findFutureBookings(userId);
+        Mockito.verify(bookingRepository).findFutureBookings(
+                Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class));
     }
 
     @Test
     void testGetBookingsByStateWaiting() {
         Long userId = 1L;
-        List<Booking> bookings = List.of(
-                Instancio.of(Booking.class)
+        List<BookingView> bookings = List.of(
+                Instancio.of(BookingView.class)
                         .create(),
-                Instancio.of(Booking.class)
+                Instancio.of(BookingView.class)
                         .create()
         );
 
-        Mockito.when(bookingRepository.findBookingsByStatus(userId, BookingStatus.WAITING)).thenReturn(bookings);
+        Mockito.when(bookingRepository.findBookingsByStatus(
+                Mockito.eq(userId), Mockito.eq(BookingStatus.WAITING), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class))).thenReturn(bookings);
 
-        List<BookingDto> result = bookingService.getBookingsByState(userId, "WAITING");
+        List<BookingShortDto> result = bookingService.getBookingsByState(userId, "WAITING", null, 20);
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        Mockito.verify(bookingRepository).findBookingsByStatus(userId, BookingStatus.WAITING);
+        Mockito.verify(bookingRepository).findBookingsByStatus(
+                Mockito.eq(userId), Mockito.eq(BookingStatus.WAITING), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class));
     }
 
     @Test
     void testGetBookingsByStateRejected() {
         Long userId = 1L;
-        List<Booking> bookings = List.of(
-                Instancio.of(Booking.class)
+        List<BookingView> bookings = List.of(
+                Instancio.of(BookingView.class)
                         .create(),
-                Instancio.of(Booking.class)
+                Instancio.of(BookingView.class)
                         .create()
         );
 
-        Mockito.when(bookingRepository.findBookingsByStatus(userId, BookingStatus.REJECTED)).thenReturn(bookings);
+        Mockito.when(bookingRepository.findBookingsByStatus(
+                Mockito.eq(userId), Mockito.eq(BookingStatus.REJECTED), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class))).thenReturn(bookings);
 
-        List<BookingDto> result = bookingService.getBookingsByState(userId, "REJECTED");
+        List<BookingShortDto> result = bookingService.getBookingsByState(userId, "REJECTED", null, 20);
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        Mockito.verify(bookingRepository).findBookingsByStatus(userId, BookingStatus.REJECTED);
+        Mockito.verify(bookingRepository).findBookingsByStatus(
+                Mockito.eq(userId), Mockito.eq(BookingStatus.REJECTED), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class));
     }
 
     @Test
     void testGetBookingsByStateDefault() {
         Long userId = 1L;
-        List<Booking> bookings = List.of(
-                Instancio.of(Booking.class)
+        List<BookingView> bookings = List.of(
+                Instancio.of(BookingView.class)
                         .create(),
-                Instancio.of(Booking.class)
+                Instancio.of(BookingView.class)
                         .create()
         );
 
-        Mockito.when(bookingRepository.findAllByBookerId(userId)).thenReturn(bookings);
+        Mockito.when(bookingRepository.findBookerBookings(
+                Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class))).thenReturn(bookings);
 
-        List<BookingDto> result = bookingService.getBookingsByState(userId, "UNKNOWN");
+        List<BookingShortDto> result = bookingService.getBookingsByState(userId, "UNKNOWN", null, 20);
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        Mockito.verify(bookingRepository).findAllByBookerId(userId);
+        Mockito.verify(bookingRepository).findBookerBookings(
+                Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class));
+    }
+
+    @Test
+    void testGetBookingsByState_ShouldMapViewToCompactBooking() {
+        Long userId = 1L;
+        BookingView view = Instancio.create(BookingView.class);
+
+        Mockito.when(bookingRepository.findBookerBookings(
+                Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class)))
+                .thenReturn(List.of(view));
+
+        BookingShortDto result = bookingService.getBookingsByState(userId, "ALL", null, 20).get(0);
+
+        assertEquals(view.id(), result.getId());
+        assertEquals(view.itemId(), result.getItem().getId());
+        assertEquals(view.itemName(), result.getItem().getName());
+        assertEquals(view.bookerId(), result.getBooker().getId());
+        assertEquals(view.bookerName(), result.getBooker().getName());
+        Mockito.verify(bookingRepository, Mockito.never()).findByIdIn(Mockito.anyCollection());
+    }
+
+    @Test
+    void testGetFullBookingsByState_ShouldLoadPageInViewOrder() {
+        Long userId = 1L;
+        BookingView first = Instancio.of(BookingView.class).set(field(BookingView::id), 2L).create();
+        BookingView second = Instancio.of(BookingView.class).set(field(BookingView::id), 1L).create();
+        Booking booking1 = Instancio.of(Booking.class).set(field(Booking::getId), 1L).create();
+        Booking booking2 = Instancio.of(Booking.class).set(field(Booking::getId), 2L).create();
+
+        Mockito.when(bookingRepository.findBookerBookings(
+                Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class)))
+                .thenReturn(List.of(first, second));
+        Mockito.when(bookingRepository.findByIdIn(List.of(2L, 1L))).thenReturn(List.of(booking1, booking2));
+
+        List<BookingDto> result = bookingService.getFullBookingsByState(userId, "ALL", null, 20);
+
+        assertEquals(List.of(2L, 1L), result.stream().map(BookingDto::getId).toList());
+        assertEquals(booking2.getItem().getName(), result.get(0).getItem().getName());
     }
 
     @Test
     public void testGetBookingOwner_NullState_ThrowsException() {
         Long userId = 1L;
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            bookingService.getBookingOwner(null, userId);
+            bookingService.getBookingOwner(null, userId, null, 20);
         });
         assertEquals("State must not be null or empty", exception.getMessage());
     }
@@ -394,7 +543,7 @@ class BookingServiceImplTest {
     public void testGetBookingOwner_EmptyState_ThrowsException() {
         Long userId = 1L;
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            bookingService.getBookingOwner("", userId);
+            bookingService.getBookingOwner("", userId, null, 20);
         });
         assertEquals("State must not be null or empty", exception.getMessage());
     }
@@ -402,147 +551,132 @@ class BookingServiceImplTest {
     @Test
     public void testGetBookingOwner_CurrentState() {
         Long userId = 1L;
-        List<Booking> bookings = List.of(
-                Instancio.of(Booking.class)
+        List<BookingView> bookings = List.of(
+                Instancio.of(BookingView.class)
                         .create(),
-                Instancio.of(Booking.class)
+                Instancio.of(BookingView.class)
                         .create()
         );
         Mockito.when(bookingRepository
-                        .findByItemOwnerIdAndStartBeforeAndEndAfterOrderByStart(
-                                Mockito.anyLong(),
-                                Mockito.any(LocalDateTime.class),
-                                Mockito.any(LocalDateTime.class))
+                        .findOwnerCurrentBookings(
+                                Mockito.anyLong(), Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class))
                 )
                 .thenReturn(bookings);
 
-        List<BookingDto> result = bookingService.getBookingOwner("CURRENT", userId);
+        List<BookingShortDto> result = bookingService.getBookingOwner("CURRENT", userId, null, 20);
 
         assertEquals(2, result.size());
-        Mockito.verify(bookingRepository).findByItemOwnerIdAndStartBeforeAndEndAfterOrderByStart(
-                Mockito.anyLong(),
-                Mockito.any(LocalDateTime.class),
-                Mockito.any(LocalDateTime.class)
-        );
+        Mockito.verify(bookingRepository).findOwnerCurrentBookings(
+                Mockito.anyLong(), Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class));
     }
 
     @Test
     void testGetBookingsOwnerByStatePast() {
         Long userId = 1L;
-        List<Booking> bookings = List.of(
-                Instancio.of(Booking.class)
+        List<BookingView> bookings = List.of(
+                Instancio.of(BookingView.class)
                         .create(),
-                Instancio.of(Booking.class)
+                Instancio.of(BookingView.class)
                         .create()
         );
         Mockito.when(bookingRepository
-                        .findByItemOwnerIdAndEndBeforeOrderByStart(
-                                Mockito.anyLong(),
-                                Mockito.any(LocalDateTime.class))
+                        .findOwnerPastBookings(
+                                Mockito.anyLong(), Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class))
                 )
                 .thenReturn(bookings);
 
-        List<BookingDto> result = bookingService.getBookingOwner("PAST", userId);
+        List<BookingShortDto> result = bookingService.getBookingOwner("PAST", userId, null, 20);
 
         assertEquals(2, result.size());
-        Mockito.verify(bookingRepository).findByItemOwnerIdAndEndBeforeOrderByStart(
-                Mockito.anyLong(),
-                Mockito.any(LocalDateTime.class)
-        );
+        Mockito.verify(bookingRepository).findOwnerPastBookings(
+                Mockito.anyLong(), Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class));
     }
 
     @Test
     void testGetBookingsOwnerByStateFuture() {
         Long userId = 1L;
-        List<Booking> bookings = List.of(
-                Instancio.of(Booking.class)
+        List<BookingView> bookings = List.of(
+                Instancio.of(BookingView.class)
                         .create(),
-                Instancio.of(Booking.class)
+                Instancio.of(BookingView.class)
                         .create()
         );
         Mockito.when(bookingRepository
-                        .findByItemOwnerIdAndStartAfterOrderByStart(
-                                Mockito.anyLong(),
-                                Mockito.any(LocalDateTime.class))
+                        .findOwnerFutureBookings(
+                                Mockito.anyLong(), Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class))
                 )
                 .thenReturn(bookings);
 
-        List<BookingDto> result = bookingService.getBookingOwner("FUTURE", userId);
+        List<BookingShortDto> result = bookingService.getBookingOwner("FUTURE", userId, null, 20);
 
         assertEquals(2, result.size());
-        Mockito.verify(bookingRepository).findByItemOwnerIdAndStartAfterOrderByStart(
-                Mockito.anyLong(),
-                Mockito.any(LocalDateTime.class)
-        );
+        Mockito.verify(bookingRepository).findOwnerFutureBookings(
+                Mockito.anyLong(), Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class));
     }
 
     @Test
     void testGetBookingsOwnerByStateWaiting() {
         Long userId = 1L;
-        List<Booking> bookings = List.of(
-                Instancio.of(Booking.class)
+        List<BookingView> bookings = List.of(
+                Instancio.of(BookingView.class)
                         .create(),
-                Instancio.of(Booking.class)
+                Instancio.of(BookingView.class)
                         .create()
         );
         Mockito.when(bookingRepository
-                        .findByItemOwnerIdAndStatusOrderByStart(
-                                userId,
-                                BookingStatus.WAITING)
+                        .findOwnerBookingsByStatus(
+                                Mockito.eq(userId), Mockito.eq(BookingStatus.WAITING), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class))
                 )
                 .thenReturn(bookings);
 
-        List<BookingDto> result = bookingService.getBookingOwner("WAITING", userId);
+        List<BookingShortDto> result = bookingService.getBookingOwner("WAITING", userId, null, 20);
 
         assertEquals(2, result.size());
-        Mockito.verify(bookingRepository).findByItemOwnerIdAndStatusOrderByStart(
-                userId,
-                BookingStatus.WAITING
-        );
+        Mockito.verify(bookingRepository).findOwnerBookingsByStatus(
+                Mockito.eq(userId), Mockito.eq(BookingStatus.WAITING), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class));
     }
 
     @Test
     void testGetBookingsOwnerByStateRejected() {
         Long userId = 1L;
-        List<Booking> bookings = List.of(
-                Instancio.of(Booking.class)
+        List<BookingView> bookings = List.of(
+                Instancio.of(BookingView.class)
                         .create(),
-                Instancio.of(Booking.class)
+                Instancio.of(BookingView.class)
                         .create()
         );
         Mockito.when(bookingRepository
-                        .findByItemOwnerIdAndStatusOrderByStart(
-                                userId,
-                                BookingStatus.REJECTED)
+                        .findOwnerBookingsByStatus(
+                                Mockito.eq(userId), Mockito.eq(BookingStatus.REJECTED), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class))
                 )
                 .thenReturn(bookings);
 
-        List<BookingDto> result = bookingService.getBookingOwner("REJECTED", userId);
+        List<BookingShortDto> result = bookingService.getBookingOwner("REJECTED", userId, null, 20);
 
         assertEquals(2, result.size());
-        Mockito.verify(bookingRepository).findByItemOwnerIdAndStatusOrderByStart(
-                userId,
-                BookingStatus.REJECTED
-        );
+        Mockito.verify(bookingRepository).findOwnerBookingsByStatus(
+                Mockito.eq(userId), Mockito.eq(BookingStatus.REJECTED), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class));
     }
 
     @Test
     void testGetBookingsOwnerByStateDefault() {
         Long userId = 1L;
-        List<Booking> bookings = List.of(
-                Instancio.of(Booking.class)
+        List<BookingView> bookings = List.of(
+                Instancio.of(BookingView.class)
                         .create(),
-                Instancio.of(Booking.class)
+                Instancio.of(BookingView.class)
                         .create()
         );
 
-        Mockito.when(bookingRepository.findByItemOwnerIdOrderByStart(userId)).thenReturn(bookings);
+        Mockito.when(bookingRepository.findOwnerBookings(
+                Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class))).thenReturn(bookings);
 
-        List<BookingDto> result = bookingService.getBookingOwner("UNKNOWN", userId);
+        List<BookingShortDto> result = bookingService.getBookingOwner("UNKNOWN", userId, null, 20);
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        Mockito.verify(bookingRepository).findByItemOwnerIdOrderByStart(userId);
+        Mockito.verify(bookingRepository).findOwnerBookings(
+                Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.any(Limit.class));
     }
 
     @Test
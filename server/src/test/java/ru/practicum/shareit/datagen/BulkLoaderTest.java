@@ -0,0 +1,109 @@
+package ru.practicum.shareit.datagen;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.index.BookingIntervalIndex;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.service.BookingServiceImpl;
+import ru.practicum.shareit.item.cache.ItemDetailCache;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.user.service.UserServiceImpl;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Loads generated datasets into the migrated H2 schema, which checks them against its keys and constraints,
+ * and checks that the server keeps working on top of them. Runs outside a test transaction, as resetting
+ * the identity columns commits.
+ */
+@DataJpaTest(showSql = false)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({BookingServiceImpl.class, UserServiceImpl.class, ItemDetailCache.class, ItemSearchIndex.class,
+        BookingIntervalIndex.class})
+class BulkLoaderTest {
+    private static final DatasetSpec SPEC = DatasetSpec.of(300, 60, 600, 6_000, 600)
+            .withNow(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Test
+    void load_ShouldWriteEveryTableAndKeepBookingsConsistent() throws SQLException {
+        Map<Table, Long> before = counts();
+
+        Map<Table, Long> loaded = load(SPEC);
+
+        assertEquals(Map.of(Table.USERS, 300L, Table.REQUESTS, 60L, Table.ITEMS, 600L,
+                Table.BOOKINGS, 6_000L, Table.COMMENTS, 600L), loaded);
+        Map<Table, Long> after = counts();
+        for (Table table : Table.values()) {
+            assertEquals(before.get(table) + loaded.get(table), after.get(table));
+        }
+        assertEquals(0, count("SELECT COUNT(*) FROM bookings a JOIN bookings b ON a.item_id = b.item_id "
+                + "AND a.id < b.id AND a.start_date < b.end_date AND b.start_date < a.end_date "
+                + "WHERE a.status IN ('WAITING', 'APPROVED') AND b.status IN ('WAITING', 'APPROVED')"));
+        assertEquals(0, count("SELECT COUNT(*) FROM comments c WHERE NOT EXISTS (SELECT 1 FROM bookings b "
+                + "WHERE b.item_id = c.item_id AND b.booker_id = c.author_id AND b.status = 'APPROVED' "
+                + "AND b.end_date <= c.created)"));
+    }
+
+    @Test
+    void load_ShouldLeaveServerAbleToInsertAndRead() throws SQLException {
+        load(SPEC.withSeed(11));
+        long maxUserId = count("SELECT MAX(id) FROM users");
+        long busiestOwner = count("SELECT i.owner_id FROM bookings b JOIN items i ON i.id = b.item_id "
+                + "GROUP BY i.owner_id ORDER BY COUNT(*) DESC LIMIT 1");
+
+        UserDto created = userService.create(UserDto.builder().name("New user").email("new@shareit.test").build());
+        List<BookingShortDto> page = bookingService.getBookingOwner("ALL", busiestOwner, null, 20);
+
+        assertTrue(created.getId() > maxUserId);
+        assertFalse(page.isEmpty());
+    }
+
+    private Map<Table, Long> load(DatasetSpec spec) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return new BulkLoader(connection).load(spec);
+        }
+    }
+
+    private Map<Table, Long> counts() {
+        Map<Table, Long> counts = new EnumMap<>(Table.class);
+        for (Table table : Table.values()) {
+            counts.put(table, count("SELECT COUNT(*) FROM " + table.tableName()));
+        }
+        return counts;
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
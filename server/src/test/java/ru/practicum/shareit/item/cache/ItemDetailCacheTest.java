@@ -0,0 +1,127 @@
+package ru.practicum.shareit.item.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.model.ItemBookingDates;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ItemDetailCacheTest {
+    private ItemDetailCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ItemDetailCache(1_000_000);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void testGet_Hit_ShouldLoadOnce() {
+        ItemDto first = cache.get(1L, this::load);
+        ItemDto second = cache.get(1L, this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testInvalidateItem_ShouldReload() {
+        cache.get(1L, this::load);
+
+        cache.invalidateItem(1L);
+        cache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testInvalidateUser_ShouldDropOnlyItemsShowingTheUser() {
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        cache.invalidateUser(101L);
+
+        assertEquals(1, cache.estimatedSize());
+        cache.get(2L, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testGetBookingDates_ShouldCacheUntilNextBoundary() {
+        LocalDateTime now = LocalDateTime.now();
+        ItemBookingDates dates = new ItemBookingDates(1L, now.minusDays(1), now.plusHours(1), now.plusHours(2));
+        AtomicInteger dateLoads = new AtomicInteger();
+        cache.get(1L, this::load);
+
+        cache.getBookingDates(1L, now, () -> count(dateLoads, dates));
+        cache.getBookingDates(1L, now.plusMinutes(59), () -> count(dateLoads, dates));
+        assertEquals(1, dateLoads.get());
+
+        cache.getBookingDates(1L, now.plusHours(1), () -> count(dateLoads, dates));
+        assertEquals(2, dateLoads.get());
+    }
+
+    @Test
+    public void testInvalidateBookingDates_ShouldKeepDetailAndReloadDates() {
+        LocalDateTime now = LocalDateTime.now();
+        ItemBookingDates dates = new ItemBookingDates(1L, null, null, null);
+        AtomicInteger dateLoads = new AtomicInteger();
+        cache.get(1L, this::load);
+        cache.getBookingDates(1L, now, () -> count(dateLoads, dates));
+
+        cache.invalidateBookingDates(1L);
+        cache.getBookingDates(1L, now, () -> count(dateLoads, dates));
+        cache.get(1L, this::load);
+
+        assertEquals(2, dateLoads.get());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testGet_InvalidatedWhileLoading_ShouldNotCacheStaleValue() {
+        cache.get(1L, id -> {
+            cache.invalidateItem(id);
+            return load(id);
+        });
+        cache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testBindTo_ShouldRegisterCacheMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "items.detail").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "items.detail").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    private ItemDetail load(Long itemId) {
+        loads.incrementAndGet();
+        ItemDto item = ItemDto.builder()
+                .id(itemId)
+                .name("Item " + itemId)
+                .description("Description " + itemId)
+                .build();
+        return new ItemDetail(item, Set.of(100L, 100L + itemId));
+    }
+
+    private static ItemBookingDates count(AtomicInteger counter, ItemBookingDates dates) {
+        counter.incrementAndGet();
+        return dates;
+    }
+}
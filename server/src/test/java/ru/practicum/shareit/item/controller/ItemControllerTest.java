@@ -95,14 +95,14 @@ public class ItemControllerTest {
                 Instancio.of(ItemDto.class).create()
         );
 
-        Mockito.when(itemService.getAllItemsByUser(userId)).thenReturn(items);
+        Mockito.when(itemService.getAllItemsByUser(userId, null, 20)).thenReturn(items);
 
         mockMvc.perform(get("/items")
                         .header("X-Sharer-User-Id", userId))
                 .andExpect(status().isOk())
                 .andExpect(content().json(objectMapper.writeValueAsString(items)));
 
-        Mockito.verify(itemService).getAllItemsByUser(userId);
+        Mockito.verify(itemService).getAllItemsByUser(userId, null, 20);
     }
 
     @Test
@@ -129,14 +129,14 @@ public class ItemControllerTest {
                 Instancio.of(ItemDto.class).create()
         );
 
-        Mockito.when(itemService.getText(searchText)).thenReturn(items);
+        Mockito.when(itemService.getText(searchText, 0, 20)).thenReturn(items);
 
         mockMvc.perform(get("/items/search")
                         .param("text", searchText))
                 .andExpect(status().isOk())
                 .andExpect(content().json(objectMapper.writeValueAsString(items)));
 
-        Mockito.verify(itemService).getText(searchText);
+        Mockito.verify(itemService).getText(searchText, 0, 20);
     }
 
     @Test
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.item.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+class ItemSearchRepositoryImplTest {
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = User.builder()
+                .name("Search owner")
+                .email("owner@search.test")
+                .build();
+        entityManager.persist(owner);
+    }
+
+    @Test
+    public void testSearch_UnavailableItemMatchingDescription_ShouldNotBeReturned() {
+        persistItem("Hammer", "heavy drill bits included", false);
+        Item available = persistItem("Cordless drill", "18V", true);
+
+        List<Item> result = itemRepository.search("drill", 0, 20);
+
+        assertEquals(List.of(available.getId()), ids(result));
+    }
+
+    @Test
+    public void testSearch_NameMatch_ShouldRankAboveDescriptionMatch() {
+        Item byDescription = persistItem("Toolbox", "comes with a drill", true);
+        Item byName = persistItem("Drill", "powerful", true);
+
+        List<Item> result = itemRepository.search("DRILL", 0, 20);
+
+        assertEquals(List.of(byName.getId(), byDescription.getId()), ids(result));
+    }
+
+    @Test
+    public void testSearch_AllTokensMustMatch() {
+        Item both = persistItem("Камера Sony", "зеркальная камера", true);
+        persistItem("Камера Canon", "компактная", true);
+
+        List<Item> result = itemRepository.search("камер, sony", 0, 20);
+
+        assertEquals(List.of(both.getId()), ids(result));
+    }
+
+    @Test
+    public void testSearch_ShouldPage() {
+        Item first = persistItem("Saw 1", "hand saw", true);
+        Item second = persistItem("Saw 2", "hand saw", true);
+        Item third = persistItem("Saw 3", "hand saw", true);
+
+        assertEquals(List.of(first.getId(), second.getId()), ids(itemRepository.search("saw", 0, 2)));
+        assertEquals(List.of(third.getId()), ids(itemRepository.search("saw", 2, 2)));
+    }
+
+    @Test
+    public void testSearch_BlankText_ShouldReturnEmptyList() {
+        persistItem("Saw", "hand saw", true);
+
+        assertTrue(itemRepository.search(" ,. ", 0, 20).isEmpty());
+    }
+
+    private Item persistItem(String name, String description, boolean available) {
+        Item item = Item.builder()
+                .name(name)
+                .description(description)
+                .available(available)
+                .owner(owner)
+                .build();
+        entityManager.persist(item);
+        return item;
+    }
+
+    private static List<Long> ids(List<Item> items) {
+        return items.stream()
+                .map(Item::getId)
+                .toList();
+    }
+}
@@ -0,0 +1,170 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSearchView;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ItemSearchIndexTest {
+    private ItemRepository itemRepository;
+    private ItemSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = Mockito.mock(ItemRepository.class);
+        Mockito.when(itemRepository.findSearchViewsAfter(Mockito.anyLong(), Mockito.any(Limit.class)))
+                .thenReturn(List.of(
+                        view(1L, "Дрель ударная", "Мощная дрель для бетона", true),
+                        view(2L, "Фотокамера", "Зеркальная камера Canon", true),
+                        view(3L, "Видеокамера", "Старая, без аккумулятора", false),
+                        view(4L, "Cordless drill", "Drill with two batteries", true),
+                        view(5L, "Toolbox", "Has a small drill inside", true)))
+                .thenReturn(List.of());
+        index = new ItemSearchIndex(itemRepository, true);
+        index.rebuild();
+    }
+
+    @Test
+    public void testRebuild_ShouldMarkIndexReady() {
+        assertTrue(index.isReady());
+        assertEquals(5, index.documentCount());
+    }
+
+    @Test
+    public void testRebuild_Disabled_ShouldStayNotReady() {
+        ItemSearchIndex disabled = new ItemSearchIndex(itemRepository, false);
+
+        disabled.rebuild();
+
+        assertFalse(disabled.isReady());
+    }
+
+    @Test
+    public void testSearch_PartialWord_ShouldMatchSubstring() {
+        assertEquals(List.of(2L), index.search("камер", 0, 20));
+        assertEquals(List.of(1L), index.search("ДРЕЛ", 0, 20));
+    }
+
+    @Test
+    public void testSearch_ShouldSkipUnavailableItems() {
+        assertEquals(List.of(), index.search("аккумулятор", 0, 20));
+    }
+
+    @Test
+    public void testSearch_ShouldRankNameAboveDescription() {
+        assertEquals(List.of(4L, 5L), index.search("drill", 0, 20));
+    }
+
+    @Test
+    public void testSearch_ShouldRequireEveryToken() {
+        assertEquals(List.of(4L), index.search("drill batteries", 0, 20));
+        assertEquals(List.of(), index.search("drill бетона", 0, 20));
+    }
+
+    @Test
+    public void testSearch_ShortToken_ShouldVerifyAgainstText() {
+        assertEquals(List.of(2L), index.search("ca", 0, 20));
+    }
+
+    @Test
+    public void testSearch_ShouldPage() {
+        assertEquals(List.of(4L), index.search("drill", 0, 1));
+        assertEquals(List.of(5L), index.search("drill", 1, 1));
+        assertEquals(List.of(), index.search("drill", 2, 1));
+    }
+
+    @Test
+    public void testSearch_BlankText_ShouldReturnEmptyList() {
+        assertEquals(List.of(), index.search("  ", 0, 20));
+        assertEquals(List.of(), index.search(null, 0, 20));
+    }
+
+    @Test
+    public void testIndex_UpdatedText_ShouldReplacePreviousVersion() {
+        index.index(item(4L, "Cordless screwdriver", "No batteries", true));
+
+        assertEquals(List.of(5L), index.search("drill", 0, 20));
+        assertEquals(List.of(4L), index.search("screw", 0, 20));
+        assertEquals(5, index.documentCount());
+    }
+
+    @Test
+    public void testIndex_AvailabilityChange_ShouldApply() {
+        index.index(item(3L, "Видеокамера", "Старая, без аккумулятора", true));
+
+        assertEquals(List.of(3L), index.search("аккумулятор", 0, 20));
+    }
+
+    @Test
+    public void testIndex_ManyUpdates_ShouldCompactAndKeepResults() {
+        for (int i = 0; i < 3000; i++) {
+            index.index(item(6L, "Saw " + i, "hand saw", true));
+        }
+
+        assertEquals(List.of(6L), index.search("saw 2999", 0, 20));
+        assertEquals(List.of(), index.search("saw 1000", 0, 20));
+        assertEquals(6, index.documentCount());
+    }
+
+    @Test
+    public void testRemove_ShouldDropItemFromResults() {
+        index.remove(4L);
+        index.remove(42L);
+
+        assertEquals(List.of(5L), index.search("drill", 0, 20));
+        assertEquals(List.of(5L), index.search("drill", 0, 1));
+        assertEquals(4, index.documentCount());
+    }
+
+    @Test
+    public void testMemoryFootprint_ShouldGrowWithDocuments() {
+        long before = index.memoryFootprintBytes();
+
+        index.index(item(10L, "Палатка четырёхместная", "Непромокаемая, с тамбуром", true));
+
+        assertTrue(before > 0);
+        assertTrue(index.memoryFootprintBytes() > before);
+    }
+
+    private static Item item(Long id, String name, String description, boolean available) {
+        return Item.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .available(available)
+                .build();
+    }
+
+    private static ItemSearchView view(Long id, String name, String description, boolean available) {
+        return new ItemSearchView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+
+            @Override
+            public Boolean getAvailable() {
+                return available;
+            }
+        };
+    }
+}
@@ -0,0 +1,138 @@
+package ru.practicum.shareit.item.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.model.ItemBookingDates;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the grouped last/next booking query with two per-item lookups at 10k items.
+ * Excluded from the default build, run with {@code mvn test -Dsurefire.excludedGroups= -Dgroups=benchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ItemBookingDatesBenchmarkTest {
+    private static final int ITEMS = 10_000;
+    private static final int ITERATIONS = 5;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<Long> itemIds;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        now = LocalDateTime.now();
+
+        jdbcTemplate.update("INSERT INTO users (name, email) VALUES ('bench', 'bench@benchmark.test')");
+        Long ownerId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE email = 'bench@benchmark.test'", Long.class);
+        jdbcTemplate.batchUpdate("INSERT INTO items (name, description, available, owner_id) VALUES (?, ?, TRUE, ?)",
+                IntStream.range(0, ITEMS)
+                        .mapToObj(i -> new Object[]{"bench item " + i, "benchmark", ownerId})
+                        .toList());
+        itemIds = jdbcTemplate.queryForList("SELECT id FROM items WHERE owner_id = ? ORDER BY id", Long.class, ownerId);
+
+        List<Object[]> bookings = new ArrayList<>();
+        for (int i = 0; i < itemIds.size(); i++) {
+            Long itemId = itemIds.get(i);
+            bookings.add(booking(itemId, ownerId, now.minusDays(3 + i % 5), now.minusDays(2 + i % 5)));
+            bookings.add(booking(itemId, ownerId, now.minusDays(10), now.minusDays(9)));
+            bookings.add(booking(itemId, ownerId, now.plusDays(1 + i % 7), now.plusDays(2 + i % 7)));
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) VALUES (?, ?, ?, ?, 'APPROVED')",
+                bookings);
+    }
+
+    @Test
+    void groupedQuery_ShouldMatchPerItemLookups() {
+        Map<Long, ItemBookingDates> perItem = measure("per-item lookups", this::perItem);
+        Map<Long, ItemBookingDates> grouped = measure("grouped query", this::grouped);
+
+        assertEquals(ITEMS, grouped.size());
+        assertEquals(perItem, grouped);
+    }
+
+    private Map<Long, ItemBookingDates> grouped() {
+        Map<Long, ItemBookingDates> result = new HashMap<>();
+        bookingRepository.findBookingDates(itemIds, now).forEach(dates -> result.put(dates.itemId(),
+                new ItemBookingDates(dates.itemId(), dates.lastBooking(), dates.nextBooking(), null)));
+        return result;
+    }
+
+    private Map<Long, ItemBookingDates> perItem() {
+        Map<Long, ItemBookingDates> result = new HashMap<>();
+        for (Long itemId : itemIds) {
+            LocalDateTime last = first("SELECT b.end FROM Booking b WHERE b.item.id = :itemId AND b.end < :now "
+                    + "ORDER BY b.end DESC", itemId);
+            LocalDateTime next = first("SELECT b.start FROM Booking b WHERE b.item.id = :itemId AND b.start > :now "
+                    + "ORDER BY b.start", itemId);
+            result.put(itemId, new ItemBookingDates(itemId, last, next, null));
+        }
+        return result;
+    }
+
+    private LocalDateTime first(String query, Long itemId) {
+        return entityManager.createQuery(query, LocalDateTime.class)
+                .setParameter("itemId", itemId)
+                .setParameter("now", now)
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    private <T> T measure(String name, Supplier<T> run) {
+        T result = run.get();
+        entityManager.clear();
+
+        statistics.clear();
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            result = run.get();
+            entityManager.clear();
+        }
+        long averageMillis = (System.nanoTime() - started) / ITERATIONS / 1_000_000;
+        log.info("{} for {} items: {} ms, {} statements per call", name, ITEMS, averageMillis,
+                statistics.getPrepareStatementCount() / ITERATIONS);
+        return result;
+    }
+
+    private static Object[] booking(Long itemId, Long bookerId, LocalDateTime start, LocalDateTime end) {
+        return new Object[]{Timestamp.valueOf(start), Timestamp.valueOf(end), itemId, bookerId};
+    }
+}
@@ -0,0 +1,116 @@
+package ru.practicum.shareit.item.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import ru.practicum.shareit.comment.model.Comment;
+import ru.practicum.shareit.item.cache.ItemDetailCache;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.sql.SqlRecorder;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that item endpoints issue a constant number of SQL statements
+ * regardless of how many items, comments and bookings are returned or stored.
+ */
+@DataJpaTest(showSql = false, properties = SqlRecorder.PROPERTY)
+@Import({ItemServiceImpl.class, ItemSearchIndex.class, ItemDetailCache.class})
+class ItemServiceImplQueryCountTest {
+    private static final int COMMENTS_PER_ITEM = 3;
+    private static final int MAX_STATEMENTS = 5;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemSearchIndex itemSearchIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void getAllItemsByUser_ShouldIssueConstantNumberOfStatements(int itemCount) {
+        User owner = seed(itemCount);
+
+        List<ItemDto> result = SqlRecorder.record(() -> itemService.getAllItemsByUser(owner.getId(), null, itemCount))
+                .assertStatementsAtMost(MAX_STATEMENTS)
+                .result();
+
+        assertEquals(itemCount, result.size());
+        result.forEach(item -> assertEquals(COMMENTS_PER_ITEM, item.getComments().size()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void getText_ShouldIssueConstantNumberOfStatements(int itemCount) {
+        seed(itemCount);
+        itemSearchIndex.rebuild();
+
+        List<ItemDto> result = SqlRecorder.record(() -> itemService.getText("querycount", 0, itemCount))
+                .assertStatementsAtMost(MAX_STATEMENTS)
+                .result();
+
+        assertEquals(itemCount, result.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void getById_ShouldNotDependOnOtherItems(int itemCount) {
+        User owner = seed(itemCount);
+        Long itemId = entityManager.createQuery("SELECT MIN(i.id) FROM Item i WHERE i.owner = :owner", Long.class)
+                .setParameter("owner", owner)
+                .getSingleResult();
+
+        ItemDto result = SqlRecorder.record(() -> itemService.getById(itemId, owner.getId()))
+                .assertStatementsAtMost(MAX_STATEMENTS)
+                .result();
+
+        assertEquals(COMMENTS_PER_ITEM, result.getComments().size());
+    }
+
+    private User seed(int itemCount) {
+        User owner = persistUser("owner");
+        List<User> authors = List.of(persistUser("author1"), persistUser("author2"), persistUser("author3"));
+
+        for (int i = 0; i < itemCount; i++) {
+            Item item = Item.builder()
+                    .name("querycount item " + i)
+                    .description("item used by query count test")
+                    .available(true)
+                    .owner(owner)
+                    .build();
+            entityManager.persist(item);
+            for (int j = 0; j < COMMENTS_PER_ITEM; j++) {
+                entityManager.persist(Comment.builder()
+                        .itemId(item.getId())
+                        .authorId(authors.get((i + j) % authors.size()).getId())
+                        .text("comment " + j)
+                        .created(LocalDateTime.now())
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return owner;
+    }
+
+    private User persistUser(String name) {
+        User user = User.builder()
+                .name(name)
+                .email(name + "@querycount.test")
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
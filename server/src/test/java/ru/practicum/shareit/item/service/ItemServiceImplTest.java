@@ -7,7 +7,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Limit;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.ItemBookingDates;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.comment.dto.CommentDto;
 import ru.practicum.shareit.comment.mapper.CommentMapper;
@@ -15,10 +18,12 @@ import ru.practicum.shareit.comment.model.Comment;
 import ru.practicum.shareit.comment.repository.CommentRepository;
 import ru.practicum.shareit.exception.InvalidDataException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.cache.ItemDetailCache;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
@@ -28,6 +33,7 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.instancio.Select.field;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -55,6 +61,12 @@ class ItemServiceImplTest {
     @Mock
     private ItemMapper itemMapper;
 
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+
+    @Spy
+    private ItemDetailCache itemDetailCache = new ItemDetailCache(1_000_000);
+
     @InjectMocks
     private ItemServiceImpl itemService;
 
@@ -152,6 +164,7 @@ class ItemServiceImplTest {
                 .set(field(ItemDto::getName), "Updated Item Name")
                 .set(field(ItemDto::getDescription), "Updated Description")
                 .set(field(ItemDto::getAvailable), true)
+                .set(field(ItemDto::getRequestId), null)
                 .create();
 
         Comment comment = Instancio.of(Comment.class)
@@ -166,7 +179,7 @@ class ItemServiceImplTest {
         Mockito.when(itemRepository.save(Mockito.any(Item.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Mockito.when(commentRepository.findByItemId(itemId)).thenReturn(List.of(comment));
-        Mockito.when(userRepository.findById(authorId)).thenReturn(Optional.of(author));
+        Mockito.when(userRepository.findAllById(Set.of(authorId))).thenReturn(List.of(author));
 
         ItemDto result = itemService.update(userId, itemId, updatedItemDto);
 
@@ -184,7 +197,7 @@ class ItemServiceImplTest {
         Mockito.verify(itemRepository, Mockito.times(1)).save(Mockito.any(Item.class));
 
         Mockito.verify(commentRepository, Mockito.times(1)).findByItemId(itemId);
-        Mockito.verify(userRepository, Mockito.times(1)).findById(authorId);
+        Mockito.verify(userRepository, Mockito.times(1)).findAllById(Set.of(authorId));
     }
 
     @Test
@@ -214,6 +227,7 @@ class ItemServiceImplTest {
 
         Mockito.verify(commentRepository, Mockito.never()).findByItemId(itemId);
         Mockito.verify(userRepository, Mockito.never()).findById(Mockito.anyLong());
+        Mockito.verify(userRepository, Mockito.never()).findAllById(Mockito.any());
     }
 
     @Test
@@ -241,12 +255,10 @@ class ItemServiceImplTest {
         Mockito.when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
 
         Mockito.when(commentRepository.findByItemId(itemId)).thenReturn(List.of(comment));
-        Mockito.when(userRepository.findById(authorId)).thenReturn(Optional.of(author));
+        Mockito.when(userRepository.findAllById(Set.of(authorId))).thenReturn(List.of(author));
 
-        Mockito.when(bookingRepository.findFirstByItemIdAndEndBeforeOrderByEndDesc(Mockito.eq(itemId), Mockito.any(LocalDateTime.class)))
-                .thenReturn(Optional.of(Instancio.of(Booking.class).set(field(Booking::getEnd), lastBookingDate).create()));
-        Mockito.when(bookingRepository.findFirstByItemIdAndStartAfterOrderByStartAsc(Mockito.eq(itemId), Mockito.any(LocalDateTime.class)))
-                .thenReturn(Optional.of(Instancio.of(Booking.class).set(field(Booking::getStart), nextBookingDate).create()));
+        Mockito.when(bookingRepository.findBookingDates(Mockito.eq(List.of(itemId)), Mockito.any(LocalDateTime.class)))
+                .thenReturn(List.of(new ItemBookingDates(itemId, lastBookingDate, nextBookingDate, nextBookingDate.plusDays(1))));
 
         ItemDto result = itemService.getById(itemId, userId);
 
@@ -263,8 +275,7 @@ class ItemServiceImplTest {
 
         Mockito.verify(itemRepository, Mockito.times(1)).findById(itemId);
         Mockito.verify(commentRepository, Mockito.times(1)).findByItemId(itemId);
-        Mockito.verify(bookingRepository, Mockito.times(1)).findFirstByItemIdAndEndBeforeOrderByEndDesc(Mockito.eq(itemId), Mockito.any(LocalDateTime.class));
-        Mockito.verify(bookingRepository, Mockito.times(1)).findFirstByItemIdAndStartAfterOrderByStartAsc(Mockito.eq(itemId), Mockito.any(LocalDateTime.class));
+        Mockito.verify(bookingRepository, Mockito.times(1)).findBookingDates(Mockito.eq(List.of(itemId)), Mockito.any(LocalDateTime.class));
     }
 
     @Test
@@ -290,7 +301,7 @@ class ItemServiceImplTest {
         Mockito.when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
 
         Mockito.when(commentRepository.findByItemId(itemId)).thenReturn(List.of(comment));
-        Mockito.when(userRepository.findById(authorId)).thenReturn(Optional.of(author));
+        Mockito.when(userRepository.findAllById(Set.of(authorId))).thenReturn(List.of(author));
 
         ItemDto result = itemService.getById(itemId, userId);
 
@@ -307,8 +318,42 @@ class ItemServiceImplTest {
 
         Mockito.verify(itemRepository, Mockito.times(1)).findById(itemId);
         Mockito.verify(commentRepository, Mockito.times(1)).findByItemId(itemId);
-        Mockito.verify(bookingRepository, Mockito.never()).findFirstByItemIdAndEndBeforeOrderByEndDesc(Mockito.anyLong(), Mockito.any(LocalDateTime.class));
-        Mockito.verify(bookingRepository, Mockito.never()).findFirstByItemIdAndStartAfterOrderByStartAsc(Mockito.anyLong(), Mockito.any(LocalDateTime.class));
+        Mockito.verify(bookingRepository, Mockito.never()).findBookingDates(Mockito.anyCollection(), Mockito.any(LocalDateTime.class));
+    }
+
+    @Test
+    public void testGetItemById_RepeatedViews_ShouldServeFromCacheUntilInvalidated() {
+        Long itemId = 1L;
+        Long ownerId = 1L;
+        LocalDateTime nextBookingDate = LocalDateTime.now().plusDays(2);
+
+        Item item = Instancio.of(Item.class)
+                .set(field(Item::getId), itemId)
+                .set(field(Item::getOwner), Instancio.of(User.class).set(field(User::getId), ownerId).create())
+                .create();
+
+        Mockito.when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        Mockito.when(commentRepository.findByItemId(itemId)).thenReturn(List.of());
+        Mockito.when(bookingRepository.findBookingDates(Mockito.eq(List.of(itemId)), Mockito.any(LocalDateTime.class)))
+                .thenReturn(List.of(new ItemBookingDates(itemId, null, nextBookingDate, nextBookingDate.plusDays(1))));
+
+        ItemDto stranger = itemService.getById(itemId, 2L);
+        ItemDto owner = itemService.getById(itemId, ownerId);
+        ItemDto ownerAgain = itemService.getById(itemId, ownerId);
+        ItemDto strangerAgain = itemService.getById(itemId, 2L);
+
+        assertNull(stranger.getNextBooking());
+        assertNull(strangerAgain.getNextBooking());
+        assertEquals(nextBookingDate, owner.getNextBooking());
+        assertEquals(nextBookingDate, ownerAgain.getNextBooking());
+        Mockito.verify(itemRepository, Mockito.times(1)).findById(itemId);
+        Mockito.verify(bookingRepository, Mockito.times(1))
+                .findBookingDates(Mockito.eq(List.of(itemId)), Mockito.any(LocalDateTime.class));
+
+        itemDetailCache.invalidateItem(itemId);
+        itemService.getById(itemId, 2L);
+
+        Mockito.verify(itemRepository, Mockito.times(2)).findById(itemId);
     }
 
     @Test
@@ -335,7 +380,7 @@ class ItemServiceImplTest {
         owner.setId(userId);
         item.setOwner(owner);
 
-        ItemDto updatedItem = Instancio.of(ItemDto.class).create();
+        ItemDto updatedItem = Instancio.of(ItemDto.class).set(field(ItemDto::getRequestId), null).create();
         updatedItem.setAvailable(true); // Новое значение
 
         Mockito.when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
@@ -361,15 +406,20 @@ class ItemServiceImplTest {
         item.setOwner(owner);
 
         ItemDto updatedItem = Instancio.of(ItemDto.class).create();
+        ItemRequest itemRequest = Instancio.of(ItemRequest.class)
+                .set(field(ItemRequest::getId), updatedItem.getRequestId())
+                .create();
 
         Mockito.when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        Mockito.when(itemRequestRepository.findById(updatedItem.getRequestId()))
+                .thenReturn(Optional.of(itemRequest));
         Mockito.when(itemRepository.save(Mockito.any(Item.class))).thenReturn(item);
         Mockito.when(commentRepository.findByItemId(itemId)).thenReturn(List.of());
 
         ItemDto result = itemService.update(userId, itemId, updatedItem);
 
         assertNotNull(result);
-        assertNotNull(result.getRequest(), "Expected request to be updated.");
+        assertEquals(updatedItem.getRequestId(), result.getRequestId(), "Expected request to be updated.");
 
         Mockito.verify(itemRepository, Mockito.times(1)).save(item);
     }
@@ -385,7 +435,7 @@ class ItemServiceImplTest {
         owner.setId(userId);
         item.setOwner(owner);
 
-        ItemDto updatedItem = Instancio.of(ItemDto.class).create();
+        ItemDto updatedItem = Instancio.of(ItemDto.class).set(field(ItemDto::getRequestId), null).create();
         updatedItem.setName("New Name");
 
         Mockito.when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
@@ -411,7 +461,7 @@ class ItemServiceImplTest {
         owner.setId(userId);
         item.setOwner(owner);
 
-        ItemDto updatedItem = Instancio.of(ItemDto.class).create();
+        ItemDto updatedItem = Instancio.of(ItemDto.class).set(field(ItemDto::getRequestId), null).create();
         updatedItem.setDescription("New Description");
 
         Mockito.when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
@@ -429,14 +479,14 @@ class ItemServiceImplTest {
 
     @Test
     public void testGetText_EmptyText_ShouldReturnEmptyList() {
-        List<ItemDto> result = itemService.getText("");
+        List<ItemDto> result = itemService.getText("", 0, 20);
 
         assertTrue(result.isEmpty());
 
-        result = itemService.getText(null);
+        result = itemService.getText(null, 0, 20);
         assertTrue(result.isEmpty());
 
-        Mockito.verify(itemRepository, Mockito.never()).findByAvailableTrueAndNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(Mockito.anyString(), Mockito.anyString());
+        Mockito.verify(itemRepository, Mockito.never()).search(Mockito.any(), Mockito.anyInt(), Mockito.anyInt());
     }
 
     @Test
@@ -466,15 +516,17 @@ class ItemServiceImplTest {
                 .create();
         CommentDto commentDto2 = CommentMapper.mapToCommentDto(comment2, Instancio.of(User.class).set(field(User::getId), authorId).create());
 
-        Mockito.when(itemRepository.findByAvailableTrueAndNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(searchText, searchText))
+        Mockito.when(itemRepository.search(searchText, 0, 20))
                 .thenReturn(List.of(item1, item2));
 
-        Mockito.when(commentRepository.findByItemId(itemId1)).thenReturn(List.of(comment1));
-        Mockito.when(commentRepository.findByItemId(itemId2)).thenReturn(List.of(comment2));
+        comment1.setItemId(itemId1);
+        comment2.setItemId(itemId2);
+        Mockito.when(commentRepository.findByItemIdIn(List.of(itemId1, itemId2))).thenReturn(List.of(comment1, comment2));
 
-        Mockito.when(userRepository.findById(authorId)).thenReturn(Optional.of(Instancio.of(User.class).set(field(User::getId), authorId).create()));
+        Mockito.when(userRepository.findAllById(Set.of(authorId)))
+                .thenReturn(List.of(Instancio.of(User.class).set(field(User::getId), authorId).create()));
 
-        List<ItemDto> result = itemService.getText(searchText);
+        List<ItemDto> result = itemService.getText(searchText, 0, 20);
 
         assertNotNull(result);
         assertEquals(2, result.size());
@@ -491,9 +543,45 @@ class ItemServiceImplTest {
         assertEquals(1, itemDto2.getComments().size());
         assertEquals(commentDto2.getText(), itemDto2.getComments().get(0).getText());
 
-        Mockito.verify(itemRepository, Mockito.times(1)).findByAvailableTrueAndNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(searchText, searchText);
-        Mockito.verify(commentRepository, Mockito.times(1)).findByItemId(itemId1);
-        Mockito.verify(commentRepository, Mockito.times(1)).findByItemId(itemId2);
+        Mockito.verify(itemRepository, Mockito.times(1)).search(searchText, 0, 20);
+        Mockito.verify(commentRepository, Mockito.times(1)).findByItemIdIn(List.of(itemId1, itemId2));
+        Mockito.verify(commentRepository, Mockito.never()).findByItemId(Mockito.anyLong());
+        Mockito.verify(userRepository, Mockito.times(1)).findAllById(Set.of(authorId));
+    }
+
+    @Test
+    public void testGetText_IndexReady_ShouldReturnItemsInIndexOrder() {
+        String searchText = "drill";
+        Item item1 = Instancio.of(Item.class).set(field(Item::getId), 1L).create();
+        Item item2 = Instancio.of(Item.class).set(field(Item::getId), 2L).create();
+
+        Mockito.when(itemSearchIndex.isReady()).thenReturn(true);
+        Mockito.when(itemSearchIndex.search(searchText, 0, 20)).thenReturn(List.of(2L, 1L));
+        Mockito.when(itemRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(item1, item2));
+        Mockito.when(commentRepository.findByItemIdIn(List.of(2L, 1L))).thenReturn(List.of());
+
+        List<ItemDto> result = itemService.getText(searchText, 0, 20);
+
+        assertEquals(2, result.size());
+        assertEquals(2L, result.get(0).getId());
+        assertEquals(1L, result.get(1).getId());
+
+        Mockito.verify(itemRepository, Mockito.never()).search(Mockito.any(), Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    @Test
+    public void testCreateItem_ShouldIndexSavedItem() {
+        Long userId = 1L;
+        User user = Instancio.of(User.class).set(field(User::getId), userId).create();
+        ItemDto itemDto = Instancio.of(ItemDto.class).set(field(ItemDto::getRequestId), null).create();
+        Item saved = Instancio.of(Item.class).set(field(Item::getOwner), user).create();
+
+        Mockito.when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        Mockito.when(itemRepository.save(Mockito.any(Item.class))).thenReturn(saved);
+
+        itemService.create(userId, itemDto);
+
+        Mockito.verify(itemSearchIndex, Mockito.times(1)).index(saved);
     }
 
     @Test
@@ -602,10 +690,12 @@ class ItemServiceImplTest {
         User author2 = Instancio.of(User.class).set(field(User::getId), comment2.getAuthorId()).create();
 
         Mockito.when(itemRepository.findAll()).thenReturn(items);
-        Mockito.when(commentRepository.findByItemId(items.get(0).getId())).thenReturn(List.of(comment1));
-        Mockito.when(commentRepository.findByItemId(items.get(1).getId())).thenReturn(List.of(comment2));
-        Mockito.when(userRepository.findById(comment1.getAuthorId())).thenReturn(Optional.of(author1));
-        Mockito.when(userRepository.findById(comment2.getAuthorId())).thenReturn(Optional.of(author2));
+        comment1.setItemId(items.get(0).getId());
+        comment2.setItemId(items.get(1).getId());
+        List<Long> itemIds = List.of(items.get(0).getId(), items.get(1).getId());
+        Mockito.when(commentRepository.findByItemIdIn(itemIds)).thenReturn(List.of(comment1, comment2));
+        Mockito.when(userRepository.findAllById(Set.of(comment1.getAuthorId(), comment2.getAuthorId())))
+                .thenReturn(List.of(author1, author2));
 
         List<ItemDto> result = itemService.getAll();
 
@@ -623,8 +713,8 @@ class ItemServiceImplTest {
         assertEquals(comment2.getText(), result.get(1).getComments().get(0).getText());
 
         Mockito.verify(itemRepository, Mockito.times(1)).findAll();
-        Mockito.verify(commentRepository, Mockito.times(1)).findByItemId(items.get(0).getId());
-        Mockito.verify(commentRepository, Mockito.times(1)).findByItemId(items.get(1).getId());
+        Mockito.verify(commentRepository, Mockito.times(1)).findByItemIdIn(itemIds);
+        Mockito.verify(userRepository, Mockito.never()).findById(Mockito.anyLong());
     }
 
     @Test
@@ -637,7 +727,7 @@ class ItemServiceImplTest {
 
         Mockito.when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
         Mockito.when(commentRepository.findByItemId(itemId)).thenReturn(comments); // Возвращаем список Comment
-        Mockito.when(userRepository.findById(comment1.getAuthorId())).thenReturn(Optional.of(author1));
+        Mockito.when(userRepository.findAllById(Set.of(comment1.getAuthorId()))).thenReturn(List.of(author1));
 
         ItemDto result = itemService.getById(itemId);
 
@@ -681,13 +771,18 @@ class ItemServiceImplTest {
         User author1 = Instancio.of(User.class).set(field(User::getId), comment1.getAuthorId()).create();
         User author2 = Instancio.of(User.class).set(field(User::getId), comment2.getAuthorId()).create();
 
-        Mockito.when(itemRepository.findByOwnerId(userId)).thenReturn(items);
-        Mockito.when(commentRepository.findByItemId(items.get(0).getId())).thenReturn(List.of(comment1));
-        Mockito.when(commentRepository.findByItemId(items.get(1).getId())).thenReturn(List.of(comment2));
-        Mockito.when(userRepository.findById(comment1.getAuthorId())).thenReturn(Optional.of(author1));
-        Mockito.when(userRepository.findById(comment2.getAuthorId())).thenReturn(Optional.of(author2));
+        Mockito.when(itemRepository.findByOwnerIdAfter(userId, 0, Limit.of(20))).thenReturn(items);
+        comment1.setItemId(items.get(0).getId());
+        comment2.setItemId(items.get(1).getId());
+        List<Long> itemIds = List.of(items.get(0).getId(), items.get(1).getId());
+        Mockito.when(commentRepository.findByItemIdIn(itemIds)).thenReturn(List.of(comment1, comment2));
+        Mockito.when(userRepository.findAllById(Set.of(comment1.getAuthorId(), comment2.getAuthorId())))
+                .thenReturn(List.of(author1, author2));
+        LocalDateTime lastBookingDate = LocalDateTime.now().minusDays(1);
+        Mockito.when(bookingRepository.findBookingDates(Mockito.eq(itemIds), Mockito.any(LocalDateTime.class)))
+                .thenReturn(List.of(new ItemBookingDates(items.get(0).getId(), lastBookingDate, null, null)));
 
-        List<ItemDto> result = itemService.getAllItemsByUser(userId);
+        List<ItemDto> result = itemService.getAllItemsByUser(userId, null, 20);
 
         assertNotNull(result);
         assertEquals(2, result.size());
@@ -697,16 +792,21 @@ class ItemServiceImplTest {
         assertEquals(items.get(0).getDescription(), resultItem1.getDescription());
         assertEquals(1, resultItem1.getComments().size());
         assertEquals(comment1.getText(), resultItem1.getComments().get(0).getText());
+        assertEquals(lastBookingDate, resultItem1.getLastBooking());
+        assertNull(resultItem1.getNextBooking());
 
         ItemDto resultItem2 = result.get(1);
         assertEquals(items.get(1).getName(), resultItem2.getName());
         assertEquals(items.get(1).getDescription(), resultItem2.getDescription());
         assertEquals(1, resultItem2.getComments().size());
         assertEquals(comment2.getText(), resultItem2.getComments().get(0).getText());
+        assertNull(resultItem2.getLastBooking());
+        assertNull(resultItem2.getNextBooking());
 
-        Mockito.verify(itemRepository, Mockito.times(1)).findByOwnerId(userId);
-        Mockito.verify(commentRepository, Mockito.times(1)).findByItemId(items.get(0).getId());
-        Mockito.verify(commentRepository, Mockito.times(1)).findByItemId(items.get(1).getId());
+        Mockito.verify(itemRepository, Mockito.times(1)).findByOwnerIdAfter(userId, 0, Limit.of(20));
+        Mockito.verify(commentRepository, Mockito.times(1)).findByItemIdIn(itemIds);
+        Mockito.verify(bookingRepository, Mockito.times(1)).findBookingDates(Mockito.eq(itemIds), Mockito.any(LocalDateTime.class));
+        Mockito.verify(userRepository, Mockito.never()).findById(Mockito.anyLong());
     }
 
     @Test
@@ -755,7 +855,7 @@ class ItemServiceImplTest {
         owner.setId(userId);
         item.setOwner(owner);
 
-        ItemDto updatedItem = Instancio.of(ItemDto.class).create();
+        ItemDto updatedItem = Instancio.of(ItemDto.class).set(field(ItemDto::getRequestId), null).create();
         updatedItem.setAvailable(null);
 
         Mockito.when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
@@ -782,7 +882,7 @@ class ItemServiceImplTest {
         item.setOwner(owner);
 
         ItemDto updatedItem = Instancio.of(ItemDto.class).create();
-        updatedItem.setRequest(null);
+        updatedItem.setRequestId(null);
 
         Mockito.when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
         Mockito.when(itemRepository.save(Mockito.any(Item.class))).thenReturn(item);
@@ -791,7 +891,7 @@ class ItemServiceImplTest {
         ItemDto result = itemService.update(userId, itemId, updatedItem);
 
         assertNotNull(result);
-        assertEquals(result.getRequest().getId(), item.getRequest().getId());
+        assertEquals(result.getRequestId(), item.getRequest().getId());
 
         Mockito.verify(itemRepository, Mockito.times(1)).save(item);
     }
@@ -807,7 +907,7 @@ class ItemServiceImplTest {
         owner.setId(userId);
         item.setOwner(owner);
 
-        ItemDto updatedItem = Instancio.of(ItemDto.class).create();
+        ItemDto updatedItem = Instancio.of(ItemDto.class).set(field(ItemDto::getRequestId), null).create();
         updatedItem.setName(null);
 
         Mockito.when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
@@ -833,7 +933,7 @@ class ItemServiceImplTest {
         owner.setId(userId);
         item.setOwner(owner);
 
-        ItemDto updatedItem = Instancio.of(ItemDto.class).create();
+        ItemDto updatedItem = Instancio.of(ItemDto.class).set(field(ItemDto::getRequestId), null).create();
         updatedItem.setDescription(null);
 
         Mockito.when(itemRepository.findById(itemId)).thenReturn(Optional.of(item));
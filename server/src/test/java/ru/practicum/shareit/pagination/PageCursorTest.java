@@ -0,0 +1,45 @@
+package ru.practicum.shareit.pagination;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.exception.InvalidDataException;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PageCursorTest {
+
+    @Test
+    public void testEncodeDecode_IdOnly_ShouldRoundTrip() {
+        PageCursor cursor = PageCursor.of(42L);
+
+        assertEquals(cursor, PageCursor.decode(cursor.encode(), PageCursor.firstAscending()));
+    }
+
+    @Test
+    public void testEncodeDecode_TimeAndId_ShouldRoundTrip() {
+        PageCursor cursor = PageCursor.of(LocalDateTime.of(2024, 8, 1, 12, 30, 15, 123_000_000), 7L);
+
+        assertEquals(cursor, PageCursor.decode(cursor.encode(), PageCursor.firstDescending()));
+    }
+
+    @Test
+    public void testDecode_Blank_ShouldReturnFirstPage() {
+        PageCursor first = PageCursor.firstDescending();
+
+        assertSame(first, PageCursor.decode(null, first));
+        assertSame(first, PageCursor.decode("", first));
+    }
+
+    @Test
+    public void testDecode_Malformed_ShouldThrowInvalidDataException() {
+        assertThrows(InvalidDataException.class, () -> PageCursor.decode("not a cursor", PageCursor.of(0)));
+    }
+
+    @Test
+    public void testLimit_NotPositive_ShouldThrowInvalidDataException() {
+        assertThrows(InvalidDataException.class, () -> PageCursor.limit(0));
+    }
+}
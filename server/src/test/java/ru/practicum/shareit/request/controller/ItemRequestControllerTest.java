@@ -67,14 +67,14 @@ class ItemRequestControllerTest {
                 Instancio.of(ItemRequestDto.class).create(),
                 Instancio.of(ItemRequestDto.class).create());
 
-        Mockito.when(itemRequestService.getAllRequestsByUser(userId)).thenReturn(requests);
+        Mockito.when(itemRequestService.getAllRequestsByUser(userId, null, 20)).thenReturn(requests);
 
         mockMvc.perform(get("/requests")
                         .header("X-Sharer-User-Id", userId))
                 .andExpect(status().isOk())
                 .andExpect(content().json(objectMapper.writeValueAsString(requests)));
 
-        Mockito.verify(itemRequestService).getAllRequestsByUser(userId);
+        Mockito.verify(itemRequestService).getAllRequestsByUser(userId, null, 20);
     }
 
     @Test
@@ -84,14 +84,14 @@ class ItemRequestControllerTest {
                 Instancio.of(ItemRequestDto.class).create(),
                 Instancio.of(ItemRequestDto.class).create());
 
-        Mockito.when(itemRequestService.getAll(userId)).thenReturn(requests);
+        Mockito.when(itemRequestService.getAll(userId, null, 20)).thenReturn(requests);
 
         mockMvc.perform(get("/requests/all")
                         .header("X-Sharer-User-Id", userId))
                 .andExpect(status().isOk())
                 .andExpect(content().json(objectMapper.writeValueAsString(requests)));
 
-        Mockito.verify(itemRequestService).getAll(userId);
+        Mockito.verify(itemRequestService).getAll(userId, null, 20);
     }
 
     @Test
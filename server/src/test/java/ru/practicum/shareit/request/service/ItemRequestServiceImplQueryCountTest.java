@@ -0,0 +1,165 @@
+package ru.practicum.shareit.request.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.sql.SqlRecorder;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that request pages load the items of all their requests with one query, whatever the page size
+ * or the number of stored requests, and that the feed of all requests leaves out the viewer's own.
+ */
+@DataJpaTest(showSql = false, properties = {
+        SqlRecorder.PROPERTY,
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(ItemRequestServiceImpl.class)
+class ItemRequestServiceImplQueryCountTest {
+    private static final LocalDateTime CREATED = LocalDateTime.of(2030, 1, 1, 10, 0);
+    private static final int ITEMS_PER_REQUEST = 3;
+    private static final int MAX_BY_ID_STATEMENTS = 3;
+
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User requester;
+    private User viewer;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void getAll_ShouldIssueTwoStatements(int requestCount) {
+        seed(requestCount);
+
+        List<ItemRequestDto> result = SqlRecorder.record(() -> itemRequestService.getAll(viewer.getId(), null,
+                        requestCount))
+                .assertStatements(2)
+                .result();
+
+        assertEquals(requestCount, result.size());
+        result.forEach(request -> {
+            assertEquals(requester.getName(), request.getRequester().getName());
+            assertEquals(ITEMS_PER_REQUEST, request.getItems().size());
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void getAllRequestsByUser_ShouldIssueTwoStatements(int requestCount) {
+        seed(requestCount);
+
+        List<ItemRequestDto> result = SqlRecorder.record(() -> itemRequestService.getAllRequestsByUser(
+                        requester.getId(), null, requestCount))
+                .assertStatements(2)
+                .result();
+
+        assertEquals(requestCount, result.size());
+        result.forEach(request -> assertEquals(ITEMS_PER_REQUEST, request.getItems().size()));
+    }
+
+    @Test
+    void getAll_ShouldSkipOwnRequestsAcrossPages() {
+        seed(5);
+
+        List<ItemRequestDto> first = itemRequestService.getAll(requester.getId(), null, 2);
+        ItemRequestDto last = first.get(first.size() - 1);
+        List<ItemRequestDto> second = itemRequestService.getAll(requester.getId(),
+                PageCursor.of(last.getCreated(), last.getId()).encode(), 2);
+
+        assertEquals(List.of(viewer.getId(), viewer.getId()), first.stream()
+                .map(request -> request.getRequester().getId())
+                .toList());
+        assertTrue(second.stream()
+                .noneMatch(request -> request.getRequester().getId().equals(requester.getId())));
+        assertTrue(itemRequestService.getAll(viewer.getId(), null, 20).stream()
+                .noneMatch(request -> request.getRequester().getId().equals(viewer.getId())));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void getById_ShouldNotLoadOtherRequestsOrItems(int requestCount) {
+        Long requestId = seed(requestCount).getId();
+
+        statistics.clear();
+        ItemRequestDto result = SqlRecorder.record(() -> itemRequestService.getById(requestId))
+                .assertStatementsAtMost(MAX_BY_ID_STATEMENTS)
+                .result();
+
+        assertEquals(ITEMS_PER_REQUEST, result.getItems().size());
+        assertEquals(2 + 2 * ITEMS_PER_REQUEST, statistics.getEntityLoadCount(),
+                "Expected only the request, its requester, its items and their owners");
+    }
+
+    private ItemRequest seed(int requestCount) {
+        requester = persistUser("requester");
+        viewer = persistUser("viewer");
+        for (int i = 0; i < 2; i++) {
+            entityManager.persist(ItemRequest.builder()
+                    .description("own request " + i)
+                    .requester(viewer)
+                    .created(CREATED.plusMinutes(i * 3L))
+                    .build());
+        }
+        List<User> owners = List.of(persistUser("owner 1"), persistUser("owner 2"), persistUser("owner 3"));
+        ItemRequest last = null;
+        for (int i = 0; i < requestCount; i++) {
+            last = ItemRequest.builder()
+                    .description("request " + i)
+                    .requester(requester)
+                    .created(CREATED.plusMinutes(i))
+                    .build();
+            entityManager.persist(last);
+            for (int j = 0; j < ITEMS_PER_REQUEST; j++) {
+                entityManager.persist(Item.builder()
+                        .name("answer " + i + "." + j)
+                        .description("item used by request query count test")
+                        .available(true)
+                        .owner(owners.get(j))
+                        .request(last)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return last;
+    }
+
+    private User persistUser(String name) {
+        User user = User.builder()
+                .name(name)
+                .email(name.replace(' ', '.') + "@requestcount.test")
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -7,7 +7,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemOwnerDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
@@ -33,6 +37,9 @@ class ItemRequestServiceImplTest {
     @Mock
     private ItemRequestRepository itemRequestRepository;
 
+    @Mock
+    private ItemRepository itemRepository;
+
     @InjectMocks
     private ItemRequestServiceImpl itemRequestService;
 
@@ -95,16 +102,17 @@ class ItemRequestServiceImplTest {
     public void testGetAllRequestsByUser_NoRequests_ShouldReturnEmptyList() {
         Long userId = 1L;
 
-        Mockito.when(itemRequestRepository.findAllByRequester_IdOrderByCreatedDesc(userId))
+        Mockito.when(itemRequestRepository.findByRequesterIdBefore(
+                        Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.eq(Limit.of(20))))
                 .thenReturn(Collections.emptyList());
 
-        List<ItemRequestDto> result = itemRequestService.getAllRequestsByUser(userId);
+        List<ItemRequestDto> result = itemRequestService.getAllRequestsByUser(userId, null, 20);
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
 
         Mockito.verify(itemRequestRepository, Mockito.times(1))
-                .findAllByRequester_IdOrderByCreatedDesc(userId);
+                .findByRequesterIdBefore(Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.eq(Limit.of(20)));
     }
 
     @Test
@@ -120,10 +128,11 @@ class ItemRequestServiceImplTest {
 
         List<ItemRequest> itemRequests = List.of(request1, request2);
 
-        Mockito.when(itemRequestRepository.findAllByRequester_IdOrderByCreatedDesc(userId))
+        Mockito.when(itemRequestRepository.findByRequesterIdBefore(
+                        Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.eq(Limit.of(20))))
                 .thenReturn(itemRequests);
 
-        List<ItemRequestDto> result = itemRequestService.getAllRequestsByUser(userId);
+        List<ItemRequestDto> result = itemRequestService.getAllRequestsByUser(userId, null, 20);
 
         assertNotNull(result);
         assertEquals(2, result.size());
@@ -132,23 +141,23 @@ class ItemRequestServiceImplTest {
         assertEquals(request2.getId(), result.get(1).getId());
 
         Mockito.verify(itemRequestRepository, Mockito.times(1))
-                .findAllByRequester_IdOrderByCreatedDesc(userId);
+                .findByRequesterIdBefore(Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.eq(Limit.of(20)));
     }
 
     @Test
     public void testGetAll_NoRequests_ShouldReturnEmptyList() {
         Long userId = 1L;
 
-        Mockito.when(itemRequestRepository.findAllByOrderByCreatedDesc())
+        Mockito.when(itemRequestRepository.findOthersBefore(Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.eq(Limit.of(20))))
                 .thenReturn(Collections.emptyList());
 
-        List<ItemRequestDto> result = itemRequestService.getAll(userId);
+        List<ItemRequestDto> result = itemRequestService.getAll(userId, null, 20);
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
 
         Mockito.verify(itemRequestRepository, Mockito.times(1))
-                .findAllByOrderByCreatedDesc();
+                .findOthersBefore(Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.eq(Limit.of(20)));
     }
 
     @Test
@@ -164,19 +173,32 @@ class ItemRequestServiceImplTest {
 
         List<ItemRequest> itemRequests = List.of(request1, request2);
 
-        Mockito.when(itemRequestRepository.findAllByOrderByCreatedDesc())
+        Item answer1 = Instancio.of(Item.class)
+                .set(field(Item::getRequest), request1)
+                .create();
+        Item answer2 = Instancio.of(Item.class)
+                .set(field(Item::getRequest), request1)
+                .create();
+
+        Mockito.when(itemRequestRepository.findOthersBefore(Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.eq(Limit.of(20))))
                 .thenReturn(itemRequests);
+        Mockito.when(itemRepository.findByRequestIdIn(List.of(1L, 2L))).thenReturn(List.of(answer1, answer2));
 
-        List<ItemRequestDto> result = itemRequestService.getAll(userId);
+        List<ItemRequestDto> result = itemRequestService.getAll(userId, null, 20);
 
         assertNotNull(result);
         assertEquals(2, result.size());
 
         assertEquals(request1.getId(), result.get(0).getId());
         assertEquals(request2.getId(), result.get(1).getId());
+        assertEquals(List.of(answer1.getId(), answer2.getId()), result.get(0).getItems().stream()
+                .map(ItemOwnerDto::getId)
+                .toList());
+        assertTrue(result.get(1).getItems().isEmpty());
+        Mockito.verify(itemRepository, Mockito.times(1)).findByRequestIdIn(Mockito.anyCollection());
 
         Mockito.verify(itemRequestRepository, Mockito.times(1))
-                .findAllByOrderByCreatedDesc();
+                .findOthersBefore(Mockito.eq(userId), Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.eq(Limit.of(20)));
     }
 
     @Test
@@ -0,0 +1,182 @@
+package ru.practicum.shareit.schema;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.comment.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.sql.SqlRecorder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every repository query against a seeded database and checks that H2 plans each table access of the
+ * SQL Hibernate sent along an index rather than a table scan. H2 indexes foreign keys by itself and may read
+ * along those indexes; PostgreSQL does not, so every foreign key has to lead an index of the migrations too.
+ * Item search is left out: on PostgreSQL it uses the GIN index, the portable {@code LIKE} fallback always scans.
+ */
+@DataJpaTest(showSql = false, properties = SqlRecorder.PROPERTY)
+class SchemaIndexPlanTest {
+    private static final int USERS = 200;
+    private static final int ITEMS = 1_000;
+    private static final int REQUESTS = 200;
+    private static final int BOOKINGS = 5_000;
+    private static final int COMMENTS = 2_000;
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userId;
+    private long itemId;
+    private long requestId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.batchUpdate("INSERT INTO users (name, email) VALUES (?, ?)",
+                IntStream.range(0, USERS)
+                        .mapToObj(i -> new Object[]{"plan user " + i, "user" + i + "@plan.test"})
+                        .toList());
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class);
+
+        jdbcTemplate.batchUpdate("INSERT INTO requests (description, requester_id, created) VALUES (?, ?, ?)",
+                IntStream.range(0, REQUESTS)
+                        .mapToObj(i -> new Object[]{"plan request " + i, userIds.get(i % USERS),
+                                Timestamp.valueOf(START.minusHours(i))})
+                        .toList());
+        List<Long> requestIds = jdbcTemplate.queryForList("SELECT id FROM requests ORDER BY id", Long.class);
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO items (name, description, available, request_id, owner_id) VALUES (?, ?, TRUE, ?, ?)",
+                IntStream.range(0, ITEMS)
+                        .mapToObj(i -> new Object[]{"plan item " + i, "indexed",
+                                i % 4 == 0 ? requestIds.get(i % REQUESTS) : null, userIds.get(i % USERS)})
+                        .toList());
+        List<Long> itemIds = jdbcTemplate.queryForList("SELECT id FROM items ORDER BY id", Long.class);
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) VALUES (?, ?, ?, ?, ?)",
+                IntStream.range(0, BOOKINGS)
+                        .mapToObj(i -> new Object[]{Timestamp.valueOf(START.plusHours(i)),
+                                Timestamp.valueOf(START.plusHours(i + 2)), itemIds.get(i % ITEMS),
+                                userIds.get((i + 1) % USERS), BookingStatus.values()[i % 4].name()})
+                        .toList());
+
+        jdbcTemplate.batchUpdate("INSERT INTO comments (text, item_id, author_id, created) VALUES (?, ?, ?, ?)",
+                IntStream.range(0, COMMENTS)
+                        .mapToObj(i -> new Object[]{"comment " + i, itemIds.get(i % ITEMS),
+                                userIds.get((i + 2) % USERS), Timestamp.valueOf(START)})
+                        .toList());
+
+        userId = userIds.get(0);
+        itemId = itemIds.get(0);
+        requestId = requestIds.get(0);
+    }
+
+    @Test
+    void foreignKeys_ShouldLeadIndexesOfMigrations() {
+        List<String> foreignKeys = jdbcTemplate.queryForList("""
+                SELECT k.TABLE_NAME || '.' || k.COLUMN_NAME
+                    FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS c
+                    JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE k ON k.CONSTRAINT_NAME = c.CONSTRAINT_NAME
+                    WHERE c.CONSTRAINT_TYPE = 'FOREIGN KEY' AND c.TABLE_SCHEMA = 'PUBLIC'
+                """, String.class);
+        List<String> leadingColumns = jdbcTemplate.queryForList("""
+                SELECT TABLE_NAME || '.' || COLUMN_NAME
+                    FROM INFORMATION_SCHEMA.INDEX_COLUMNS
+                    WHERE ORDINAL_POSITION = 1 AND INDEX_NAME LIKE '%_IDX' AND TABLE_SCHEMA = 'PUBLIC'
+                """, String.class);
+
+        assertEquals(7, foreignKeys.size());
+        foreignKeys.forEach(column -> assertTrue(leadingColumns.contains(column), "No index on " + column));
+    }
+
+    @Test
+    void bookingQueries_ShouldUseIndexes() {
+        PageCursor desc = PageCursor.firstDescending();
+        PageCursor asc = PageCursor.firstAscending();
+        LocalDateTime now = START.plusDays(30);
+
+        assertIndexed(() -> bookingRepository.findCurrentBookings(userId, now, desc.getTime(), desc.getId(),
+                Limit.of(20)));
+        assertIndexed(() -> bookingRepository.findFutureBookings(userId, now, desc.getTime(), desc.getId(),
+                Limit.of(20)));
+        assertIndexed(() -> bookingRepository.findPastBookings(userId, now, desc.getTime(), desc.getId(),
+                Limit.of(20)));
+        assertIndexed(() -> bookingRepository.findBookingsByStatus(userId, BookingStatus.WAITING, desc.getTime(),
+                desc.getId(), Limit.of(20)));
+        assertIndexed(() -> bookingRepository.findBookerBookings(userId, desc.getTime(), desc.getId(),
+                Limit.of(20)));
+        assertIndexed(() -> bookingRepository.findOwnerCurrentBookings(userId, now, asc.getTime(), asc.getId(),
+                Limit.of(20)));
+        assertIndexed(() -> bookingRepository.findOwnerFutureBookings(userId, now, asc.getTime(), asc.getId(),
+                Limit.of(20)));
+        assertIndexed(() -> bookingRepository.findOwnerPastBookings(userId, now, asc.getTime(), asc.getId(),
+                Limit.of(20)));
+        assertIndexed(() -> bookingRepository.findOwnerBookingsByStatus(userId, BookingStatus.WAITING,
+                asc.getTime(), asc.getId(), Limit.of(20)));
+        assertIndexed(() -> bookingRepository.findOwnerBookings(userId, asc.getTime(), asc.getId(), Limit.of(20)));
+        assertIndexed(() -> bookingRepository.findDetailsById(1L));
+        assertIndexed(() -> bookingRepository.findByIdIn(List.of(1L, 2L, 3L)));
+        assertIndexed(() -> bookingRepository.findByItemIdAndBookerId(itemId, userId));
+        assertIndexed(() -> bookingRepository.findBookingDates(List.of(itemId, itemId + 1), now));
+        assertIndexed(() -> bookingRepository.findIntervals(itemId,
+                List.of(BookingStatus.WAITING, BookingStatus.APPROVED), now));
+    }
+
+    @Test
+    void itemQueries_ShouldUseIndexes() {
+        assertIndexed(() -> itemRepository.findByOwnerIdAfter(userId, 0, Limit.of(20)));
+        assertIndexed(() -> itemRepository.findIdsByOwnerId(userId));
+        assertIndexed(() -> itemRepository.findIdsByRequesterId(userId));
+        assertIndexed(() -> itemRepository.findSearchViewsAfter(0, Limit.of(20)));
+        assertIndexed(() -> itemRepository.findAvailability(itemId));
+        assertIndexed(() -> itemRepository.findByRequestIdIn(List.of(requestId, requestId + 1)));
+    }
+
+    @Test
+    void commentQueries_ShouldUseIndexes() {
+        assertIndexed(() -> commentRepository.findByItemId(itemId));
+        assertIndexed(() -> commentRepository.findByItemIdIn(List.of(itemId, itemId + 1)));
+    }
+
+    @Test
+    void requestQueries_ShouldUseIndexes() {
+        PageCursor desc = PageCursor.firstDescending();
+
+        assertIndexed(() -> itemRequestRepository.findByRequesterIdBefore(userId, desc.getTime(), desc.getId(),
+                Limit.of(20)));
+        assertIndexed(() -> itemRequestRepository.findOthersBefore(userId, desc.getTime(), desc.getId(),
+                Limit.of(20)));
+    }
+
+    private void assertIndexed(Supplier<?> query) {
+        SqlRecorder.record(query).assertIndexed(jdbcTemplate);
+    }
+}
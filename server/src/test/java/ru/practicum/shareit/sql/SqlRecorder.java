@@ -0,0 +1,52 @@
+package ru.practicum.shareit.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Records the SQL Hibernate sends while a call runs on the current thread, so tests can hold a service call
+ * to a number of statements whatever the amount of data behind it. Installed in a test context by
+ * {@link #PROPERTY}:
+ * <pre>
+ * &#64;DataJpaTest(properties = SqlRecorder.PROPERTY)
+ * ...
+ * SqlRecorder.record(() -&gt; itemService.getAllItemsByUser(ownerId, null, 20)).assertStatementsAtMost(5);
+ * </pre>
+ * Writes reach the database when the persistence context is flushed, so a recorded write should flush
+ * before it returns.
+ */
+public class SqlRecorder implements StatementInspector {
+    public static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "ru.practicum.shareit.sql.SqlRecorder";
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    public static <T> SqlRecording<T> record(Supplier<T> call) {
+        List<String> outer = STATEMENTS.get();
+        List<String> statements = new ArrayList<>();
+        STATEMENTS.set(statements);
+        try {
+            T result = call.get();
+            return new SqlRecording<>(result, List.copyOf(statements));
+        } finally {
+            if (outer == null) {
+                STATEMENTS.remove();
+            } else {
+                outer.addAll(statements);
+                STATEMENTS.set(outer);
+            }
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.sql;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The statements of one {@link SqlRecorder#record recorded} call, in the order they were sent, and its result.
+ * Failed assertions list every statement, which is usually enough to spot the one repeated per row.
+ */
+public record SqlRecording<T>(T result, List<String> statements) {
+    private static final String TABLE_SCAN = ".tableScan";
+
+    public SqlRecording<T> assertStatements(int expected) {
+        assertTrue(statements.size() == expected,
+                () -> "Expected " + expected + " statements but was " + describe());
+        return this;
+    }
+
+    public SqlRecording<T> assertStatementsAtMost(int max) {
+        assertTrue(statements.size() <= max,
+                () -> "Expected at most " + max + " statements but was " + describe());
+        return this;
+    }
+
+    /**
+     * Checks that no statement reads a table by scanning it. H2 plans with the parameters unbound,
+     * so the plan is the one every call of the statement gets.
+     */
+    public SqlRecording<T> assertIndexed(JdbcTemplate jdbcTemplate) {
+        assertFalse(statements.isEmpty(), "No statement was sent");
+        for (String plan : explain(jdbcTemplate)) {
+            assertFalse(plan.contains(TABLE_SCAN), () -> "Table scan in the plan of\n" + plan);
+        }
+        return this;
+    }
+
+    /**
+     * H2 {@code EXPLAIN} output of every statement, in order.
+     */
+    public List<String> explain(JdbcTemplate jdbcTemplate) {
+        return statements.stream()
+                .map(sql -> explain(jdbcTemplate, sql))
+                .toList();
+    }
+
+    private static String explain(JdbcTemplate jdbcTemplate, String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                    statement.setNull(i, Types.NULL);
+                }
+                try (ResultSet plan = statement.executeQuery()) {
+                    plan.next();
+                    return plan.getString(1);
+                }
+            }
+        });
+    }
+
+    private String describe() {
+        return statements.size() + ":\n" + String.join("\n\n", statements);
+    }
+}
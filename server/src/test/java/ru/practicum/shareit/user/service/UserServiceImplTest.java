@@ -7,8 +7,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import ru.practicum.shareit.booking.index.BookingIntervalIndex;
 import ru.practicum.shareit.exception.InvalidDataException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.cache.ItemDetailCache;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
@@ -34,6 +38,18 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private ItemDetailCache itemDetailCache;
+
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+
+    @Mock
+    private BookingIntervalIndex bookingIntervalIndex;
+
 
     @BeforeEach
     void setUp() {
@@ -122,6 +138,7 @@ class UserServiceImplTest {
 
         Mockito.verify(userRepository).findById(userDto.getId());
         Mockito.verify(userRepository).save(existingUser);
+        Mockito.verify(itemDetailCache).invalidateUser(userDto.getId());
     }
 
     @Test
@@ -266,9 +283,16 @@ class UserServiceImplTest {
     @Test
     public void testDelete_ShouldCallRepositoryDeleteById() {
         long userId = 1L;
+        Mockito.when(itemRepository.findIdsByOwnerId(userId)).thenReturn(List.of(3L, 5L));
+        Mockito.when(itemRepository.findIdsByRequesterId(userId)).thenReturn(List.of(8L));
 
         userService.delete(userId);
 
         Mockito.verify(userRepository, Mockito.times(1)).deleteById(userId);
+        Mockito.verify(itemSearchIndex).remove(3L);
+        Mockito.verify(itemSearchIndex).remove(5L);
+        Mockito.verify(itemSearchIndex).remove(8L);
+        Mockito.verify(itemDetailCache).invalidateAll();
+        Mockito.verify(bookingIntervalIndex).clear();
     }
 }
\ No newline at end of file
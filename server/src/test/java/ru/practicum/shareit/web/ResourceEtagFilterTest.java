@@ -0,0 +1,95 @@
+package ru.practicum.shareit.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import ru.practicum.shareit.user.controller.UserController;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceEtagFilterTest {
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private UserController userController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(userController)
+                .addFilters(new ResourceEtagFilter())
+                .build();
+    }
+
+    @Test
+    void getUser_ShouldHaveStrongEtag() throws Exception {
+        Mockito.when(userService.getById(1L)).thenReturn(user("Name"));
+
+        String eTag = mockMvc.perform(get("/users/1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertTrue(eTag.startsWith("\""));
+    }
+
+    @Test
+    void getUser_MatchingIfNoneMatch_ShouldBeNotModifiedWithoutBody() throws Exception {
+        Mockito.when(userService.getById(1L)).thenReturn(user("Name"));
+        String eTag = mockMvc.perform(get("/users/1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/users/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getUser_ChangedBody_ShouldHaveNewEtag() throws Exception {
+        Mockito.when(userService.getById(1L)).thenReturn(user("Name"), user("Updated Name"));
+        String eTag = mockMvc.perform(get("/users/1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String updated = mockMvc.perform(get("/users/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(eTag, updated);
+    }
+
+    @Test
+    void getAllUsers_ShouldNotBeTagged() throws Exception {
+        Mockito.when(userService.getAll()).thenReturn(List.of(user("Name")));
+
+        String eTag = mockMvc.perform(get("/users"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNull(eTag);
+    }
+
+    private static UserDto user(String name) {
+        return UserDto.builder().id(1L).name(name).email("user@example.com").build();
+    }
+}